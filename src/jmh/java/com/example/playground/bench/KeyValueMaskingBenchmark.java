@@ -0,0 +1,48 @@
+package com.example.playground.bench;
+
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.service.Impl.DataMaskingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DataMaskingServiceImpl(key=value 문자열 마스킹) 벤치마크
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class KeyValueMaskingBenchmark {
+
+    @Param({"2", "8"})
+    int width;
+
+    @Param({"2", "6"})
+    int depth;
+
+    @Param({"10", "100"})
+    int listSize;
+
+    private DataMaskingServiceImpl dataMaskingService;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        dataMaskingService = new DataMaskingServiceImpl(new MaskingProperties(),
+            new MaskingMetrics(new SimpleMeterRegistry()));
+        payload = MaskingPayloads.keyValuePayload(width, depth, listSize);
+    }
+
+    @Benchmark
+    public String maskSensitiveData() {
+        return dataMaskingService.maskSensitiveData(payload);
+    }
+}
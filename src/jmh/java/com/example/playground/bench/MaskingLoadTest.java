@@ -0,0 +1,245 @@
+package com.example.playground.bench;
+
+import com.example.playground.PlayGroundApplication;
+import com.example.playground.config.VirtualThreads;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 앱을 같은 JVM 안에서 임의 포트로 띄우고 /api/maskingTest, /api/data/mask, /api/data를 동시 클라이언트로 호출하는
+ * 종단 간 부하 테스트 (Spring MVC, Jackson, 컨트롤러 포함 - 엔진 단위 수치는 JMH 벤치마크 참고)
+ *
+ * 사용법: gradle loadTest -PloadTest.clients=16 -PloadTest.duration=30 -PloadTest.warmup=10 -PloadTest.listSize=100
+ *
+ * 클라이언트는 가상 스레드로 실행하고(실행 JVM이 21 미만이면 플랫폼 스레드), 각자 응답을 받는 즉시 다음 요청을 보내는
+ * closed-loop 방식이므로 지연 시간은 "클라이언트 수만큼 동시 요청이 있을 때의 응답 시간"입니다.
+ * 워밍업 구간의 요청은 집계하지 않으며, 측정 구간의 지연 시간(HdrHistogram)과 GC 일시 정지를 요약 출력합니다.
+ * 외부 네트워크 없이 localhost만 사용합니다.
+ */
+public final class MaskingLoadTest {
+
+    private static final String MASKED_RLNO = "900702*******";
+    private static final String MASKED_VALUE = "<Masked>";
+
+    private static volatile boolean running = true;
+    private static volatile boolean measuring;
+
+    private MaskingLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.parseInt(args[0]);
+        int durationSeconds = Integer.parseInt(args[1]);
+        int warmupSeconds = Integer.parseInt(args[2]);
+        int listSize = Integer.parseInt(args[3]);
+        File reportDir = new File(args[4]);
+
+        // 1. 앱 기동 (임의 포트, 로그는 WARN 이상만)
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PlayGroundApplication.class)
+            .run("--server.port=0", "--logging.level.root=WARN");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        // 2. 호출 대상 (http/maksing-api.http, test-api.http의 요청을 키운 payload)
+        ObjectMapper objectMapper = new ObjectMapper();
+        String base = "http://localhost:" + port;
+        List<Endpoint> endpoints = List.of(
+            new Endpoint("POST /api/maskingTest", HttpRequest.newBuilder(URI.create(base + "/api/maskingTest"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                    objectMapper.writeValueAsBytes(MaskingPayloads.mimeinPayload(listSize))))
+                .build(), MASKED_RLNO),
+            new Endpoint("POST /api/data/mask", HttpRequest.newBuilder(URI.create(base + "/api/data/mask"))
+                .header("Content-Type", "text/plain;charset=UTF-8")
+                .POST(HttpRequest.BodyPublishers.ofString(MaskingPayloads.keyValuePayload(2, 2, listSize)))
+                .build(), MASKED_VALUE),
+            // 캐시된 외부 조회 결과 (ExternalApiService의 고정 응답은 key=value 쌍이 아니라 마스킹 대상이 없음)
+            new Endpoint("GET /api/data", HttpRequest.newBuilder(URI.create(base + "/api/data")).GET().build(),
+                null));
+
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        GcPauses gcPauses = GcPauses.listen();
+
+        // 3. 클라이언트 실행 (클라이언트마다 시작 위치를 달리해 세 엔드포인트를 번갈아 호출)
+        ExecutorService executor = VirtualThreads.newPerTaskExecutor("load-client");
+        for (int c = 0; c < clients; c++) {
+            int offset = c;
+            executor.submit(() -> runClient(http, endpoints, offset));
+        }
+
+        // 4. 워밍업 후 측정 구간만 집계
+        Thread.sleep(TimeUnit.SECONDS.toMillis(warmupSeconds));
+        for (Endpoint endpoint : endpoints) {
+            endpoint.reset();
+        }
+        measuring = true;
+        long start = System.nanoTime();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+        measuring = false;
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        List<Histogram> histograms = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            histograms.add(endpoint.latency.getIntervalHistogram());
+        }
+
+        running = false;
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        context.close();
+
+        // 5. 요약 출력 + 엔드포인트별 HdrHistogram 분포 파일
+        StringWriter summary = new StringWriter();
+        PrintWriter out = new PrintWriter(summary);
+        out.println();
+        out.printf("=== Masking load test: %d clients (%s), %ds after %ds warm-up, listSize=%d ===%n", clients,
+            VirtualThreads.isAvailable() ? "virtual threads" : "platform threads, Java " + Runtime.version().feature(),
+            durationSeconds, warmupSeconds, listSize);
+        out.printf("%-24s %9s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        reportDir.mkdirs();
+        for (int i = 0; i < endpoints.size(); i++) {
+            Endpoint endpoint = endpoints.get(i);
+            Histogram histogram = histograms.get(i);
+            total.add(histogram);
+            totalErrors += endpoint.errors.sum();
+            printRow(out, endpoint.name, histogram, endpoint.errors.sum(), elapsedSeconds);
+            writeDistribution(new File(reportDir, "loadtest-" + i + ".hgrm"), endpoint.name, histogram);
+        }
+        printRow(out, "total", total, totalErrors, elapsedSeconds);
+        gcPauses.print(out, elapsedSeconds);
+        out.flush();
+        System.out.print(summary);
+        Files.writeString(new File(reportDir, "loadtest-summary.txt").toPath(), summary.toString());
+    }
+
+    private static void runClient(HttpClient http, List<Endpoint> endpoints, int offset) {
+        int next = offset;
+        while (running) {
+            Endpoint endpoint = endpoints.get(next++ % endpoints.size());
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<String> response = http.send(endpoint.request, HttpResponse.BodyHandlers.ofString());
+                ok = response.statusCode() == 200
+                    && (endpoint.expected == null || response.body().contains(endpoint.expected));
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (ok) {
+                endpoint.latency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            } else {
+                endpoint.errors.increment();
+            }
+        }
+    }
+
+    private static void printRow(PrintWriter out, String name, Histogram histogram, long errors, double seconds) {
+        out.printf("%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(), errors,
+            histogram.getTotalCount() / seconds,
+            histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0,
+            histogram.getValueAtPercentile(99.9) / 1000.0,
+            histogram.getMaxValue() / 1000.0);
+    }
+
+    private static void writeDistribution(File file, String name, Histogram histogram) throws IOException {
+        try (PrintStream stream = new PrintStream(file, "UTF-8")) {
+            stream.println("# " + name + " latency (ms)");
+            histogram.outputPercentileDistribution(stream, 1000.0);
+        }
+    }
+
+    private static final class Endpoint {
+        final String name;
+        final HttpRequest request;
+        // 응답 본문에 이 문자열이 있어야 성공 (마스킹이 실제로 적용되었는지 확인, null이면 상태 코드만 확인)
+        final String expected;
+        // 성공한 요청의 지연 시간 (µs, 여러 클라이언트가 동시에 기록)
+        final Recorder latency = new Recorder(3);
+        final LongAdder errors = new LongAdder();
+
+        Endpoint(String name, HttpRequest request, String expected) {
+            this.name = name;
+            this.request = request;
+            this.expected = expected;
+        }
+
+        void reset() {
+            latency.getIntervalHistogram(); // 워밍업 구간 기록 버림
+            errors.reset();
+        }
+    }
+
+    /**
+     * 측정 구간의 stop-the-world GC 일시 정지 (GC 알림 기준, 같은 JVM이므로 서버와 클라이언트 몫이 함께 집계됨)
+     */
+    private static final class GcPauses {
+        // 일시 정지 시간 (ms)
+        final Recorder pauses = new Recorder(3);
+        final Map<String, LongAdder> byCollector = new ConcurrentHashMap<>();
+
+        static GcPauses listen() {
+            GcPauses gcPauses = new GcPauses();
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) gc).addNotificationListener((notification, handback) -> {
+                    if (!measuring || !GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+                        .equals(notification.getType())) {
+                        return;
+                    }
+                    GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                    // ZGC/Shenandoah의 동시 수행 사이클은 일시 정지가 아님
+                    if (info.getGcName().contains("Cycles") || info.getGcName().contains("Concurrent")) {
+                        return;
+                    }
+                    gcPauses.pauses.recordValue(info.getGcInfo().getDuration());
+                    gcPauses.byCollector.computeIfAbsent(info.getGcName(), name -> new LongAdder()).increment();
+                }, null, null);
+            }
+            return gcPauses;
+        }
+
+        void print(PrintWriter out, double seconds) {
+            Histogram histogram = pauses.getIntervalHistogram();
+            long totalMillis = 0;
+            for (HistogramIterationValue value : histogram.recordedValues()) {
+                totalMillis += value.getValueIteratedTo() * value.getCountAtValueIteratedTo();
+            }
+            out.printf("GC pauses: %d (%s), total %d ms (%.2f%% of run), p50 %d ms, p99 %d ms, max %d ms%n",
+                histogram.getTotalCount(), byCollector, totalMillis, totalMillis / (seconds * 10.0),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99), histogram.getMaxValue());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.playground.bench;
+
+import com.example.playground.config.MaskingProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크용 payload / 룰 생성기 (MaksingServiceTest의 fixture 구조를 크기만 키운 형태)
+ *
+ * MCI payload 구조 (width=2, depth=2, listSize=2):
+ * {
+ *   "pfmidata": {"rlno": "...", "svc_id": "..."},
+ *   "MST0": {"LVL1": {"LVL2": {"SUB": [{"rlno", "custNm", "acno", "addr", "memo"}, ...]}}},
+ *   "MST1": {...}
+ * }
+ */
+public final class MaskingPayloads {
+
+    public static final String MCI_ID = "NCDP_BENCH0001";
+
+    private static final String[] FIELDS = {"rlno", "custNm", "acno", "addr", "memo"};
+    private static final String[] MASKING_TYPES = {"type_rlno", "type_name", "type_account", "type_address", "type_email"};
+
+    private MaskingPayloads() {
+    }
+
+    /**
+     * @param width 최상위 MST 블록 개수
+     * @param depth MST 아래 중첩 Map 깊이
+     * @param listSize 가장 안쪽 SUB 리스트의 레코드 수
+     */
+    public static Map<String, Object> mciPayload(int width, int depth, int listSize) {
+        Map<String, Object> root = new LinkedHashMap<>();
+
+        Map<String, Object> pfmidata = new LinkedHashMap<>();
+        pfmidata.put("rlno", "9007021234567");
+        pfmidata.put("svc_id", "MIMEIN10A0");
+        root.put("pfmidata", pfmidata);
+
+        for (int w = 0; w < width; w++) {
+            Map<String, Object> current = new LinkedHashMap<>();
+            root.put("MST" + w, current);
+            for (int d = 1; d <= depth; d++) {
+                Map<String, Object> next = new LinkedHashMap<>();
+                current.put("LVL" + d, next);
+                current.put("filler" + d, "value" + d);
+                current = next;
+            }
+            List<Map<String, Object>> sub = new ArrayList<>(listSize);
+            for (int i = 0; i < listSize; i++) {
+                Map<String, Object> record = new HashMap<>();
+                record.put("rlno", 9007021234567L + i);
+                record.put("custNm", "홍길동");
+                record.put("acno", "110" + (1234567 + i));
+                record.put("addr", "서울시 강남구 테헤란로 " + i + "길");
+                record.put("memo", "note-" + i);
+                sub.add(record);
+            }
+            current.put("SUB", sub);
+        }
+        return root;
+    }
+
+    /**
+     * http/maksing-api.http의 NCDP_MIMEIN10A0 요청을 키운 payload (mciMasking.yml의 실제 룰 대상)
+     * {"pfmidata": {...}, "MIMEIN_IN_MST": {"MIMEIN_IN": [{"rlno", "custNm", ...}, ...], "inq_cnt": n}}
+     * @param listSize MIMEIN_IN 레코드 수
+     */
+    public static Map<String, Object> mimeinPayload(int listSize) {
+        Map<String, Object> pfmidata = new LinkedHashMap<>();
+        pfmidata.put("rlno", "9007021234567");
+        pfmidata.put("svc_id", "MIMEIN10A0");
+        pfmidata.put("std_glbl_id", "238489238402");
+
+        List<Map<String, Object>> records = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("rlno", String.valueOf(9007021234567L + i));
+            record.put("custNm", "홍길동");
+            record.put("age", 30 + i % 40);
+            record.put("addr", "서울시 강남구 테헤란로 " + i + "길");
+            record.put("memo", "note-" + i);
+            records.add(record);
+        }
+        Map<String, Object> mst = new LinkedHashMap<>();
+        mst.put("MIMEIN_IN", records);
+        mst.put("inq_cnt", listSize);
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("pfmidata", pfmidata);
+        root.put("MIMEIN_IN_MST", mst);
+        return root;
+    }
+
+    /**
+     * mciPayload와 같은 구조에 대한 룰 목록 (width × 필드 조합을 순서대로 사용하고, 넘치면 존재하지 않는 경로)
+     */
+    public static Map<String, List<MaskingProperties.PathRule>> mciRules(int width, int depth, int ruleCount) {
+        StringBuilder prefix = new StringBuilder();
+        for (int d = 1; d <= depth; d++) {
+            prefix.append(".LVL").append(d);
+        }
+
+        List<MaskingProperties.PathRule> common = new ArrayList<>();
+        common.add(rule("pfmidata.rlno", "type_rlno"));
+
+        List<MaskingProperties.PathRule> specific = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            int w = i % width;
+            int f = (i / width) % FIELDS.length;
+            String mst = i < width * FIELDS.length ? "MST" + w : "MISSING" + i;
+            specific.add(rule(mst + prefix + ".SUB." + FIELDS[f], MASKING_TYPES[f]));
+        }
+
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("common", common);
+        mappings.put(MCI_ID, specific);
+        return mappings;
+    }
+
+    public static MaskingProperties mciProperties(int width, int depth, int ruleCount) {
+        MaskingProperties properties = new MaskingProperties();
+        properties.setMappings(mciRules(width, depth, ruleCount));
+        return properties;
+    }
+
+    /**
+     * DataMaskingServiceImpl용 key=value 문자열 (mciPayload와 같은 모양)
+     */
+    public static String keyValuePayload(int width, int depth, int listSize) {
+        StringBuilder sb = new StringBuilder("{pfmidata={std_glbl_id=238489238402, svc_id=MIMEIN15A0, sync_dsc=R}");
+        for (int w = 0; w < width; w++) {
+            sb.append(", MST").append(w).append('=');
+            for (int d = 1; d <= depth; d++) {
+                sb.append("{filler").append(d).append("=value").append(d).append(", LVL").append(d).append('=');
+            }
+            sb.append('[');
+            for (int i = 0; i < listSize; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append("{cd_no=1234123").append(i)
+                    .append(", abc=secret").append(i)
+                    .append(", mbepay_dsc=1, name=홍길동}");
+            }
+            sb.append(']');
+            for (int d = 1; d <= depth; d++) {
+                sb.append('}');
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    private static MaskingProperties.PathRule rule(String jsonPath, String maskingType) {
+        MaskingProperties.PathRule rule = new MaskingProperties.PathRule();
+        rule.setJsonPath(jsonPath);
+        rule.setMaskingType(maskingType);
+        return rule;
+    }
+}
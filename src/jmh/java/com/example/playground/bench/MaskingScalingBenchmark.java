@@ -0,0 +1,67 @@
+package com.example.playground.bench;
+
+import com.example.playground.config.MaskingManager;
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.MaskingService;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.example.playground.service.Impl.DataMaskingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * 멀티 스레드 확장성 측정용 벤치마크 (스레드 수는 MaskingScalingRunner가 지정)
+ *
+ * 서비스(컴파일된 계획, 엔진)는 모든 스레드가 공유하고 payload만 스레드별로 둡니다.
+ * 운영 환경처럼 하나의 빈을 여러 요청 스레드가 동시에 호출하는 상황입니다.
+ */
+public class MaskingScalingBenchmark {
+
+    private static final int WIDTH = 4;
+    private static final int DEPTH = 3;
+    private static final int LIST_SIZE = 20;
+    private static final int RULE_COUNT = 20;
+
+    @State(Scope.Benchmark)
+    public static class SharedServices {
+        MaskingService maskingService;
+        DataMaskingServiceImpl dataMaskingService;
+
+        @Setup
+        public void setUp() {
+            MaskingProperties properties = MaskingPayloads.mciProperties(WIDTH, DEPTH, RULE_COUNT);
+            MaskingManager maskingManager = new MaskingManager(properties, MaskerRegistry.defaults());
+            MaskingMetrics maskingMetrics = new MaskingMetrics(new SimpleMeterRegistry());
+            maskingService = new MaskingService(maskingManager, maskingMetrics);
+            dataMaskingService = new DataMaskingServiceImpl(properties, maskingMetrics);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadPayload {
+        Map<String, Object> mciPayload;
+        String keyValuePayload;
+
+        @Setup
+        public void setUp() {
+            mciPayload = MaskingPayloads.mciPayload(WIDTH, DEPTH, LIST_SIZE);
+            keyValuePayload = MaskingPayloads.keyValuePayload(WIDTH, DEPTH, LIST_SIZE);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> applyMasking(SharedServices services, ThreadPayload payload) {
+        services.maskingService.applyMasking(MaskingPayloads.MCI_ID, payload.mciPayload);
+        return payload.mciPayload;
+    }
+
+    @Benchmark
+    public String maskSensitiveData(SharedServices services, ThreadPayload payload) {
+        return services.dataMaskingService.maskSensitiveData(payload.keyValuePayload);
+    }
+}
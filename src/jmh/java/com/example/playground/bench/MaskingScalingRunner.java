@@ -0,0 +1,69 @@
+package com.example.playground.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MaskingScalingBenchmark를 스레드 수별로 실행하고 스레드 수 대비 처리량 배율을 요약 출력합니다.
+ *
+ * 사용법: gradle jmhScaling -Pjmh.threads=1,2,4,8
+ */
+public final class MaskingScalingRunner {
+
+    private MaskingScalingRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int[] threadCounts = Arrays.stream((args.length > 0 ? args[0] : "1,2,4,8").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+
+        // 벤치마크 메서드명 -> (스레드 수 -> ops/ms)
+        Map<String, Map<Integer, Double>> summary = new LinkedHashMap<>();
+
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                .include(MaskingScalingBenchmark.class.getName() + "\\.")
+                .threads(threads)
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+            for (RunResult result : new Runner(options).run()) {
+                String label = result.getParams().getBenchmark();
+                label = label.substring(label.lastIndexOf('.') + 1);
+                summary.computeIfAbsent(label, k -> new LinkedHashMap<>())
+                    .put(threads, result.getPrimaryResult().getScore());
+            }
+        }
+
+        System.out.println();
+        System.out.println("=== Masking scaling summary (ops/ms, speedup vs " + threadCounts[0] + " thread) ===");
+        for (Map.Entry<String, Map<Integer, Double>> entry : summary.entrySet()) {
+            List<String> cells = new ArrayList<>();
+            Double base = entry.getValue().get(threadCounts[0]);
+            for (Map.Entry<Integer, Double> cell : entry.getValue().entrySet()) {
+                cells.add(String.format("%dT=%.1f (x%.2f)", cell.getKey(), cell.getValue(), cell.getValue() / base));
+            }
+            System.out.printf("%-20s %s%n", entry.getKey(), String.join(", ", cells));
+        }
+    }
+}
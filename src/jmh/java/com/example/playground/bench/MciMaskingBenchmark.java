@@ -0,0 +1,87 @@
+package com.example.playground.bench;
+
+import com.example.playground.config.MaskingManager;
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingPlan;
+import com.example.playground.config.MaskingService;
+import com.example.playground.config.StreamingMaskingEngine;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * MCI 마스킹 경로(Map 방식 / 스트리밍 방식 / 계획 조회) 벤치마크
+ *
+ * applyMasking은 payload를 제자리에서 수정하지만, 두 번째 호출부터도 같은 경로를 탐색하고 같은 필드를
+ * 교체하므로 측정 대상 작업량은 동일합니다. (매 호출마다 payload를 복제하면 복제 비용이 결과를 지배함)
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MciMaskingBenchmark {
+
+    @Param({"2", "8"})
+    int width;
+
+    @Param({"2", "6"})
+    int depth;
+
+    @Param({"10", "100"})
+    int listSize;
+
+    @Param({"5", "40"})
+    int ruleCount;
+
+    private MaskingManager maskingManager;
+    private MaskingService maskingService;
+    private StreamingMaskingEngine streamingMaskingEngine;
+
+    private Map<String, Object> payload;
+    private byte[] payloadJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        maskingManager = new MaskingManager(MaskingPayloads.mciProperties(width, depth, ruleCount),
+            MaskerRegistry.defaults());
+        MaskingMetrics maskingMetrics = new MaskingMetrics(new SimpleMeterRegistry());
+        maskingService = new MaskingService(maskingManager, maskingMetrics);
+        streamingMaskingEngine = new StreamingMaskingEngine(maskingManager, objectMapper, maskingMetrics);
+
+        payload = MaskingPayloads.mciPayload(width, depth, listSize);
+        payloadJson = objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public Map<String, Object> applyMasking() {
+        maskingService.applyMasking(MaskingPayloads.MCI_ID, payload);
+        return payload;
+    }
+
+    @Benchmark
+    public void streamingMask(Blackhole bh) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payloadJson.length);
+        streamingMaskingEngine.mask(MaskingPayloads.MCI_ID, new ByteArrayInputStream(payloadJson), out);
+        bh.consume(out.size());
+    }
+
+    @Benchmark
+    public MaskingPlan getMaskingPlan() {
+        return maskingManager.getMaskingPlan(MaskingPayloads.MCI_ID);
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.playground.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlayGroundApplication을 별도 JVM으로 띄워 "프로세스 시작 → /api/maskingTest 첫 마스킹 응답"까지의 시간을 잽니다.
+ * (readiness가 UP이 되는 시점 = 워밍업 종료도 함께 기록)
+ *
+ * 사용법:
+ *   gradle cdsArchive          # bootJar 추출 + 학습 실행으로 AppCDS 아카이브 생성 (train 모드)
+ *   gradle startupBenchmark    # 실행 방식별 기동 시간 비교 (compare 모드, -Pstartup.runs=3)
+ *
+ * train   <추출한 jar> <아카이브 경로> <로그 디렉터리>
+ *   AOT를 켠 채로 -XX:ArchiveClassesAtExit로 띄우고, 첫 마스킹 응답과 워밍업이 끝나면 SIGTERM으로 종료해
+ *   요청 처리 경로의 클래스까지 아카이브에 담습니다.
+ * compare <bootJar> <추출한 jar> <아카이브 경로> <반복 횟수> <로그 디렉터리>
+ *   fat jar / 추출한 jar / + AOT / + AOT + AppCDS 순서로 각각 반복 실행한 뒤 요약을 출력합니다.
+ */
+public final class StartupBenchmark {
+
+    private static final String REQUEST_BODY = "{\"MIMEIN_IN_MST\":{\"MIMEIN_IN\":{\"rlno\":\"9007021234567\",\"custNm\":\"홍길동\"}}}";
+    private static final String MASKED_RLNO = "900702*******";
+
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(120);
+    private static final long POLL_MILLIS = 10;
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofMillis(200))
+        .build();
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if ("train".equals(args[0])) {
+            File jar = new File(args[1]);
+            File archive = new File(args[2]);
+            File logDir = new File(args[3]);
+            Files.deleteIfExists(archive.toPath());
+            Measurement m = launch(List.of("-XX:ArchiveClassesAtExit=" + archive.getAbsolutePath(), "-Xlog:cds=off",
+                "-Dspring.aot.enabled=true", "-jar", jar.getAbsolutePath()), new File(logDir, "cds-training.log"));
+            if (!archive.isFile()) {
+                throw new IllegalStateException("AppCDS archive was not created: " + archive);
+            }
+            System.out.printf("AppCDS archive %s (%d MB) trained in %d ms%n",
+                archive, archive.length() / (1024 * 1024), m.readyMillis);
+            return;
+        }
+
+        String bootJar = new File(args[1]).getAbsolutePath();
+        String jar = new File(args[2]).getAbsolutePath();
+        String archive = new File(args[3]).getAbsolutePath();
+        int runs = Integer.parseInt(args[4]);
+        File logDir = new File(args[5]);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("fat jar (baseline)", List.of("-jar", bootJar));
+        variants.put("extracted jar", List.of("-jar", jar));
+        variants.put("extracted + AOT", List.of("-Dspring.aot.enabled=true", "-jar", jar));
+        variants.put("extracted + AOT + AppCDS", List.of("-XX:SharedArchiveFile=" + archive, "-Xshare:on",
+            "-Dspring.aot.enabled=true", "-jar", jar));
+
+        // 실행 방식 -> 반복별 측정값
+        Map<String, List<Measurement>> results = new LinkedHashMap<>();
+        for (int run = 1; run <= runs; run++) {
+            // 실행 방식을 번갈아 돌려 디스크 캐시 등 순서의 영향을 줄임
+            int index = 0;
+            for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+                File log = new File(logDir, "startup-" + index++ + "-run" + run + ".log");
+                Measurement m = launch(variant.getValue(), log);
+                results.computeIfAbsent(variant.getKey(), k -> new ArrayList<>()).add(m);
+                System.out.printf("[run %d] %-26s first masked response %5d ms, ready %5d ms%n",
+                    run, variant.getKey(), m.firstMaskedMillis, m.readyMillis);
+            }
+        }
+
+        StringWriter summary = new StringWriter();
+        PrintWriter out = new PrintWriter(summary);
+        out.println();
+        out.printf("=== Startup summary (median of %d runs, ms from process start) ===%n", runs);
+        out.printf("%-26s %22s %12s%n", "variant", "first masked response", "ready");
+        long baseline = -1;
+        for (Map.Entry<String, List<Measurement>> entry : results.entrySet()) {
+            long first = median(entry.getValue(), true);
+            long ready = median(entry.getValue(), false);
+            if (baseline < 0) {
+                baseline = first;
+            }
+            out.printf("%-26s %14d (x%.2f) %12d%n", entry.getKey(), first, (double) baseline / first, ready);
+        }
+        out.flush();
+        System.out.print(summary);
+        Files.writeString(new File(logDir, "startup-summary.txt").toPath(), summary.toString());
+    }
+
+    /**
+     * 앱을 띄워 첫 마스킹 응답과 readiness UP을 기다린 뒤 SIGTERM으로 종료합니다.
+     */
+    private static Measurement launch(List<String> jvmArgs, File log) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.add("--server.port=" + port);
+
+        log.getParentFile().mkdirs();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(log)
+            .start();
+        try {
+            long firstMasked = waitFor(process, start, () -> maskedResponse(port));
+            long ready = waitFor(process, start, () -> ready(port));
+            return new Measurement(firstMasked, ready);
+        } finally {
+            process.destroy(); // SIGTERM (AppCDS 학습 실행은 종료 시 아카이브를 씀)
+            if (!process.waitFor(60, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static long waitFor(Process process, long start, Probe probe) throws InterruptedException {
+        while (System.nanoTime() - start < TIMEOUT_NANOS) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + " before responding");
+            }
+            if (probe.succeeded()) {
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+        throw new IllegalStateException("Application did not respond within 120s");
+    }
+
+    private static boolean maskedResponse(int port) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/maskingTest"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(REQUEST_BODY))
+            .build();
+        return send(request, MASKED_RLNO);
+    }
+
+    private static boolean ready(int port) throws InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness")).build(),
+            "\"UP\"");
+    }
+
+    private static boolean send(HttpRequest request, String expected) throws InterruptedException {
+        try {
+            HttpResponse<String> response = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 && response.body().contains(expected);
+        } catch (IOException e) {
+            return false; // 아직 포트가 열리지 않음
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(List<Measurement> measurements, boolean firstMasked) {
+        long[] values = measurements.stream()
+            .mapToLong(m -> firstMasked ? m.firstMaskedMillis : m.readyMillis)
+            .toArray();
+        Arrays.sort(values);
+        return values[values.length / 2];
+    }
+
+    @FunctionalInterface
+    private interface Probe {
+        boolean succeeded() throws InterruptedException;
+    }
+
+    private static final class Measurement {
+        final long firstMaskedMillis;
+        final long readyMillis;
+
+        Measurement(long firstMaskedMillis, long readyMillis) {
+            this.firstMaskedMillis = firstMaskedMillis;
+            this.readyMillis = readyMillis;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.playground.bench;
+
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.TelegramMaskingEngine;
+import com.example.playground.config.masker.MaskerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고정 길이 전문 바이트 마스킹 벤치마크 (TelegramMaskingEngine)
+ *
+ * copyBaseline(전문 전체를 다른 배열로 복사)은 같은 크기의 메모리를 한 번 읽고 쓰는 비용으로, 마스킹 처리량의 상한 기준입니다.
+ * 마스킹은 전문을 제자리에서 수정하지만 두 번째 호출부터도 같은 범위를 같은 값으로 채우므로 작업량은 동일합니다.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TelegramMaskingBenchmark {
+
+    static final String MCI_ID = "NCDP_BENCHTLG";
+    static final Charset MS949 = Charset.forName("MS949");
+
+    // 헤더 40바이트(건수 5자리 포함) + 한 건 100바이트
+    private static final int HEADER = 40;
+    private static final int RECORD = 100;
+
+    @Param({"10", "1000"})
+    int occurrences;
+
+    private TelegramMaskingEngine engine;
+    private byte[] telegram;
+    private byte[] copy;
+    private ByteBuffer direct;
+
+    @Setup
+    public void setUp() {
+        MaskingProperties.TelegramField records = field("REC", HEADER, RECORD, null);
+        records.setOccurs(9999);
+        records.setCountOffset(35);
+        records.setCountLength(5);
+        records.setFields(new ArrayList<>(List.of(
+            field("rlno", 10, 13, "type_rlno"),
+            field("custNm", 23, 20, "type_name"),
+            field("acno", 43, 14, "type_account"))));
+        MaskingProperties.TelegramLayout layout = new MaskingProperties.TelegramLayout();
+        layout.setFields(new ArrayList<>(List.of(field("rlno", 0, 13, "type_rlno"), records)));
+        MaskingProperties properties = new MaskingProperties();
+        properties.setTelegrams(Map.of(MCI_ID, layout));
+        engine = new TelegramMaskingEngine(properties, MaskerRegistry.defaults(),
+            new MaskingMetrics(new SimpleMeterRegistry()));
+
+        telegram = new byte[HEADER + RECORD * occurrences];
+        Arrays.fill(telegram, (byte) ' ');
+        put(0, "9007021234567");
+        put(35, String.format("%05d", occurrences));
+        for (int i = 0; i < occurrences; i++) {
+            int base = HEADER + i * RECORD;
+            put(base, "R" + i);
+            put(base + 10, "9007021234567");
+            put(base + 23, i % 2 == 0 ? "홍길동" : "남궁길동");
+            put(base + 43, "12345678901234");
+            put(base + 57, "filler-" + i);
+        }
+        copy = new byte[telegram.length];
+        direct = ByteBuffer.allocateDirect(telegram.length);
+        direct.put(telegram).clear();
+    }
+
+    private static MaskingProperties.TelegramField field(String name, int offset, int length, String maskingType) {
+        MaskingProperties.TelegramField field = new MaskingProperties.TelegramField();
+        field.setName(name);
+        field.setOffset(offset);
+        field.setLength(length);
+        field.setMaskingType(maskingType);
+        return field;
+    }
+
+    private void put(int offset, String value) {
+        byte[] bytes = value.getBytes(MS949);
+        System.arraycopy(bytes, 0, telegram, offset, bytes.length);
+    }
+
+    @Benchmark
+    public int maskByteArray() {
+        return engine.mask(MCI_ID, telegram);
+    }
+
+    @Benchmark
+    public int maskDirectBuffer() {
+        return engine.mask(MCI_ID, direct);
+    }
+
+    @Benchmark
+    public byte[] copyBaseline() {
+        System.arraycopy(telegram, 0, copy, 0, telegram.length);
+        return copy;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.playground.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * NDJSON({"mciId": ..., "payload": {...}} 한 줄에 한 건) 일괄 마스킹
+ *
+ * 요청 스레드가 한 줄씩 읽어 작업 풀에 넘기고, 입력 순서대로 결과를 기다려 바로 응답에 씁니다.
+ * 동시에 처리 중인 건수는 window로 제한하므로 입력 크기와 관계없이 메모리는 window 건수만큼만 사용합니다.
+ * 한 건이 실패해도 나머지는 계속 처리하고, 해당 줄에는 {"mciId": ..., "error": ...}를 씁니다.
+ */
+@Slf4j
+@Component
+public class BatchMaskingService {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final MaskingService maskingService;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final int window;
+
+    public BatchMaskingService(MaskingService maskingService, ObjectMapper objectMapper,
+                               MaskingProperties maskingProperties) {
+        this.maskingService = maskingService;
+        this.objectMapper = objectMapper;
+
+        MaskingProperties.Batch batch = maskingProperties.getBatch();
+        int parallelism = batch.getParallelism() > 0 ? batch.getParallelism() : Runtime.getRuntime().availableProcessors();
+        this.window = batch.getWindow() > 0 ? batch.getWindow() : parallelism * 4;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "masking-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @param in NDJSON 입력 (빈 줄은 무시)
+     * @param out 입력과 같은 순서의 NDJSON 결과
+     * @return 처리한 건수
+     */
+    public int mask(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ArrayDeque<CompletableFuture<byte[]>> inFlight = new ArrayDeque<>(window);
+        int count = 0;
+
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                // 1. window가 차면 가장 먼저 들어온 건부터 기다려서 씀 (입력 순서 유지)
+                if (inFlight.size() == window) {
+                    writeNext(inFlight, out);
+                }
+                // 2. 파싱/마스킹/직렬화는 작업 풀에서 수행
+                String record = line;
+                inFlight.add(CompletableFuture.supplyAsync(() -> maskRecord(record), executor));
+                count++;
+            }
+            // 3. 남은 결과를 순서대로 씀
+            while (!inFlight.isEmpty()) {
+                writeNext(inFlight, out);
+            }
+            out.flush();
+            return count;
+        } finally {
+            // 응답 쓰기가 실패한 경우(클라이언트 연결 끊김 등) 아직 시작하지 않은 작업은 취소
+            for (CompletableFuture<byte[]> future : inFlight) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private void writeNext(ArrayDeque<CompletableFuture<byte[]>> inFlight, OutputStream out) throws IOException {
+        CompletableFuture<byte[]> head = inFlight.poll();
+        if (!head.isDone()) {
+            out.flush(); // 기다리는 동안 이미 쓴 결과는 클라이언트로 내보냄
+        }
+        out.write(head.join());
+        out.write(NEW_LINE);
+    }
+
+    private byte[] maskRecord(String line) {
+        String mciId = null;
+        try {
+            Map<String, Object> record = objectMapper.readValue(line, new TypeReference<>() {});
+            mciId = record.get("mciId") instanceof String ? (String) record.get("mciId") : null;
+            Object payload = record.get("payload");
+            if (mciId == null || !(payload instanceof Map)) {
+                throw new IllegalArgumentException("mciId(string) and payload(object) are required");
+            }
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> payloadMap = (Map<String, Object>) payload;
+            maskingService.applyMasking(mciId, payloadMap);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("mciId", mciId);
+            result.put("payload", payloadMap);
+            return objectMapper.writeValueAsBytes(result);
+        } catch (Exception e) {
+            // 파서 오류 메시지에는 원문 일부가 포함될 수 있으므로 예외 종류만 남김
+            log.warn("Failed to mask batch record (mciId={}): {}", mciId, e.getClass().getSimpleName());
+            return errorRecord(mciId, e);
+        }
+    }
+
+    private byte[] errorRecord(String mciId, Exception e) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mciId", mciId);
+        result.put("error", e instanceof IllegalArgumentException ? e.getMessage() : e.getClass().getSimpleName());
+        try {
+            return objectMapper.writeValueAsBytes(result);
+        } catch (IOException ignored) {
+            return "{\"error\":\"serialization\"}".getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
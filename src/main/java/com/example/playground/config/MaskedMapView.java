@@ -0,0 +1,174 @@
+package com.example.playground.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 원본 Map을 바꾸지 않고, 값을 읽는 시점에 마스킹을 적용하는 읽기 전용 뷰 (MaskingService.maskedView 참고)
+ *
+ * 경로 오토마톤의 상태를 하나 들고 있다가, 룰 경로 위의 하위 Map/List를 읽을 때만 그 위치의 상태로 새 뷰를 만듭니다.
+ * 룰과 무관한 하위 구조는 원본 객체를 그대로 반환하므로, 뷰를 만들고 읽는 비용은 payload 크기가 아니라
+ * 실제로 읽은 룰 경로 위의 객체 수에 비례합니다. (공유된 원본 하위 구조는 수정하지 말 것)
+ * 읽은 결과는 같은 payload에 applyMasking을 적용한 결과와 같습니다.
+ */
+@Slf4j
+final class MaskedMapView extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> source;
+    private final MaskingPathNode node;
+
+    MaskedMapView(Map<String, Object> source, MaskingPathNode node) {
+        this.source = source;
+        this.node = node;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = source.get(key);
+        if (value == null || !(key instanceof String)) {
+            return value;
+        }
+        return view(value, node.next((String) key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return source.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> entries = source.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        Entry<String, Object> entry = entries.next();
+                        Object value = entry.getValue();
+                        if (value == null) {
+                            return new SimpleImmutableEntry<>(entry.getKey(), null);
+                        }
+                        return new SimpleImmutableEntry<>(entry.getKey(), view(value, node.next(entry.getKey())));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return source.size();
+            }
+        };
+    }
+
+    /**
+     * applyMasking의 maskValue와 같은 규칙으로, child 상태에서 읽은 값을 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    static Object view(Object value, MaskingPathNode child) {
+        // 1. 룰과 무관한 값은 원본 그대로 (하위 구조 공유)
+        if (child == null) {
+            return value;
+        }
+        // 2. 룰이 끝나는 값 (값 스캔 룰은 객체/배열이면 3, 4로 계속 내려감)
+        if (child.isTerminal() && !(child.getRule().getMasker().isValueScanner()
+                && (value instanceof Map || value instanceof List))) {
+            return mask(value, child.getRule());
+        }
+        // 3. 아직 더 내려가야 하는 Map
+        if (value instanceof Map) {
+            return new MaskedMapView((Map<String, Object>) value, child);
+        }
+        // 4. List는 경로 세그먼트를 소비하지 않으므로 같은 상태로 요소를 감쌈
+        if (value instanceof List) {
+            return new MaskedListView((List<Object>) value, child);
+        }
+        // (Map도 List도 아닌데 경로가 더 있다면 그대로)
+        return value;
+    }
+
+    private static Object mask(Object value, MaskingPlan.CompiledRule rule) {
+        try {
+            if (rule.getMasker().isValueScanner()) {
+                String scanned = MaskingService.executeScan(value, rule.getMasker());
+                return scanned == null ? value : scanned;
+            }
+            return MaskingService.executeMask(value, rule.getMasker());
+        } catch (Exception e) {
+            // applyMasking과 동일하게 실패한 값은 원본 유지
+            log.warn("Failed to mask path: {}", rule.getJsonPath(), e);
+            return value;
+        }
+    }
+
+    /**
+     * 룰 경로 위의 List 뷰 (요소 Map은 같은 상태의 뷰로, 값 스캔 룰이면 문자열/숫자 요소도 마스킹)
+     */
+    static final class MaskedListView extends AbstractList<Object> {
+
+        private final List<Object> source;
+        private final MaskingPathNode node;
+
+        MaskedListView(List<Object> source, MaskingPathNode node) {
+            this.source = source;
+            this.node = node;
+        }
+
+        @Override
+        public Object get(int index) {
+            return item(source.get(index));
+        }
+
+        // 원본이 LinkedList여도 순회가 선형이 되도록 원본의 Iterator를 사용
+        @Override
+        public Iterator<Object> iterator() {
+            Iterator<Object> items = source.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return items.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    return item(items.next());
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object item(Object item) {
+            if (item instanceof Map) {
+                return new MaskedMapView((Map<String, Object>) item, node);
+            }
+            if (node.isTerminal() && item != null && !(item instanceof List)) {
+                return mask(item, node.getRule());
+            }
+            // Map 방식과 동일하게 배열 안의 배열은 탐색하지 않음
+            return item;
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.playground.config;
+
+import com.example.playground.config.masker.Masked;
+import com.example.playground.config.masker.Masker;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * @Masked가 붙은 DTO 속성을 직렬화 시점에 마스킹하는 Jackson 모듈
+ *
+ * 빈으로 등록하지 않습니다. (Module 빈은 스프링 부트가 공용 ObjectMapper에 등록하므로 서버 간 전송용 JSON까지 마스킹됨)
+ * 컨트롤러 응답에만 적용되도록 MaskedResponseConfig가 응답용 ObjectMapper 복사본에만 등록합니다.
+ * Jackson은 클래스별 직렬화기를 캐싱하므로 어노테이션 조회와 마스커 연결은 클래스당 한 번만 일어납니다.
+ */
+public class MaskedPropertyModule extends SimpleModule {
+
+    public MaskedPropertyModule(MaskerRegistry maskerRegistry) {
+        super(MaskedPropertyModule.class.getSimpleName());
+        setSerializerModifier(new MaskedSerializerModifier(maskerRegistry));
+    }
+
+    static final class MaskedSerializerModifier extends BeanSerializerModifier {
+
+        private final MaskerRegistry maskerRegistry;
+
+        MaskedSerializerModifier(MaskerRegistry maskerRegistry) {
+            this.maskerRegistry = maskerRegistry;
+        }
+
+        /**
+         * @throws IllegalArgumentException 등록되지 않은 maskingType (해당 클래스를 처음 직렬화할 때)
+         */
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                         List<BeanPropertyWriter> beanProperties) {
+            for (BeanPropertyWriter writer : beanProperties) {
+                // 필드에 붙인 어노테이션도 getter 기준 속성으로 병합되어 조회됨
+                Masked masked = writer.getAnnotation(Masked.class);
+                if (masked != null) {
+                    writer.assignSerializer(new MaskedValueSerializer(maskerRegistry.get(masked.type())));
+                }
+            }
+            return beanProperties;
+        }
+    }
+
+    /**
+     * 미리 찾아 둔 마스커로 값을 마스킹해 문자열로 씁니다. (null 값은 Jackson이 이 직렬화기를 거치지 않고 null로 씀)
+     */
+    static final class MaskedValueSerializer extends StdSerializer<Object> {
+
+        private final Masker masker;
+
+        MaskedValueSerializer(Masker masker) {
+            super(Object.class);
+            this.masker = masker;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(MaskingService.executeMask(value, masker));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.playground.config;
+
+import com.example.playground.config.masker.MaskerRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * @Masked 마스킹을 컨트롤러 응답에만 적용합니다.
+ *
+ * 스프링 MVC의 JSON 변환기만 MaskedPropertyModule을 등록한 ObjectMapper 복사본을 쓰는 새 변환기로 바꾸고,
+ * 주입받는 공용 ObjectMapper와 공용 변환기(RestTemplate 등 서버 간 호출에서도 사용)는 그대로 둡니다.
+ */
+@Configuration
+public class MaskedResponseConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<MaskerRegistry> maskerRegistry;
+
+    public MaskedResponseConfig(ObjectMapper objectMapper, ObjectProvider<MaskerRegistry> maskerRegistry) {
+        this.objectMapper = objectMapper;
+        this.maskerRegistry = maskerRegistry;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // @WebMvcTest처럼 MaskerRegistry 빈이 없는 컨텍스트에서는 기본 제공 마스커를 사용
+        ObjectMapper responseMapper = objectMapper.copy()
+            .registerModule(new MaskedPropertyModule(maskerRegistry.getIfAvailable(MaskerRegistry::defaults)));
+
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).getClass() == MappingJackson2HttpMessageConverter.class) {
+                converters.set(i, new MappingJackson2HttpMessageConverter(responseMapper));
+            }
+        }
+    }
+}
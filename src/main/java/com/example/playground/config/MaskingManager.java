@@ -1,42 +1,76 @@
 package com.example.playground.config;
 
+import com.example.playground.config.masker.MaskerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
-public class MaskingManager {
-    // 1. MaskingProperties에서 이미 완성된 Map을 가지고 있음
-    private final MaskingProperties maskingProperties;
+public class MaskingManager implements MeterBinder {
 
-    // Common 룰을 식별하기 위한 상수
-    private static final String COMMON_KEY = "common";
+    // 현재 적용 중인 룰 스냅샷 (읽기는 락 없이 get() 한 번, 교체는 reload()에서 참조 하나만 바꿈)
+    private final AtomicReference<MaskingRuleSnapshot> snapshot;
 
-    // 생성자 주입
-    public MaskingManager(MaskingProperties maskingProperties) {
-        this.maskingProperties = maskingProperties;
+    private final MaskerRegistry maskerRegistry;
+
+    private final MaskingRuleProfiler profiler;
+
+    // 생성자 주입 (룰이 잘못되었거나 등록되지 않은 maskingType이 있으면 기동 실패)
+    @Autowired
+    public MaskingManager(MaskingProperties maskingProperties, MaskerRegistry maskerRegistry,
+                          MaskingRuleProfiler profiler) {
+        this.maskerRegistry = maskerRegistry;
+        this.profiler = profiler;
+        this.snapshot = new AtomicReference<>(
+            MaskingRuleSnapshot.compile(1, maskingProperties.getMappings(), maskerRegistry));
+    }
+
+    // 룰별 수치를 모으지 않는 경우 (테스트, 벤치마크)
+    public MaskingManager(MaskingProperties maskingProperties, MaskerRegistry maskerRegistry) {
+        this(maskingProperties, maskerRegistry, new MaskingRuleProfiler(0.0));
     }
 
     /**
      * 외부에서 사용할 메소드
      * @param mciId 연동 ID
-     * @return 해당 MCIId에 적용할 마스킹 룰 목록 (common + mciId별 룰)
+     * @return 해당 MCIId에 적용할 실행 계획 (common + mciId별 룰, 캐싱된 인스턴스)
      */
-    public List<MaskingProperties.PathRule> getMaskingRules(String mciId) {
-        List<MaskingProperties.PathRule> result = new ArrayList<>();
+    public MaskingPlan getMaskingPlan(String mciId) {
+        return snapshot.get().getPlan(mciId);
+    }
 
-        // 1. common 룰 추가 (모든 mciId에 공통 적용)
-        List<MaskingProperties.PathRule> commonRules =
-            maskingProperties.getMappings().getOrDefault(COMMON_KEY, Collections.emptyList());
-        result.addAll(commonRules);
+    public MaskingRuleSnapshot getSnapshot() {
+        return snapshot.get();
+    }
 
-        // 2. mciId별 특정 룰 추가
-        List<MaskingProperties.PathRule> specificRules =
-            maskingProperties.getMappings().getOrDefault(mciId, Collections.emptyList());
-        result.addAll(specificRules);
+    /**
+     * 새 룰 전체를 컴파일한 뒤 현재 스냅샷을 한 번에 교체합니다.
+     * 컴파일에 실패하면 예외를 던지고 기존 스냅샷을 그대로 유지합니다.
+     * (동시에 여러 리로드가 들어와도 버전이 꼬이지 않도록 쓰기 쪽만 직렬화)
+     * 교체 후 새 스냅샷에 없는 룰의 적중률 수치를 정리합니다.
+     * @param mappings "common" + mciId별 룰 목록
+     * @return 새로 적용된 스냅샷
+     */
+    public synchronized MaskingRuleSnapshot reload(Map<String, List<MaskingProperties.PathRule>> mappings) {
+        MaskingRuleSnapshot next = MaskingRuleSnapshot.compile(snapshot.get().getVersion() + 1, mappings, maskerRegistry);
+        snapshot.set(next);
+        profiler.retain(next);
+        return next;
+    }
 
-        return result;
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("masking.rules.version", this, manager -> manager.getSnapshot().getVersion())
+            .description("Version of the masking rule snapshot in use")
+            .register(registry);
+        Gauge.builder("masking.rules.mci.ids", this, manager -> manager.getSnapshot().getMciIdCount())
+            .description("MCI ids with masking rules in the current snapshot")
+            .register(registry);
     }
 }
@@ -0,0 +1,126 @@
+package com.example.playground.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마스킹 호출별 Micrometer 지표 (/actuator/metrics, /actuator/prometheus)
+ *
+ * - masking.latency            : 마스킹 소요 시간 (태그: mciId, engine)
+ * - masking.rules.evaluated    : 적용한 룰 수 (전문 엔진은 검사한 필드 수, 룰 목록이 없는 key=value 엔진은 기록하지 않음)
+ * - masking.fields.masked      : 실제로 교체한 필드 수
+ * - masking.paths.failed       : 마스킹 중 예외가 발생한 경로 수
+ * - masking.entries.visited    : 마스킹 탐색 중 방문한 항목(entry) 수 (룰 경로 밖은 방문하지 않으므로 입력 전체 크기가 아님)
+ * - masking.payload.depth      : 마스킹 탐색 중 도달한 최대 중첩 깊이
+ *
+ * 카운터는 요청 스레드 간 경합이 없도록 LongAdder에 누적하고 scrape 시점에만 합산합니다.
+ * mciId 태그는 MaskingPlan의 mciId를 사용하므로 등록되지 않은 mciId는 모두 "common"으로 모입니다.
+ */
+@Component
+public class MaskingMetrics {
+
+    public static final String ENGINE_MAP = "map";
+    public static final String ENGINE_STREAM = "stream";
+    public static final String ENGINE_KEY_VALUE = "keyvalue";
+    public static final String ENGINE_TELEGRAM = "telegram";
+
+    // key=value 엔진처럼 mciId가 없는 호출의 태그 값
+    public static final String NO_MCI_ID = "none";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, EngineMeters> engines = new ConcurrentHashMap<>();
+
+    public MaskingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 엔진별 지표 묶음을 반환합니다. (호출부에서 필드로 보관해 두고 사용)
+     */
+    public EngineMeters engine(String engine) {
+        return engines.computeIfAbsent(engine, name -> new EngineMeters(registry, name));
+    }
+
+    /**
+     * 한 엔진의 지표 묶음. 타이머만 mciId별로 나뉘고 나머지는 엔진 단위로 누적됩니다.
+     */
+    public static final class EngineMeters {
+
+        private final MeterRegistry registry;
+        private final String engine;
+        private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+        private final LongAdder rulesEvaluated = new LongAdder();
+        private final LongAdder fieldsMasked = new LongAdder();
+        private final LongAdder pathsFailed = new LongAdder();
+
+        private final DistributionSummary entriesVisited;
+        private final DistributionSummary payloadDepth;
+
+        private EngineMeters(MeterRegistry registry, String engine) {
+            this.registry = registry;
+            this.engine = engine;
+
+            counter("masking.rules.evaluated", "Masking rules evaluated", rulesEvaluated);
+            counter("masking.fields.masked", "Fields replaced with a masked value", fieldsMasked);
+            counter("masking.paths.failed", "Masking paths that failed with an exception", pathsFailed);
+
+            this.entriesVisited = DistributionSummary.builder("masking.entries.visited")
+                .description("Entries in objects visited while masking")
+                .baseUnit("entries")
+                .tag("engine", engine)
+                .register(registry);
+            this.payloadDepth = DistributionSummary.builder("masking.payload.depth")
+                .description("Maximum nesting depth reached while masking")
+                .tag("engine", engine)
+                .register(registry);
+        }
+
+        private void counter(String name, String description, LongAdder adder) {
+            FunctionCounter.builder(name, adder, LongAdder::sum)
+                .description(description)
+                .tag("engine", engine)
+                .register(registry);
+        }
+
+        private Timer timer(String mciId) {
+            Timer timer = timers.get(mciId);
+            if (timer == null) {
+                timer = timers.computeIfAbsent(mciId, id -> Timer.builder("masking.latency")
+                    .description("Masking latency")
+                    .tag("mciId", id)
+                    .tag("engine", engine)
+                    .register(registry));
+            }
+            return timer;
+        }
+
+        /**
+         * 마스킹 한 건의 결과를 기록합니다.
+         * @param startNanos 시작 시점의 System.nanoTime()
+         */
+        public void record(String mciId, long startNanos, int rules, int masked, int failed,
+                           int entries, int depth) {
+            timer(mciId == null ? NO_MCI_ID : mciId).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            if (rules > 0) {
+                rulesEvaluated.add(rules);
+            }
+            if (masked > 0) {
+                fieldsMasked.add(masked);
+            }
+            if (failed > 0) {
+                pathsFailed.add(failed);
+            }
+            entriesVisited.record(entries);
+            payloadDepth.record(depth);
+        }
+    }
+}
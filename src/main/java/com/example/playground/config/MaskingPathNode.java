@@ -0,0 +1,219 @@
+package com.example.playground.config;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * mciId별 룰 전체를 하나로 합친 경로 오토마톤(DFA)의 상태 (컴파일 후 불변)
+ *
+ * 예) "MIMEIN_IN_MST.MIMEIN_IN.rlno", "MIMEIN_IN_MST.MIMEIN_IN.custNm"
+ *     root ─ MIMEIN_IN_MST ─ MIMEIN_IN ─┬─ rlno   (type_rlno)
+ *                                        └─ custNm (type_name)
+ *
+ * jsonPath의 세그먼트로 "*"(임의의 키 한 단계)와 "**"(0단계 이상 임의의 깊이)를 쓸 수 있으며,
+ * 이 경우 "그 밖의 키"로 이동하는 와일드카드 전이가 생기고 "**"는 자기 자신으로 돌아오는 순환이 됩니다.
+ * 예) "**.rlno" - 어느 깊이든 rlno 키
+ *     root ─┬─ rlno (type_rlno)
+ *           └─ (그 밖의 키) → root
+ *
+ * 모든 룰이 하나의 오토마톤으로 합쳐져 있으므로 룰이 몇 개든(와일드카드 포함) payload는 한 번만 순회합니다.
+ */
+public final class MaskingPathNode {
+
+    // 룰 조합이 비정상적으로 많아 상태가 폭증하는 경우를 막기 위한 상한
+    static final int MAX_STATES = 10_000;
+
+    static final String ANY_SEGMENT = "*";
+    static final String ANY_DEPTH = "**";
+
+    // 순회 시 Iterator 할당이 없도록 배열로 보관 (같은 인덱스끼리 쌍, childNodes는 컴파일 중에만 채움)
+    private final String[] childKeys;
+    private final MaskingPathNode[] childNodes;
+
+    // childKeys에 없는 키로 이동할 상태 (와일드카드가 없으면 null, 컴파일 중에만 설정)
+    private MaskingPathNode wildcard;
+
+    // 이 상태에서 끝나는 룰 (없으면 null)
+    private final MaskingPlan.CompiledRule rule;
+
+    private MaskingPathNode(String[] childKeys, MaskingPlan.CompiledRule rule) {
+        this.childKeys = childKeys;
+        this.childNodes = new MaskingPathNode[childKeys.length];
+        this.rule = rule;
+    }
+
+    /**
+     * @return 이름이 정해진 전이의 키 (와일드카드 전이는 포함하지 않음)
+     */
+    public String[] getChildKeys() {
+        return childKeys;
+    }
+
+    public MaskingPathNode[] getChildNodes() {
+        return childNodes;
+    }
+
+    /**
+     * @return 해당 키로 이동한 다음 상태 (이름이 정해진 전이가 없으면 와일드카드 전이, 둘 다 없으면 null)
+     */
+    public MaskingPathNode next(String key) {
+        for (int i = 0; i < childKeys.length; i++) {
+            if (childKeys[i].equals(key)) {
+                return childNodes[i];
+            }
+        }
+        return wildcard;
+    }
+
+    /**
+     * @return 어떤 키로든 이동할 수 있는 상태이면 true (Map의 모든 키를 확인해야 함)
+     */
+    public boolean hasWildcard() {
+        return wildcard != null;
+    }
+
+    public boolean isTerminal() {
+        return rule != null;
+    }
+
+    public MaskingPlan.CompiledRule getRule() {
+        return rule;
+    }
+
+    public boolean hasChildren() {
+        return childKeys.length > 0 || wildcard != null;
+    }
+
+    /**
+     * 컴파일 시점에만 사용하는 빌더
+     *
+     * 룰마다 "세그먼트 위치"를 상태로 하는 NFA를 만들고, 부분집합 구성으로 하나의 DFA로 합칩니다.
+     * (NFA 상태 번호 = 룰의 시작 번호 + 세그먼트 위치, 룰의 끝 위치가 곧 마스킹 대상)
+     */
+    static final class Builder {
+        private final List<MaskingPlan.CompiledRule> rules = new ArrayList<>();
+
+        void add(MaskingPlan.CompiledRule compiledRule) {
+            rules.add(compiledRule);
+        }
+
+        MaskingPathNode build() {
+            // 1. NFA 상태 번호 매기기
+            int[] offsets = new int[rules.size()];
+            int stateCount = 0;
+            for (int r = 0; r < rules.size(); r++) {
+                offsets[r] = stateCount;
+                stateCount += rules.get(r).getSegments().length + 1;
+            }
+            String[] segmentOf = new String[stateCount];  // 상태에서 읽을 세그먼트 (룰의 끝이면 null)
+            int[] ruleOf = new int[stateCount];
+            for (int r = 0; r < rules.size(); r++) {
+                String[] segments = rules.get(r).getSegments();
+                for (int p = 0; p <= segments.length; p++) {
+                    segmentOf[offsets[r] + p] = p < segments.length ? segments[p] : null;
+                    ruleOf[offsets[r] + p] = r;
+                }
+            }
+
+            // 2. 부분집합 구성 (모든 룰의 시작 위치에서 출발)
+            BitSet start = new BitSet(stateCount);
+            for (int offset : offsets) {
+                start.set(offset);
+            }
+            Map<BitSet, MaskingPathNode> states = new HashMap<>();
+            Deque<BitSet> pending = new ArrayDeque<>();
+            MaskingPathNode root = state(closure(start, segmentOf), segmentOf, ruleOf, states, pending);
+
+            BitSet current;
+            while ((current = pending.poll()) != null) {
+                MaskingPathNode node = states.get(current);
+                for (int i = 0; i < node.childKeys.length; i++) {
+                    BitSet next = step(current, node.childKeys[i], segmentOf);
+                    node.childNodes[i] = state(next, segmentOf, ruleOf, states, pending);
+                }
+                BitSet other = step(current, null, segmentOf);
+                node.wildcard = other.isEmpty() ? null : state(other, segmentOf, ruleOf, states, pending);
+            }
+            return root;
+        }
+
+        /**
+         * 상태 집합에 대응하는 노드를 찾고, 처음 보는 집합이면 만들어서 처리 대기열에 넣습니다.
+         */
+        private MaskingPathNode state(BitSet set, String[] segmentOf, int[] ruleOf,
+                                      Map<BitSet, MaskingPathNode> states, Deque<BitSet> pending) {
+            MaskingPathNode node = states.get(set);
+            if (node != null) {
+                return node;
+            }
+            if (states.size() >= MAX_STATES) {
+                throw new IllegalArgumentException("Too many wildcard combinations in jsonPath rules (more than "
+                    + MAX_STATES + " states)");
+            }
+
+            Set<String> keys = new LinkedHashSet<>();
+            MaskingPlan.CompiledRule terminal = null;
+            for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+                String segment = segmentOf[s];
+                if (segment == null) {
+                    // 같은 위치에서 여러 룰이 끝나면 먼저 정의된 룰을 사용 (번호가 작은 상태부터 순회)
+                    // 단, 값 스캔 룰(type_scan)은 같은 필드를 지정한 다른 룰이 없을 때만 사용
+                    MaskingPlan.CompiledRule candidate = rules.get(ruleOf[s]);
+                    if (terminal == null || (terminal.getMasker().isValueScanner()
+                            && !candidate.getMasker().isValueScanner())) {
+                        terminal = candidate;
+                    }
+                } else if (!isWildcard(segment)) {
+                    keys.add(segment);
+                }
+            }
+
+            node = new MaskingPathNode(keys.toArray(new String[0]), terminal);
+            states.put(set, node);
+            pending.add(set);
+            return node;
+        }
+
+        /**
+         * @param key 이동할 키 (null이면 이름이 정해진 전이에 없는 "그 밖의 키")
+         */
+        private static BitSet step(BitSet from, String key, String[] segmentOf) {
+            BitSet to = new BitSet(segmentOf.length);
+            for (int s = from.nextSetBit(0); s >= 0; s = from.nextSetBit(s + 1)) {
+                String segment = segmentOf[s];
+                if (segment == null) {
+                    continue;
+                }
+                if (ANY_DEPTH.equals(segment)) {
+                    to.set(s); // 한 단계 더 내려가도 그대로 "**"에 머무름
+                } else if (ANY_SEGMENT.equals(segment) || segment.equals(key)) {
+                    to.set(s + 1);
+                }
+            }
+            return closure(to, segmentOf);
+        }
+
+        /**
+         * "**"는 0단계도 허용하므로 바로 다음 세그먼트 위치도 같은 상태 집합에 포함합니다.
+         */
+        private static BitSet closure(BitSet set, String[] segmentOf) {
+            for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+                if (ANY_DEPTH.equals(segmentOf[s])) {
+                    set.set(s + 1);
+                }
+            }
+            return set;
+        }
+
+        static boolean isWildcard(String segment) {
+            return ANY_SEGMENT.equals(segment) || ANY_DEPTH.equals(segment);
+        }
+    }
+}
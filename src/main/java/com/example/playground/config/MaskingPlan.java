@@ -0,0 +1,160 @@
+package com.example.playground.config;
+
+import com.example.playground.config.masker.Masker;
+import com.example.playground.config.masker.MaskerRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * mciId 하나에 적용할 마스킹 룰을 미리 컴파일해 둔 불변 실행 계획
+ * (common 룰 + mciId별 룰이 병합된 상태이며, jsonPath는 이미 세그먼트로 분리되어 하나의 경로 오토마톤으로 합쳐져 있음)
+ *
+ * 룰 스냅샷(MaskingRuleSnapshot)을 만들 때 한 번 컴파일해 캐싱하므로 요청 경로에서는 추가 할당이 없습니다.
+ */
+public final class MaskingPlan {
+
+    private final String mciId;
+    private final List<CompiledRule> rules;
+    private final MaskingPathNode root;
+
+    private MaskingPlan(String mciId, List<CompiledRule> rules, MaskingPathNode root) {
+        this.mciId = mciId;
+        this.rules = rules;
+        this.root = root;
+    }
+
+    /**
+     * common 룰과 mciId별 룰을 순서대로 병합하여 컴파일합니다.
+     * @param mciId 연동 ID (common 전용 계획이면 "common")
+     * @param commonRules 모든 mciId에 공통 적용되는 룰
+     * @param specificRules mciId별 룰
+     * @param maskerRegistry maskingType별 마스커 (룰마다 여기서 한 번 찾아 묶어 둠)
+     */
+    public static MaskingPlan compile(String mciId,
+                                      List<MaskingProperties.PathRule> commonRules,
+                                      List<MaskingProperties.PathRule> specificRules,
+                                      MaskerRegistry maskerRegistry) {
+        List<CompiledRule> compiled = new ArrayList<>(commonRules.size() + specificRules.size());
+        for (MaskingProperties.PathRule rule : commonRules) {
+            compiled.add(CompiledRule.of(rule, compiled.size(), maskerRegistry));
+        }
+        for (MaskingProperties.PathRule rule : specificRules) {
+            compiled.add(CompiledRule.of(rule, compiled.size(), maskerRegistry));
+        }
+
+        // 모든 룰(와일드카드 포함)을 하나의 경로 오토마톤으로 병합
+        MaskingPathNode.Builder trie = new MaskingPathNode.Builder();
+        for (CompiledRule rule : compiled) {
+            trie.add(rule);
+        }
+        return new MaskingPlan(mciId, Collections.unmodifiableList(compiled), trie.build());
+    }
+
+    public String getMciId() {
+        return mciId;
+    }
+
+    public List<CompiledRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * @return 경로 오토마톤의 시작 상태 (payload 최상위 Map에 대응)
+     */
+    public MaskingPathNode getRoot() {
+        return root;
+    }
+
+    public boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /**
+     * 세그먼트 분리와 마스커 조회가 끝난 단일 룰
+     */
+    public static final class CompiledRule {
+        private final String jsonPath;
+        private final String[] segments;
+        private final String maskingType;
+        private final Masker masker;
+        private final int index;
+
+        private CompiledRule(String jsonPath, String[] segments, String maskingType, Masker masker, int index) {
+            this.jsonPath = jsonPath;
+            this.segments = segments;
+            this.maskingType = maskingType;
+            this.masker = masker;
+            this.index = index;
+        }
+
+        static CompiledRule of(MaskingProperties.PathRule rule, int index, MaskerRegistry maskerRegistry) {
+            if (rule.getJsonPath() == null || rule.getJsonPath().isBlank()) {
+                throw new IllegalArgumentException("jsonPath must not be empty (maskingType=" + rule.getMaskingType() + ")");
+            }
+            if (rule.getMaskingType() == null || rule.getMaskingType().isBlank()) {
+                throw new IllegalArgumentException("maskingType must not be empty (jsonPath=" + rule.getJsonPath() + ")");
+            }
+            // "MIMEIN_IN_MST.MIMEIN_IN.rlno" -> ["MIMEIN_IN_MST", "MIMEIN_IN", "rlno"] (기동 시 1회만 수행)
+            String[] segments = rule.getJsonPath().split("\\.", -1);
+            validateSegments(rule.getJsonPath(), segments);
+            return new CompiledRule(rule.getJsonPath(), segments, rule.getMaskingType(),
+                maskerRegistry.get(rule.getMaskingType()), index);
+        }
+
+        private static void validateSegments(String jsonPath, String[] segments) {
+            for (String segment : segments) {
+                if (segment.isEmpty()) {
+                    throw new IllegalArgumentException("jsonPath must not contain empty segments: " + jsonPath);
+                }
+                // "*", "**"는 세그먼트 전체로만 사용 (예: "acno*"와 같은 부분 일치는 지원하지 않음)
+                if (segment.contains(MaskingPathNode.ANY_SEGMENT) && !MaskingPathNode.Builder.isWildcard(segment)) {
+                    throw new IllegalArgumentException("Wildcards must be a whole segment ('*' or '**'): " + jsonPath);
+                }
+            }
+            // "a.**"는 a 하위 전체가 아니라 a 자체를 마스킹하게 되므로 혼동을 막기 위해 허용하지 않음
+            if (MaskingPathNode.ANY_DEPTH.equals(segments[segments.length - 1])) {
+                throw new IllegalArgumentException("jsonPath must not end with '**': " + jsonPath);
+            }
+        }
+
+        public String getJsonPath() {
+            return jsonPath;
+        }
+
+        /**
+         * 요청마다 복사하지 않도록 내부 배열을 그대로 반환합니다. (수정 금지)
+         */
+        public String[] getSegments() {
+            return segments;
+        }
+
+        public String getMaskingType() {
+            return maskingType;
+        }
+
+        public Masker getMasker() {
+            return masker;
+        }
+
+        /**
+         * @return 계획 안에서 룰의 순번 (getRules()의 인덱스, 룰별 수치를 배열로 모을 때 사용)
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return "*", "**" 세그먼트를 포함하는지 여부 (해당 위치의 Map은 entry 전체를 순회)
+         */
+        public boolean hasWildcard() {
+            for (String segment : segments) {
+                if (MaskingPathNode.Builder.isWildcard(segment)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.playground.config;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map; // 1. Map으로 변경
 import java.util.HashMap; // 2. 초기화를 위해 추가
@@ -17,6 +21,33 @@ public class MaskingProperties {
     // Key: String (MCIId), Value: List<PathRule> (마스킹 룰 리스트)
     private Map<String, List<PathRule>> mappings = new HashMap<>();
 
+    // 고정 길이 바이트 전문 레이아웃 (Key: MCIId, JSON이 아닌 전문을 TelegramMaskingEngine으로 마스킹)
+    private Map<String, TelegramLayout> telegrams = new HashMap<>();
+
+    // 외부 mciMasking.yml 변경 감지 설정 (location이 없으면 비활성)
+    private Reload reload = new Reload();
+
+    // NDJSON 일괄 마스킹 설정
+    private Batch batch = new Batch();
+
+    // key=value 문자열 마스킹(/api/data) 설정
+    private KeyValue keyValue = new KeyValue();
+
+    // 로그 메시지 마스킹 설정 (로그 패턴의 %m, MaskedLogArgument)
+    private Log log = new Log();
+
+    // 자유 텍스트 값 스캔(maskingType: type_scan) 설정
+    private ValueScan valueScan = new ValueScan();
+
+    // 큰 List 병렬 마스킹 설정 (Map 방식)
+    private Parallel parallel = new Parallel();
+
+    // 룰별 적중률 수집 설정 (/actuator/maskingrules)
+    private Profiler profiler = new Profiler();
+
+    // 기동 시 마스킹 엔진 워밍업 설정 (끝날 때까지 readiness = REFUSING_TRAFFIC)
+    private Warmup warmup = new Warmup();
+
 
     @Getter
     @Setter
@@ -25,4 +56,121 @@ public class MaskingProperties {
         private String jsonPath;
         private String maskingType;
     }
+
+    @Getter
+    @Setter
+    public static class TelegramLayout {
+        // 전문 문자 인코딩 (한 바이트 문자셋, EUC-KR, MS949, UTF-8 - 필드별로 바꿀 수 있음)
+        private String encoding = "MS949";
+        private List<TelegramField> fields = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class TelegramField {
+        // 오류 메시지/문서용 필드 이름
+        private String name;
+        // 시작 위치 (바이트, 전문 시작 기준 - OCCURS 그룹의 하위 필드는 한 건의 시작 기준)
+        private int offset;
+        // 길이 (바이트, OCCURS 그룹이면 한 건의 길이)
+        private int length;
+        // 마스킹 타입 (그룹이면 지정하지 않음)
+        private String maskingType;
+        // 필드 인코딩 (없으면 상위 그룹/전문의 인코딩)
+        private String encoding;
+
+        // 아래는 OCCURS 그룹 (fields가 있는 경우)만 사용
+        // 반복 횟수 (countLength가 있으면 최대 반복 횟수)
+        private int occurs = 1;
+        // 실제 반복 횟수를 담은 숫자 필드의 위치/길이 (OCCURS DEPENDING ON, 0이면 occurs만큼 고정 반복)
+        private int countOffset;
+        private int countLength;
+        private List<TelegramField> fields = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Reload {
+        // 감시할 외부 yml 파일 경로 (예: /app/config/mciMasking.yml)
+        private String location;
+        // 파일 저장이 끝날 때까지 기다리는 시간 (에디터가 여러 번 나눠 쓰는 경우 한 번만 반영)
+        private Duration debounce = Duration.ofMillis(300);
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        // 마스킹 작업 스레드 수 (0이면 CPU 코어 수)
+        private int parallelism;
+        // 동시에 처리 중인 최대 건수 = 메모리에 올라가는 최대 건수 (0이면 parallelism × 4)
+        private int window;
+    }
+
+    @Getter
+    @Setter
+    public static class KeyValue {
+        // 값을 <Masked>로 바꿀 키 (대소문자 무시)
+        private List<String> sensitiveKeys = new ArrayList<>(List.of("abc", "xyz", "cd_no", "sync_dsc"));
+    }
+
+    @Getter
+    @Setter
+    public static class Log {
+        // 로그에 "키=값", "키":"값" 형태로 나오면 값을 ****로 바꿀 키 (대소문자 무시)
+        // 프레임워크 로그를 포함한 모든 로그에 적용되므로 name, id처럼 흔한 키는 넣지 않음
+        private List<String> sensitiveKeys = new ArrayList<>(List.of("rlno", "custNm", "acno",
+            "abc", "xyz", "cd_no", "sync_dsc"));
+    }
+
+    @Getter
+    @Setter
+    public static class Parallel {
+        // 병렬 마스킹 스레드 수 (0이면 CPU 코어 수)
+        private int threads;
+        // 요소 수가 이 값 이상인 List만 나눠서 병렬 처리 (0이면 사용 안 함)
+        private int threshold = 4096;
+        // 작업 하나가 처리할 최대 요소 수 (이보다 크면 반으로 나눔)
+        private int chunkSize = 512;
+    }
+
+    @Getter
+    @Setter
+    public static class Profiler {
+        // 룰별 수치를 모을 호출의 비율 (1이면 모든 호출, 0이면 사용 안 함)
+        private double sampleRate = 0.01;
+    }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+        // 모든 mciId의 합성 payload를 한 번씩 마스킹하는 것을 1라운드로 몇 번 반복할지 (0이면 사용 안 함)
+        private int rounds = 2000;
+        // 라운드가 남아 있어도 이 시간이 지나면 워밍업을 끝내고 트래픽을 받음
+        private Duration budget = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class ValueScan {
+        // 값 안에서 찾을 숫자 형식 (앞뒤가 숫자가 아닌 위치에서 형식 전체가 일치할 때만 마스킹)
+        private List<DigitPattern> digitPatterns = new ArrayList<>(List.of(
+            new DigitPattern("######-#######", 6),   // 주민등록번호
+            new DigitPattern("#############", 6),
+            new DigitPattern("###-##-######", 0),    // 계좌번호
+            new DigitPattern("###-###-######", 0),
+            new DigitPattern("###-######-#####", 0)));
+        // 이메일 주소의 @ 앞부분 마스킹 여부
+        private boolean emails = true;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DigitPattern {
+        // '#'은 숫자 한 자리, 그 밖의 글자는 그대로 일치해야 하는 구분자 (예: "######-#######")
+        private String format;
+        // 앞에서부터 그대로 보여줄 숫자 수 (나머지 숫자는 *)
+        private int visibleDigits;
+    }
 }
@@ -0,0 +1,195 @@
+package com.example.playground.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (mciId, jsonPath)별 룰 적중률 수집기 (/actuator/maskingrules)
+ *
+ * 마스킹 호출 중 sampleRate 비율만 골라, 그 호출에서 룰마다
+ * - evaluated : 룰이 포함된 계획으로 마스킹한 호출 수
+ * - matched   : 룰이 끝나는 위치에 값이 있었던 호출 수 (matchedValues는 그 값의 수)
+ * - masked    : 실제로 교체한 값의 수
+ * - failed    : 마스킹 중 예외가 발생한 값의 수
+ * - maskNanos : 마스커 실행에 쓴 시간
+ * 를 셉니다. 샘플이 아닌 호출은 룰별 배열을 할당하지 않으므로 추가 비용이 없고,
+ * 샘플인 호출도 룰별 수치를 호출 안에서 배열로 모았다가 끝날 때 한 번만 LongAdder에 더합니다.
+ *
+ * 경로 오토마톤은 모든 룰을 합쳐 한 번만 순회하므로 탐색 비용은 룰별로 나눌 수 없습니다.
+ * 대신 와일드카드 룰(해당 위치의 Map entry 전체를 순회)인지를 함께 보여줍니다.
+ */
+@Component
+public class MaskingRuleProfiler {
+
+    private final double sampleRate;
+    private final ConcurrentMap<RuleKey, RuleCounters> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MaskingRuleProfiler(MaskingProperties maskingProperties) {
+        this(maskingProperties.getProfiler().getSampleRate());
+    }
+
+    public MaskingRuleProfiler(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * 호출 하나의 수치를 모을 인스턴스를 만듭니다. (샘플로 고른 호출이면 룰별 수치도 모음)
+     */
+    TraversalStats newStats(MaskingPlan plan) {
+        return sample() ? new TraversalStats(plan.getRules().size()) : new TraversalStats();
+    }
+
+    private boolean sample() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 샘플로 고른 호출의 룰별 수치를 누적합니다. (샘플이 아니면 무시)
+     */
+    void record(MaskingPlan plan, TraversalStats stats) {
+        if (!stats.isSampled()) {
+            return;
+        }
+        for (MaskingPlan.CompiledRule rule : plan.getRules()) {
+            int index = rule.getIndex();
+            RuleCounters rc = counters.computeIfAbsent(RuleKey.of(plan, rule), key -> new RuleCounters());
+            rc.evaluated.increment();
+            int matched = stats.ruleMatched(index);
+            if (matched > 0) {
+                rc.matched.increment();
+                rc.matchedValues.add(matched);
+                rc.masked.add(stats.ruleMasked(index));
+                rc.failed.add(stats.ruleFailed(index));
+                rc.maskNanos.add(stats.ruleNanos(index));
+            }
+        }
+    }
+
+    /**
+     * 스냅샷에 있는 룰 전체의 누적 수치를 반환합니다. (스냅샷 순서: common 먼저, mciId 순, 계획 안의 룰 순)
+     */
+    public List<RuleReport> report(MaskingRuleSnapshot snapshot) {
+        List<RuleReport> reports = new ArrayList<>();
+        for (MaskingPlan plan : snapshot.getPlans()) {
+            for (MaskingPlan.CompiledRule rule : plan.getRules()) {
+                reports.add(new RuleReport(plan.getMciId(), rule, counters.get(RuleKey.of(plan, rule))));
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * 새 스냅샷에 없는 룰(리로드로 사라진 룰)의 누적 수치를 지웁니다. (MaskingManager가 스냅샷을 교체할 때 호출)
+     * 교체 직전 계획으로 진행 중이던 호출이 지운 룰을 다시 남길 수 있지만, report()에는 나오지 않고 다음 리로드 때 정리됩니다.
+     */
+    void retain(MaskingRuleSnapshot snapshot) {
+        Set<RuleKey> current = new HashSet<>();
+        for (MaskingPlan plan : snapshot.getPlans()) {
+            for (MaskingPlan.CompiledRule rule : plan.getRules()) {
+                current.add(RuleKey.of(plan, rule));
+            }
+        }
+        counters.keySet().retainAll(current);
+    }
+
+    /**
+     * 누적 수치를 모두 지웁니다. (룰을 정리한 뒤 다시 관찰할 때)
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    private static final class RuleCounters {
+        final LongAdder evaluated = new LongAdder();
+        final LongAdder matched = new LongAdder();
+        final LongAdder matchedValues = new LongAdder();
+        final LongAdder masked = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder maskNanos = new LongAdder();
+    }
+
+    // 같은 mciId에 jsonPath가 같고 maskingType만 다른 룰(중복 룰)도 따로 집계
+    private static final class RuleKey {
+        private final String mciId;
+        private final String jsonPath;
+        private final String maskingType;
+
+        private RuleKey(String mciId, String jsonPath, String maskingType) {
+            this.mciId = mciId;
+            this.jsonPath = jsonPath;
+            this.maskingType = maskingType;
+        }
+
+        static RuleKey of(MaskingPlan plan, MaskingPlan.CompiledRule rule) {
+            return new RuleKey(plan.getMciId(), rule.getJsonPath(), rule.getMaskingType());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RuleKey)) {
+                return false;
+            }
+            RuleKey other = (RuleKey) o;
+            return mciId.equals(other.mciId) && jsonPath.equals(other.jsonPath)
+                && maskingType.equals(other.maskingType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mciId, jsonPath, maskingType);
+        }
+    }
+
+    /**
+     * 룰 하나의 누적 수치 (actuator 응답 본문)
+     */
+    @Getter
+    public static final class RuleReport {
+        private final String mciId;
+        private final String jsonPath;
+        private final String maskingType;
+        private final boolean wildcard;
+        private final long evaluated;
+        private final long matched;
+        private final long matchedValues;
+        private final long masked;
+        private final long failed;
+        // matched / evaluated
+        private final double hitRate;
+        // 호출 한 번에 이 룰의 마스커 실행에 쓴 평균 시간
+        private final long maskNanosPerCall;
+
+        RuleReport(String mciId, MaskingPlan.CompiledRule rule, RuleCounters counters) {
+            this.mciId = mciId;
+            this.jsonPath = rule.getJsonPath();
+            this.maskingType = rule.getMaskingType();
+            this.wildcard = rule.hasWildcard();
+            this.evaluated = counters == null ? 0 : counters.evaluated.sum();
+            this.matched = counters == null ? 0 : counters.matched.sum();
+            this.matchedValues = counters == null ? 0 : counters.matchedValues.sum();
+            this.masked = counters == null ? 0 : counters.masked.sum();
+            this.failed = counters == null ? 0 : counters.failed.sum();
+            this.hitRate = evaluated == 0 ? 0.0 : (double) matched / evaluated;
+            this.maskNanosPerCall = evaluated == 0 ? 0 : counters.maskNanos.sum() / evaluated;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.playground.config;
+
+import com.example.playground.config.masker.MaskerRegistry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 시점의 마스킹 룰 전체를 컴파일해 둔 불변 스냅샷
+ *
+ * MaskingManager는 이 스냅샷 하나를 참조로 들고 있다가 룰이 바뀌면 새 스냅샷으로 통째로 교체합니다.
+ * 요청은 시작할 때 꺼낸 계획을 끝까지 사용하므로 처리 중에 룰이 바뀌어도 결과가 섞이지 않습니다.
+ */
+public final class MaskingRuleSnapshot {
+
+    // Common 룰을 식별하기 위한 상수
+    static final String COMMON_KEY = "common";
+
+    private final long version;
+    private final Instant loadedAt;
+    private final Map<String, MaskingPlan> plans;
+    private final MaskingPlan commonPlan;
+
+    private MaskingRuleSnapshot(long version, Map<String, MaskingPlan> plans, MaskingPlan commonPlan) {
+        this.version = version;
+        this.loadedAt = Instant.now();
+        this.plans = plans;
+        this.commonPlan = commonPlan;
+    }
+
+    /**
+     * yml에서 바인딩한 룰 전체를 컴파일합니다.
+     * @param version 스냅샷 버전 (기동 시 1, 리로드할 때마다 1씩 증가)
+     * @param mappings "common" + mciId별 룰 목록
+     * @param maskerRegistry maskingType별 마스커
+     * @throws IllegalArgumentException 룰이 잘못된 경우 (jsonPath/maskingType 누락, 등록되지 않은 maskingType 등)
+     */
+    public static MaskingRuleSnapshot compile(long version, Map<String, List<MaskingProperties.PathRule>> mappings,
+                                              MaskerRegistry maskerRegistry) {
+        if (mappings == null) {
+            mappings = Collections.emptyMap();
+        }
+        List<MaskingProperties.PathRule> commonRules = nullToEmpty(mappings.get(COMMON_KEY));
+        MaskingPlan commonPlan = MaskingPlan.compile(COMMON_KEY, commonRules, Collections.emptyList(), maskerRegistry);
+
+        Map<String, MaskingPlan> compiled = new HashMap<>();
+        for (Map.Entry<String, List<MaskingProperties.PathRule>> entry : mappings.entrySet()) {
+            if (COMMON_KEY.equals(entry.getKey())) {
+                continue;
+            }
+            compiled.put(entry.getKey(),
+                MaskingPlan.compile(entry.getKey(), commonRules, nullToEmpty(entry.getValue()), maskerRegistry));
+        }
+        return new MaskingRuleSnapshot(version, Collections.unmodifiableMap(compiled), commonPlan);
+    }
+
+    // yml에서 룰 목록을 비워두면 null로 바인딩될 수 있음
+    private static List<MaskingProperties.PathRule> nullToEmpty(List<MaskingProperties.PathRule> rules) {
+        return rules == null ? Collections.emptyList() : rules;
+    }
+
+    /**
+     * @return mciId에 적용할 실행 계획 (등록되지 않은 mciId는 common 전용 계획)
+     */
+    public MaskingPlan getPlan(String mciId) {
+        return plans.getOrDefault(mciId, commonPlan);
+    }
+
+    /**
+     * @return common 전용 계획과 mciId별 계획 전체 (common 먼저, 나머지는 mciId 순)
+     */
+    public List<MaskingPlan> getPlans() {
+        List<MaskingPlan> all = new ArrayList<>(plans.size() + 1);
+        all.add(commonPlan);
+        plans.values().stream()
+            .sorted(Comparator.comparing(MaskingPlan::getMciId))
+            .forEach(all::add);
+        return all;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * @return 룰이 등록된 mciId 수 (common 제외)
+     */
+    public int getMciIdCount() {
+        return plans.size();
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.playground.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 mciMasking.yml(masking.reload.location)의 변경을 감지해 룰을 다시 적용합니다.
+ *
+ * 파일이 바뀌면 1. 읽기 → 2. yml 바인딩/검증 → 3. 새 스냅샷 컴파일 → 4. MaskingManager의 참조 교체 순서로 처리하고,
+ * 어느 단계든 실패하면 기존 스냅샷을 그대로 사용합니다.
+ * 이벤트 종류와 파일명은 보지 않고 파일 내용이 실제로 바뀌었는지로 판단하므로
+ * 에디터의 임시 파일 교체나 ConfigMap의 심볼릭 링크 교체도 한 번의 리로드로 처리됩니다.
+ *
+ * location이 없으면 아무것도 하지 않습니다. (Spring AOT는 조건부 빈을 빌드 시점에 확정하므로
+ * @ConditionalOnProperty 대신 실행 시점의 설정으로 판단)
+ */
+@Slf4j
+@Component
+public class MaskingRuleWatcher {
+
+    private final MaskingManager maskingManager;
+    private final Path location;
+    private final long debounceMillis;
+
+    private final Timer reloadSuccess;
+    private final Timer reloadFailure;
+
+    // 마지막으로 처리한 파일 내용 (같은 내용이면 다시 컴파일하지 않음, 잘못된 내용도 반복해서 로그를 남기지 않음)
+    private byte[] lastContent;
+
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    public MaskingRuleWatcher(MaskingManager maskingManager, MaskingProperties maskingProperties,
+                              MeterRegistry meterRegistry) {
+        this.maskingManager = maskingManager;
+        String configured = maskingProperties.getReload().getLocation();
+        this.location = configured == null || configured.isBlank() ? null : Paths.get(configured).toAbsolutePath();
+        this.debounceMillis = maskingProperties.getReload().getDebounce().toMillis();
+
+        this.reloadSuccess = reloadTimer(meterRegistry, "success");
+        this.reloadFailure = reloadTimer(meterRegistry, "failure");
+    }
+
+    private static Timer reloadTimer(MeterRegistry registry, String result) {
+        return Timer.builder("masking.rules.reload")
+            .description("Masking rule reload latency (read, validate, compile, swap)")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (location == null) {
+            return;
+        }
+        // 기동 시점에 외부 파일이 있으면 classpath 룰 대신 바로 적용
+        reload();
+
+        Path directory = location.getParent();
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY,
+            StandardWatchEventKinds.ENTRY_DELETE);
+
+        watcherThread = new Thread(this::watchLoop, "masking-rule-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        log.info("Watching masking rules at {}", location);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close(); // take()가 ClosedWatchServiceException으로 깨어나며 스레드 종료
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+
+                // 저장이 끝날 때까지 기다린 뒤 그 사이에 쌓인 이벤트를 모두 비움
+                Thread.sleep(debounceMillis);
+                do {
+                    key.pollEvents();
+                    key.reset();
+                } while ((key = watchService.poll()) != null);
+
+                reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // 종료
+        }
+    }
+
+    /**
+     * 외부 파일을 읽어 내용이 바뀌었으면 새 룰 스냅샷을 적용합니다.
+     * @return 새 스냅샷을 적용했으면 true (파일이 없거나, 내용이 같거나, 검증에 실패하면 false)
+     */
+    public synchronized boolean reload() {
+        if (location == null) {
+            return false;
+        }
+        long start = System.nanoTime();
+
+        // 1. 파일 읽기 (교체 중이라 잠시 없는 경우는 다음 이벤트에서 처리)
+        byte[] content;
+        try {
+            if (!Files.isRegularFile(location)) {
+                return false;
+            }
+            content = Files.readAllBytes(location);
+        } catch (IOException e) {
+            log.warn("Failed to read masking rules from {}", location, e);
+            return false;
+        }
+        if (Arrays.equals(content, lastContent)) {
+            return false;
+        }
+        lastContent = content;
+
+        try {
+            // 2. yml 바인딩/검증 → 3. 컴파일 → 4. 교체
+            MaskingRuleSnapshot snapshot = maskingManager.reload(parse(content));
+
+            long elapsed = System.nanoTime() - start;
+            reloadSuccess.record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("Masking rules reloaded from {} (version={}, mciIds={}, {}ms)", location,
+                snapshot.getVersion(), snapshot.getMciIdCount(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            reloadFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.error("Invalid masking rules in {}, keeping version {}", location,
+                maskingManager.getSnapshot().getVersion(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 기동 시와 같은 규칙(masking.mappings)으로 yml을 바인딩합니다.
+     */
+    private Map<String, List<MaskingProperties.PathRule>> parse(byte[] content) throws IOException {
+        List<PropertySource<?>> sources =
+            new YamlPropertySourceLoader().load(location.toString(), new ByteArrayResource(content));
+        MaskingProperties properties = new Binder(ConfigurationPropertySources.from(sources))
+            .bind("masking", MaskingProperties.class)
+            .orElse(null);
+
+        if (properties == null || properties.getMappings().isEmpty()) {
+            throw new IllegalArgumentException("masking.mappings is missing or empty");
+        }
+        return properties.getMappings();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.playground.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 룰 정리용 actuator 엔드포인트 (GET /actuator/maskingrules, DELETE로 누적 수치 초기화)
+ *
+ * - neverMatched : 샘플 기간 동안 한 번도 값을 찾지 못한 룰 (경로 오타, 더 이상 오지 않는 필드, 앞선 중복 룰에 가려진 룰)
+ * - failing      : 마스킹 중 예외가 발생한 룰 (WARN 로그의 jsonPath와 함께 확인)
+ * - expensive    : 호출당 마스커 실행 시간이 긴 순서 (상위 EXPENSIVE_LIMIT개)
+ * - rules        : 현재 스냅샷의 룰 전체
+ */
+@Component
+@Endpoint(id = "maskingrules")
+public class MaskingRulesEndpoint {
+
+    static final int EXPENSIVE_LIMIT = 10;
+
+    private final MaskingManager maskingManager;
+    private final MaskingRuleProfiler profiler;
+
+    public MaskingRulesEndpoint(MaskingManager maskingManager, MaskingRuleProfiler profiler) {
+        this.maskingManager = maskingManager;
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> rules() {
+        MaskingRuleSnapshot snapshot = maskingManager.getSnapshot();
+        List<MaskingRuleProfiler.RuleReport> rules = profiler.report(snapshot);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("rulesVersion", snapshot.getVersion());
+        body.put("sampleRate", profiler.getSampleRate());
+        // 샘플이 많은 룰부터 (evaluated가 0이면 해당 mciId로 들어온 호출이 아직 없음)
+        body.put("neverMatched", rules.stream()
+            .filter(rule -> rule.getMatched() == 0)
+            .sorted(Comparator.comparingLong(MaskingRuleProfiler.RuleReport::getEvaluated).reversed())
+            .collect(Collectors.toList()));
+        body.put("failing", rules.stream()
+            .filter(rule -> rule.getFailed() > 0)
+            .sorted(Comparator.comparingLong(MaskingRuleProfiler.RuleReport::getFailed).reversed())
+            .collect(Collectors.toList()));
+        body.put("expensive", rules.stream()
+            .filter(rule -> rule.getMatched() > 0)
+            .sorted(Comparator.comparingLong(MaskingRuleProfiler.RuleReport::getMaskNanosPerCall).reversed())
+            .limit(EXPENSIVE_LIMIT)
+            .collect(Collectors.toList()));
+        body.put("rules", rules);
+        return body;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        profiler.reset();
+    }
+}
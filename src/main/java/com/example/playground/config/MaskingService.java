@@ -1,20 +1,65 @@
 package com.example.playground.config;
 
+import com.example.playground.config.masker.Masker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 
+@Slf4j
 @Component
 public class MaskingService {
     private final MaskingManager maskingManager;
+    private final MaskingMetrics.EngineMeters meters;
+    private final MaskingRuleProfiler profiler;
 
-    private static final Pattern FIRST_DIGIT_PATTERN = Pattern.compile("\\d");
+    // 큰 List를 나눠 마스킹할 전용 풀 (threshold가 0이면 null, 순차 처리만 사용)
+    private final ForkJoinPool listPool;
+    private final int parallelThreshold;
+    private final int chunkSize;
 
-    public MaskingService(MaskingManager maskingManager) {
+    public MaskingService(MaskingManager maskingManager, MaskingMetrics maskingMetrics) {
+        this(maskingManager, maskingMetrics, new MaskingProperties());
+    }
+
+    public MaskingService(MaskingManager maskingManager, MaskingMetrics maskingMetrics,
+                          MaskingProperties maskingProperties) {
+        this(maskingManager, maskingMetrics, maskingProperties, new MaskingRuleProfiler(maskingProperties));
+    }
+
+    @Autowired
+    public MaskingService(MaskingManager maskingManager, MaskingMetrics maskingMetrics,
+                          MaskingProperties maskingProperties, MaskingRuleProfiler profiler) {
         this.maskingManager = maskingManager;
+        this.meters = maskingMetrics.engine(MaskingMetrics.ENGINE_MAP);
+        this.profiler = profiler;
+
+        MaskingProperties.Parallel parallel = maskingProperties.getParallel();
+        this.parallelThreshold = parallel.getThreshold();
+        this.chunkSize = Math.max(1, parallel.getChunkSize());
+        int threads = parallel.getThreads() > 0 ? parallel.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.listPool = parallelThreshold > 0 ? new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("masking-list-" + thread.getPoolIndex());
+            return thread;
+        }, null, false) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (listPool != null) {
+            listPool.shutdownNow();
+        }
     }
 
 
@@ -24,75 +69,214 @@ public class MaskingService {
      * (원본 Map 객체가 직접 수정됩니다.)
      */
     public void applyMasking(String mciId, Map<String, Object> dataMap) {
-        // 1. Manager에게 "룰"을 요청
-        List<MaskingProperties.PathRule> rules = maskingManager.getMaskingRules(mciId);
+        // 1. Manager에게 컴파일된 "실행 계획"을 요청 (캐싱된 인스턴스, 할당 없음)
+        MaskingPlan plan = maskingManager.getMaskingPlan(mciId);
 
-        if (rules.isEmpty() || dataMap == null || dataMap.isEmpty()) {
+        if (plan.isEmpty() || dataMap == null || dataMap.isEmpty()) {
             return; // 룰이 없거나 데이터가 없으면 종료
         }
 
-        // 2. 룰을 순회하며 마스킹 "실행"
-        for (MaskingProperties.PathRule rule : rules) {
-            // 3. jsonPath를 기반으로 Map을 탐색하여 마스킹 적용
-            try {
-                // "MIMEIN_IN_MST.MIMEIN_IN.rlno" 같은 경로를 "." 기준으로 분리
-                String[] keys = rule.getJsonPath().split("\\.");
-                maskRecursive(dataMap, keys, 0, rule.getMaskingType());
-            } catch (Exception e) {
-                // 경로 탐색 중 오류 발생 시 로깅 (예: ClassCastException 등)
-                //TODO : Log.error 추가 필요
-                //log.error("Failed to mask path: {} for MCI: {}", rule.getJsonPath(), mciId, e);
-            }
+        // 2. 모든 룰이 병합된 경로 오토마톤을 따라 payload를 한 번만 순회하며 마스킹 "실행"
+        long start = System.nanoTime();
+        TraversalStats stats = profiler.newStats(plan);
+        maskRecursive(dataMap, plan.getRoot(), 1, stats);
+
+        // 3. 호출 단위로 모아 둔 수치를 한 번에 지표로 기록 (샘플로 고른 호출이면 룰별 수치도)
+        meters.record(plan.getMciId(), start, plan.getRules().size(), stats.masked, stats.failed,
+            stats.entries, stats.maxDepth);
+        profiler.record(plan, stats);
+    }
+
+    /**
+     * 원본 Map을 바꾸지 않고, 값을 읽을 때 마스킹이 적용되는 읽기 전용 뷰를 반환합니다.
+     * (감사 로그, 내부 전달 등으로 원본이 계속 필요할 때 payload 전체를 깊은 복사하지 않고 사용)
+     *
+     * 룰 경로 위의 Map/List만 읽는 시점에 감싸고 그 밖의 하위 구조는 원본을 공유하므로,
+     * 할당은 payload 크기가 아니라 룰 경로 위의 객체 수에 비례합니다. (공유된 하위 구조는 수정하지 말 것)
+     * 뷰를 읽은 결과(get, 순회, JSON 직렬화)는 같은 payload에 applyMasking을 적용한 결과와 같습니다.
+     * @return 마스킹 뷰 (룰이 없으면 원본을 감싼 읽기 전용 Map, dataMap이 null이면 null)
+     */
+    public Map<String, Object> maskedView(String mciId, Map<String, Object> dataMap) {
+        if (dataMap == null) {
+            return null;
+        }
+        MaskingPlan plan = maskingManager.getMaskingPlan(mciId);
+        if (plan.isEmpty()) {
+            return Collections.unmodifiableMap(dataMap);
         }
+        // 요청 시점의 계획(경로 오토마톤)을 붙잡아 두므로 읽는 도중 룰이 리로드되어도 결과가 섞이지 않음
+        return new MaskedMapView(dataMap, plan.getRoot());
     }
 
     /**
      * 재귀적으로 Map을 탐색하며 실제 마스킹을 수행하는 헬퍼 메소드
+     * (경로 오토마톤의 상태를 따라 내려가므로 각 Map/List는 룰 개수와 관계없이 한 번씩만 방문됩니다.)
      */
-    @SuppressWarnings("unchecked")
-    private void maskRecursive(Map<String, Object> currentMap, String[] keys, int index, String maskingType) {
+    private void maskRecursive(Map<String, Object> currentMap, MaskingPathNode node, int depth, TraversalStats stats) {
+        stats.visit(currentMap.size(), depth);
 
-        if (currentMap == null || index >= keys.length) {
+        // 1. 와일드카드("*", "**")가 있는 상태이면 모든 키가 후보이므로 Map의 entry를 한 번 순회
+        if (node.hasWildcard()) {
+            for (Map.Entry<String, Object> entry : currentMap.entrySet()) {
+                Object value = entry.getValue();
+                if (value != null) {
+                    maskValue(currentMap, entry.getKey(), value, node.next(entry.getKey()), depth, stats);
+                }
+            }
             return;
         }
 
-        String currentKey = keys[index];
-        Object value = currentMap.get(currentKey);
+        // 2. 이름이 정해진 키만 있으면 해당 키만 조회
+        String[] keys = node.getChildKeys();
+        MaskingPathNode[] children = node.getChildNodes();
+
+        for (int i = 0; i < keys.length; i++) {
+            String currentKey = keys[i];
+            Object value = currentMap.get(currentKey);
 
-        if (value == null) {
-            return; // 현재 키에 해당하는 값이 없음
+            if (value == null) {
+                continue; // 현재 키에 해당하는 값이 없음
+            }
+            maskValue(currentMap, currentKey, value, children[i], depth, stats);
         }
+    }
 
-        // 1. 마지막 키(마스킹 대상)에 도달한 경우
-        if (index == keys.length - 1) {
-            String maskedValue = executeMask(value, maskingType);
-            // 2. 원본 Map의 값을 마스킹된 값으로 교체
-            currentMap.put(currentKey, maskedValue);
+    @SuppressWarnings("unchecked")
+    private void maskValue(Map<String, Object> currentMap, String currentKey, Object value, MaskingPathNode child,
+                           int depth, TraversalStats stats) {
+        // 1. 룰이 끝나는 상태(마스킹 대상)에 도달한 경우 (값 스캔 룰은 객체/배열이면 3, 4로 계속 내려감)
+        if (child.isTerminal() && !isScanContainer(child, value)) {
+            MaskingPlan.CompiledRule rule = child.getRule();
+            long ruleStart = stats.ruleStart();
+            try {
+                String maskedValue = rule.getMasker().isValueScanner()
+                    ? executeScan(value, rule.getMasker())
+                    : executeMask(value, rule.getMasker());
+                // 2. 원본 Map의 값을 마스킹된 값으로 교체 (기존 키의 값만 바꾸므로 entry 순회 중에도 안전)
+                if (maskedValue != null) {
+                    currentMap.put(currentKey, maskedValue);
+                    stats.masked++;
+                }
+                stats.ruleHit(rule, ruleStart, maskedValue != null, false);
+            } catch (Exception e) {
+                // 마스킹 중 오류 발생 시 로깅 (예: 불변 Map에 put 시 UnsupportedOperationException 등)
+                stats.failed++;
+                stats.ruleHit(rule, ruleStart, false, true);
+                log.warn("Failed to mask path: {}", rule.getJsonPath(), e);
+            }
         }
         // 3. 아직 더 깊이 탐색해야 하는 경우
         else if (value instanceof Map) {
             // 다음 레벨의 Map으로 재귀 호출
-            maskRecursive((Map<String, Object>) value, keys, index + 1, maskingType);
+            maskRecursive((Map<String, Object>) value, child, depth + 1, stats);
         }
         // 4. List 타입인 경우 처리
         else if (value instanceof List) {
-            List<?> list = (List<?>) value;
-            // List 내부의 각 요소에 대해 재귀적으로 마스킹 적용
-            for (Object item : list) {
-                if (item instanceof Map) {
-                    maskRecursive((Map<String, Object>) item, keys, index + 1, maskingType);
-                }
+            List<Object> list = (List<Object>) value;
+            // List 내부의 각 요소에 대해 재귀적으로 마스킹 적용 (List는 경로 세그먼트를 소비하지 않음)
+            if (listPool != null && list.size() >= parallelThreshold && list instanceof RandomAccess) {
+                maskListInParallel(list, child, depth, stats);
+            } else {
+                maskListRange(list, 0, list.size(), child, depth, stats);
             }
         }
         // (Map도 List도 아닌데 경로가 더 있다면 무시)
     }
 
+    /**
+     * List의 [from, to) 구간 요소를 마스킹합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void maskListRange(List<Object> list, int from, int to, MaskingPathNode node, int depth,
+                               TraversalStats stats) {
+        ListIterator<Object> it = list.listIterator(from);
+        for (int i = from; i < to; i++) {
+            Object item = it.next();
+            if (item instanceof Map) {
+                maskRecursive((Map<String, Object>) item, node, depth + 1, stats);
+            } else if (node.isTerminal() && item != null && !(item instanceof List)) {
+                // 값 스캔 룰이면 배열 안의 문자열/숫자도 스캔
+                scanListItem(it, item, node.getRule(), stats);
+            }
+        }
+    }
 
     /**
-     * 실제 마스킹 로직을 수행하는 헬퍼 메소드 (이전과 동일)
+     * 큰 List를 chunkSize 이하의 구간으로 나눠 전용 풀에서 병렬로 마스킹합니다.
+     * 요소마다 서로 다른 하위 Map만 수정하고 List 자체는 같은 위치의 값만 교체(set)하므로
+     * 결과와 지표는 순차 처리와 같습니다. (구간별 수치는 각자 모은 뒤 join 후 합침)
      */
-    private String executeMask(Object original, String type) {
-        if (original == null ) {
+    private void maskListInParallel(List<Object> list, MaskingPathNode node, int depth, TraversalStats stats) {
+        ListChunkTask task = new ListChunkTask(list, 0, list.size(), node, depth, stats.fork());
+        if (ForkJoinTask.getPool() == listPool) {
+            task.invoke(); // 이미 풀 안(바깥 List의 구간 작업)이면 같은 풀에서 나눠 처리
+        } else {
+            listPool.invoke(task);
+        }
+        stats.add(task.stats);
+    }
+
+    private final class ListChunkTask extends RecursiveAction {
+        private final List<Object> list;
+        private final int from;
+        private final int to;
+        private final MaskingPathNode node;
+        private final int depth;
+        private final TraversalStats stats;
+
+        ListChunkTask(List<Object> list, int from, int to, MaskingPathNode node, int depth, TraversalStats stats) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+            this.node = node;
+            this.depth = depth;
+            this.stats = stats;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                maskListRange(list, from, to, node, depth, stats);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            ListChunkTask left = new ListChunkTask(list, from, mid, node, depth, stats.fork());
+            ListChunkTask right = new ListChunkTask(list, mid, to, node, depth, stats.fork());
+            invokeAll(left, right);
+            stats.add(left.stats);
+            stats.add(right.stats);
+        }
+    }
+
+    // 값 스캔 룰이 객체/배열에서 끝난 경우 (하위의 값에 각각 적용)
+    private static boolean isScanContainer(MaskingPathNode child, Object value) {
+        return child.getRule().getMasker().isValueScanner() && (value instanceof Map || value instanceof List);
+    }
+
+    private void scanListItem(ListIterator<Object> it, Object item, MaskingPlan.CompiledRule rule,
+                              TraversalStats stats) {
+        long ruleStart = stats.ruleStart();
+        try {
+            String scanned = executeScan(item, rule.getMasker());
+            if (scanned != null) {
+                it.set(scanned);
+                stats.masked++;
+            }
+            stats.ruleHit(rule, ruleStart, scanned != null, false);
+        } catch (Exception e) {
+            stats.failed++;
+            stats.ruleHit(rule, ruleStart, false, true);
+            log.warn("Failed to mask path: {}", rule.getJsonPath(), e);
+        }
+    }
+
+    /**
+     * 실제 마스킹 로직을 수행하는 헬퍼 메소드
+     * (StreamingMaskingEngine도 동일한 결과를 내도록 같은 메소드를 사용합니다.)
+     * @param masker 룰 컴파일 시점에 maskingType으로 찾아 둔 마스커
+     */
+    static String executeMask(Object original, Masker masker) {
+        if (original == null) {
             return null;
         }
 
@@ -101,43 +285,16 @@ public class MaskingService {
         if (originalString.isEmpty()) {
             return originalString;
         }
-        /* TODO : 추후 Rule 정의되면 반영
-        switch (type) {
-            case "type_rlno":
-                // 예: 9007021234567 -> 900702******* (뒤 7자리)
-                if (originalString.length() > 7) {
-                    return originalString.substring(0, originalString.length() - 7) + "*******";
-                }
-                break;
-            case "type_name":
-                // 예: 홍길동 -> 홍*동
-                if (originalString.length() > 2) {
-                    return originalString.substring(0, 1) + "*" + originalString.substring(originalString.length() - 1);
-                } else if (originalString.length() == 2) {
-                    return originalString.substring(0, 1) + "*";
-                }
-                break;
-            // [추가] 주소 마스킹 로직
-            case "type_address":
-                Matcher matcher = FIRST_DIGIT_PATTERN.matcher(originalString);
-
-                // 1. 주소에서 첫 번째 숫자를 찾습니다.
-                if (matcher.find()) {
-                    // 2. 숫자가 시작되는 위치(index)를 가져옵니다.
-                    int index = matcher.start();
-
-                    if (index > 0) {
-                        // 3. 숫자 앞부분(도로명 등)은 유지하고, 숫자부터 끝까지 마스킹
-                        return originalString.substring(0, index) + "****";
-                    } else {
-                        // 주소가 숫자로 시작하면 (예: "123 서울시...") 전체 마스킹
-                        return "********";
-                    }
-                }
-                // 주소에 숫자가 아예 없으면 (예: "서울특별시 강남구") 원본 반환
-                return originalString;
-        }
-        */
-        return "<Protected_Mci_Data>"; // 기본 마스킹
+        return masker.mask(originalString);
+    }
+
+    /**
+     * 값 스캔 마스커(type_scan)로 값 안에서 찾은 패턴만 마스킹합니다.
+     * @return 마스킹된 값, 찾은 패턴이 없으면 null (원본 값을 타입까지 그대로 유지)
+     */
+    static String executeScan(Object original, Masker scanner) {
+        String originalString = String.valueOf(original);
+        String scanned = scanner.mask(originalString);
+        return scanned == originalString ? null : scanned;
     }
 }
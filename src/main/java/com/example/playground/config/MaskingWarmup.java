@@ -0,0 +1,212 @@
+package com.example.playground.config;
+
+import com.example.playground.service.DataMaskingService;
+import com.example.playground.service.Impl.DataMaskingServiceImpl;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 직후 마스킹 엔진을 미리 실행해 JIT 컴파일을 끝내 두는 워밍업 (배포 직후 첫 요청들이 느린 문제)
+ *
+ * 현재 스냅샷의 mciId별 계획마다 룰 경로로 합성 payload를 만들어 Map 방식(Jackson 바인딩/직렬화 포함)과
+ * 스트리밍 엔진으로 마스킹하고, masking.key-value.sensitive-keys로 만든 key=value 문자열도 함께 마스킹합니다.
+ *
+ * ApplicationRunner로 실행되므로 스프링 부트는 워밍업이 끝난 뒤에 readiness를 ACCEPTING_TRAFFIC으로 바꿉니다.
+ * (그 전까지 /actuator/health/readiness는 REFUSING_TRAFFIC) 시간 예산(budget)을 넘기면 남은 라운드는 건너뜁니다.
+ *
+ * 운영 지표(masking.*)와 룰별 적중률(/actuator/maskingrules)이 합성 payload로 오염되지 않도록
+ * 같은 클래스의 별도 인스턴스로 실행합니다. (JIT 컴파일 결과는 인스턴스가 아닌 메소드 단위로 공유됨)
+ */
+@Slf4j
+@Component
+public class MaskingWarmup implements ApplicationRunner {
+
+    static final String RESULT_COMPLETED = "completed";
+    static final String RESULT_BUDGET_EXCEEDED = "budget_exceeded";
+
+    // "*" 세그먼트 위치에 넣을 키
+    static final String WILDCARD_KEY = "WARMUP";
+    private static final String SAMPLE_VALUE = "9007021234567";
+
+    private final MaskingManager maskingManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<String> keyValueKeys;
+    private final int rounds;
+    private final long budgetNanos;
+
+    private final MaskingService maskingService;
+    private final StreamingMaskingEngine streamingMaskingEngine;
+    private final DataMaskingService dataMaskingService;
+
+    private final Timer completed;
+    private final Timer budgetExceeded;
+
+    public MaskingWarmup(MaskingManager maskingManager, MaskingProperties maskingProperties, ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher) {
+        this.maskingManager = maskingManager;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.keyValueKeys = maskingProperties.getKeyValue().getSensitiveKeys();
+        this.rounds = maskingProperties.getWarmup().getRounds();
+        this.budgetNanos = maskingProperties.getWarmup().getBudget().toNanos();
+
+        // 워밍업 전용 인스턴스 (지표는 버리고, 룰별 적중률은 모으지 않고, 병렬 풀은 만들지 않음)
+        MaskingMetrics discarded = new MaskingMetrics(new SimpleMeterRegistry());
+        MaskingProperties sequential = new MaskingProperties();
+        sequential.getParallel().setThreshold(0);
+        MaskingRuleProfiler noSampling = new MaskingRuleProfiler(0.0);
+        this.maskingService = new MaskingService(maskingManager, discarded, sequential, noSampling);
+        this.streamingMaskingEngine = new StreamingMaskingEngine(maskingManager, objectMapper, discarded, noSampling);
+        this.dataMaskingService = new DataMaskingServiceImpl(maskingProperties, discarded);
+
+        this.completed = warmupTimer(meterRegistry, RESULT_COMPLETED);
+        this.budgetExceeded = warmupTimer(meterRegistry, RESULT_BUDGET_EXCEEDED);
+    }
+
+    private static Timer warmupTimer(MeterRegistry registry, String result) {
+        return Timer.builder("masking.warmup")
+            .description("Masking engine warm-up duration before accepting traffic")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (rounds <= 0) {
+            return;
+        }
+        // 기본값도 REFUSING_TRAFFIC이지만, 워밍업 중임을 명시 (끝나면 ApplicationReadyEvent 시점에 ACCEPTING_TRAFFIC)
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        warmUp();
+    }
+
+    /**
+     * 라운드 수만큼 또는 시간 예산을 다 쓸 때까지 워밍업을 실행합니다.
+     * @return 실행한 라운드 수
+     */
+    public int warmUp() throws IOException {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+
+        // 1. mciId별 합성 payload 준비 (중첩 Map / 중간 경로가 List인 경우 두 가지)
+        List<MaskingPlan> plans = new ArrayList<>();
+        List<byte[]> payloads = new ArrayList<>();
+        for (MaskingPlan plan : maskingManager.getSnapshot().getPlans()) {
+            if (plan.isEmpty()) {
+                continue;
+            }
+            plans.add(plan);
+            payloads.add(objectMapper.writeValueAsBytes(samplePayload(plan, false)));
+            plans.add(plan);
+            payloads.add(objectMapper.writeValueAsBytes(samplePayload(plan, true)));
+        }
+        String keyValue = sampleKeyValue();
+
+        // 2. 라운드마다 모든 payload를 각 엔진으로 마스킹 (라운드 사이에 시간 예산 확인)
+        int round = 0;
+        boolean exhausted = false;
+        while (round < rounds) {
+            if (System.nanoTime() - deadline > 0) {
+                exhausted = true;
+                break;
+            }
+            for (int i = 0; i < plans.size(); i++) {
+                runOnce(plans.get(i).getMciId(), payloads.get(i));
+            }
+            dataMaskingService.maskSensitiveData(keyValue);
+            dataMaskingService.maskSensitiveData(new StringReader(keyValue), new StringWriter());
+            round++;
+        }
+
+        // 3. 소요 시간 기록
+        long elapsed = System.nanoTime() - start;
+        (exhausted ? budgetExceeded : completed).record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Masking warm-up {} in {}ms ({}/{} rounds, {} payloads)",
+            exhausted ? "stopped at budget" : "finished", TimeUnit.NANOSECONDS.toMillis(elapsed),
+            round, rounds, payloads.size());
+        return round;
+    }
+
+    // 컨트롤러와 같은 순서: 바인딩 → 마스킹 → 직렬화, 그리고 스트리밍 엔진
+    private void runOnce(String mciId, byte[] payload) throws IOException {
+        Map<String, Object> dataMap = objectMapper.readValue(payload, new TypeReference<>() {});
+        maskingService.applyMasking(mciId, dataMap);
+        objectMapper.writeValueAsBytes(dataMap);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length);
+        streamingMaskingEngine.mask(mciId, new ByteArrayInputStream(payload), out);
+    }
+
+    /**
+     * 계획의 룰 경로마다 값이 하나씩 있는 payload를 만듭니다.
+     * ("**"는 0단계로, "*"는 WILDCARD_KEY로 채우고, 다른 룰의 값과 경로가 겹치면 해당 룰은 건너뜀)
+     * @param inLists true면 중간 경로의 객체를 요소 하나짜리 List로 감싸고 값을 숫자로 넣음
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> samplePayload(MaskingPlan plan, boolean inLists) {
+        Map<String, Object> root = new HashMap<>();
+        for (MaskingPlan.CompiledRule rule : plan.getRules()) {
+            String[] segments = rule.getSegments();
+            Map<String, Object> current = root;
+            for (int i = 0; i < segments.length - 1 && current != null; i++) {
+                if (MaskingPathNode.ANY_DEPTH.equals(segments[i])) {
+                    continue;
+                }
+                String key = keyOf(segments[i]);
+                Object existing = current.get(key);
+                if (existing == null) {
+                    Map<String, Object> child = new HashMap<>();
+                    current.put(key, inLists ? new ArrayList<>(List.of(child)) : child);
+                    current = child;
+                } else if (existing instanceof Map) {
+                    current = (Map<String, Object>) existing;
+                } else if (existing instanceof List && ((List<Object>) existing).get(0) instanceof Map) {
+                    current = (Map<String, Object>) ((List<Object>) existing).get(0);
+                } else {
+                    current = null; // 다른 룰의 값이 있는 자리
+                }
+            }
+            String leaf = keyOf(segments[segments.length - 1]);
+            if (current != null && !current.containsKey(leaf)) {
+                current.put(leaf, inLists ? (Object) Long.valueOf(SAMPLE_VALUE) : SAMPLE_VALUE);
+            }
+        }
+        return root;
+    }
+
+    private static String keyOf(String segment) {
+        return MaskingPathNode.ANY_SEGMENT.equals(segment) ? WILDCARD_KEY : segment;
+    }
+
+    // 민감 키마다 값이 있고 중첩 객체/배열을 포함한 key=value 문자열
+    private String sampleKeyValue() {
+        StringBuilder sb = new StringBuilder("{id=1");
+        for (String key : keyValueKeys) {
+            sb.append(", ").append(key).append('=').append(SAMPLE_VALUE);
+        }
+        sb.append(", nested={name=kim, items=[{code=A}, {code=B, memo=[1, 2]}]}}");
+        return sb.toString();
+    }
+}
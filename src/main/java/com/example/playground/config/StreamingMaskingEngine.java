@@ -0,0 +1,207 @@
+package com.example.playground.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * MCI JSON 본문을 Map으로 바인딩하지 않고 토큰 단위로 읽으면서 바로 출력하는 스트리밍 마스킹 엔진
+ *
+ * 현재 위치를 MaskingPlan의 경로 오토마톤 상태로 추적하다가 ("*", "**" 와일드카드 포함) 룰이 끝나는 필드의 값만 교체합니다.
+ * 룰과 무관한 하위 구조는 그대로 복사하므로 요청당 메모리는 payload 크기가 아닌 중첩 깊이에 비례합니다.
+ * 마스킹 결과는 MaskingService.applyMasking(Map 방식)과 동일합니다.
+ * 마스커 오류도 Map 방식처럼 해당 경로만 원래 값으로 두고 집계(masking.paths.failed) 후 계속 진행합니다.
+ */
+@Slf4j
+@Component
+public class StreamingMaskingEngine {
+
+    private final MaskingManager maskingManager;
+    private final ObjectMapper objectMapper;
+    private final MaskingMetrics.EngineMeters meters;
+    private final MaskingRuleProfiler profiler;
+
+    public StreamingMaskingEngine(MaskingManager maskingManager, ObjectMapper objectMapper,
+                                  MaskingMetrics maskingMetrics) {
+        this(maskingManager, objectMapper, maskingMetrics, new MaskingRuleProfiler(new MaskingProperties()));
+    }
+
+    @Autowired
+    public StreamingMaskingEngine(MaskingManager maskingManager, ObjectMapper objectMapper,
+                                  MaskingMetrics maskingMetrics, MaskingRuleProfiler profiler) {
+        this.maskingManager = maskingManager;
+        this.objectMapper = objectMapper;
+        this.meters = maskingMetrics.engine(MaskingMetrics.ENGINE_STREAM);
+        this.profiler = profiler;
+    }
+
+    /**
+     * 입력 스트림의 JSON을 마스킹하여 출력 스트림으로 씁니다.
+     * @param mciId 연동 ID
+     * @param in 원본 JSON
+     * @param out 마스킹된 JSON이 기록될 스트림
+     */
+    public void mask(String mciId, InputStream in, OutputStream out) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(in);
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            if (parser.nextToken() == null) {
+                return; // 빈 본문
+            }
+            mask(maskingManager.getMaskingPlan(mciId), parser, generator);
+        }
+    }
+
+    /**
+     * 파서가 가리키는 현재 값(최상위 값)을 마스킹하여 generator로 씁니다.
+     * 파서는 값의 첫 토큰에 위치해 있어야 하며, 호출 후에는 값의 마지막 토큰에 위치합니다.
+     */
+    public void mask(MaskingPlan plan, JsonParser parser, JsonGenerator generator) throws IOException {
+        if (plan.isEmpty() || parser.currentToken() != JsonToken.START_OBJECT) {
+            generator.copyCurrentStructure(parser); // 룰이 없거나 최상위가 객체가 아니면 그대로 복사
+            return;
+        }
+        long start = System.nanoTime();
+        TraversalStats stats = profiler.newStats(plan);
+        copyObject(parser, generator, plan.getRoot(), 1, stats);
+
+        meters.record(plan.getMciId(), start, plan.getRules().size(), stats.masked, stats.failed,
+            stats.entries, stats.maxDepth);
+        profiler.record(plan, stats);
+    }
+
+    /**
+     * 경로 오토마톤 상태에 대응하는 객체를 복사하면서 하위 필드를 마스킹합니다.
+     */
+    private void copyObject(JsonParser parser, JsonGenerator generator, MaskingPathNode node,
+                            int depth, TraversalStats stats) throws IOException {
+        generator.writeStartObject();
+
+        int size = 0;
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            size++;
+            generator.writeFieldName(fieldName);
+            JsonToken valueToken = parser.nextToken();
+            MaskingPathNode child = node.next(fieldName);
+
+            // 1. 룰과 무관한 필드는 하위 구조까지 그대로 복사
+            if (child == null) {
+                generator.copyCurrentStructure(parser);
+            }
+            // 2. 룰이 끝나는 필드(마스킹 대상)에 도달한 경우 (값 스캔 룰은 객체/배열이면 3, 4로 계속 내려감)
+            else if (child.isTerminal() && !isScanContainer(child, valueToken)) {
+                writeTerminal(parser, generator, valueToken, child.getRule(), stats);
+            }
+            // 3. 아직 더 깊이 탐색해야 하는 경우
+            else if (valueToken == JsonToken.START_OBJECT) {
+                copyObject(parser, generator, child, depth + 1, stats);
+            }
+            // 4. 배열인 경우 각 요소(객체)에 같은 노드를 적용
+            else if (valueToken == JsonToken.START_ARRAY) {
+                copyArray(parser, generator, child, depth + 1, stats);
+            }
+            // (객체도 배열도 아닌데 경로가 더 있다면 그대로 복사)
+            else {
+                generator.copyCurrentEvent(parser);
+            }
+        }
+
+        generator.writeEndObject();
+        stats.visit(size, depth);
+    }
+
+    private void copyArray(JsonParser parser, JsonGenerator generator, MaskingPathNode node,
+                           int depth, TraversalStats stats) throws IOException {
+        generator.writeStartArray();
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                copyObject(parser, generator, node, depth, stats);
+            } else if (node.isTerminal() && token.isScalarValue()) {
+                // 값 스캔 룰이면 배열 안의 문자열/숫자도 스캔 (Map 방식과 동일)
+                writeTerminal(parser, generator, token, node.getRule(), stats);
+            } else {
+                // Map 방식과 동일하게 배열 안의 배열/스칼라는 탐색하지 않음
+                generator.copyCurrentStructure(parser);
+            }
+        }
+
+        generator.writeEndArray();
+    }
+
+    private void writeTerminal(JsonParser parser, JsonGenerator generator, JsonToken valueToken,
+                               MaskingPlan.CompiledRule rule, TraversalStats stats) throws IOException {
+        // Map 방식과 동일하게 null은 마스킹하지 않음 (룰별 수치에도 넣지 않음)
+        if (valueToken == JsonToken.VALUE_NULL) {
+            generator.writeNull();
+            return;
+        }
+        long ruleStart = stats.ruleStart();
+        Object original = readOriginal(parser, valueToken);
+
+        String maskedValue;
+        try {
+            maskedValue = rule.getMasker().isValueScanner()
+                ? MaskingService.executeScan(original, rule.getMasker())
+                : MaskingService.executeMask(original, rule.getMasker());
+        } catch (Exception e) {
+            // 마스킹 중 오류가 나도 응답 전체를 중단하지 않고 이 값만 원래대로 씀 (Map 방식과 동일)
+            stats.failed++;
+            stats.ruleHit(rule, ruleStart, false, true);
+            log.warn("Failed to mask path: {}", rule.getJsonPath(), e);
+            writeOriginal(parser, generator, valueToken, original);
+            return;
+        }
+
+        if (maskedValue == null) {
+            writeOriginal(parser, generator, valueToken, original); // 값 스캔에서 찾은 패턴이 없으면 원래 토큰(숫자 등) 그대로
+        } else {
+            generator.writeString(maskedValue);
+            stats.masked++;
+        }
+        stats.ruleHit(rule, ruleStart, maskedValue != null, false);
+    }
+
+    /**
+     * 마스커에 넘길 원본 값 (Map 바인딩 시와 같은 타입으로 읽어야 String.valueOf 결과가 동일함)
+     */
+    private static Object readOriginal(JsonParser parser, JsonToken valueToken) throws IOException {
+        switch (valueToken) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return parser.getBooleanValue();
+            default:
+                // 객체/배열 전체가 마스킹 대상인 경우 (드묾) Map 방식과 같은 문자열로 변환하기 위해 바인딩
+                return parser.readValueAs(Object.class);
+        }
+    }
+
+    private static void writeOriginal(JsonParser parser, JsonGenerator generator, JsonToken valueToken,
+                                      Object original) throws IOException {
+        if (valueToken.isScalarValue()) {
+            generator.copyCurrentEvent(parser);
+        } else {
+            generator.writeObject(original); // 객체/배열은 이미 바인딩하며 읽었으므로 바인딩한 값을 씀
+        }
+    }
+
+    // 값 스캔 룰이 객체/배열에서 끝난 경우 (하위의 값에 각각 적용)
+    private static boolean isScanContainer(MaskingPathNode child, JsonToken valueToken) {
+        return child.getRule().getMasker().isValueScanner()
+            && (valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.playground.config;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 고정 길이 전문 필드의 문자 인코딩 - 디코딩 없이 바이트만 보고 글자 경계와 '*', 공백, 숫자를 판단합니다.
+ *
+ * 지원 인코딩: 한 바이트 문자셋(US-ASCII, ISO-8859-1, EBCDIC Cp037 등), EUC-KR / MS949(첫 바이트가 0x81 이상이면 2바이트 글자), UTF-8
+ * (EBCDIC 혼합 DBCS처럼 SO/SI로 상태가 바뀌는 인코딩은 바이트만으로 글자 경계를 알 수 없어 지원하지 않음)
+ */
+final class TelegramEncoding {
+
+    private static final int SINGLE_BYTE = 0;
+    private static final int DOUBLE_BYTE = 1;
+    private static final int UTF_8 = 2;
+
+    // 다른 글자의 둘째 이후 바이트가 될 수 없는 값의 상한 (EUC-KR/MS949는 0x41 이상, UTF-8은 0x80 이상만 둘째 바이트)
+    private static final int STANDALONE_LIMIT = 0x41;
+    private static final int FILL_RUN = 64;
+
+    private final String name;
+    private final int kind;
+    // 공백, '0'의 바이트 값
+    final byte pad;
+    final byte zero;
+    // '*'를 FILL_RUN바이트 채운 배열 (필드처럼 짧은 범위는 Arrays.fill보다 이 배열을 복사하는 편이 빠름)
+    final byte[] fillRun = new byte[FILL_RUN];
+    // 첫 바이트(0~255) -> 글자의 바이트 수 (분기 없이 조회)
+    private final byte[] charLengths = new byte[256];
+
+    private TelegramEncoding(String name, int kind, byte fill, byte pad, byte zero) {
+        this.name = name;
+        this.kind = kind;
+        this.pad = pad;
+        this.zero = zero;
+        Arrays.fill(fillRun, fill);
+        for (int b = 0; b < 256; b++) {
+            charLengths[b] = (byte) computeCharLength(b);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 알 수 없거나 지원하지 않는 인코딩
+     */
+    static TelegramEncoding of(String name) {
+        Charset charset = Charset.forName(name); // 알 수 없는 이름은 IllegalArgumentException
+        byte[] fill = "*".getBytes(charset);
+        byte[] pad = " ".getBytes(charset);
+        byte[] zero = "0".getBytes(charset);
+        if (fill.length != 1 || pad.length != 1 || zero.length != 1) {
+            throw new IllegalArgumentException("Unsupported telegram encoding: " + name
+                + " ('*', ' ' and '0' must be single bytes)");
+        }
+
+        int kind;
+        if (charset.newEncoder().maxBytesPerChar() == 1.0f) {
+            kind = SINGLE_BYTE;
+        } else if (charset.equals(StandardCharsets.UTF_8)) {
+            kind = UTF_8;
+        } else if ("EUC-KR".equals(charset.name()) || "x-windows-949".equals(charset.name())) {
+            kind = DOUBLE_BYTE;
+        } else {
+            throw new IllegalArgumentException("Unsupported telegram encoding: " + name
+                + " (supported: single-byte charsets, EUC-KR, MS949, UTF-8)");
+        }
+        return new TelegramEncoding(charset.name(), kind, fill[0], pad[0], zero[0]);
+    }
+
+    /**
+     * @param lead 글자의 첫 바이트
+     * @return 글자의 바이트 수
+     */
+    int charLength(byte lead) {
+        return charLengths[lead & 0xFF];
+    }
+
+    /**
+     * @return 앞 바이트와 관계없이 항상 한 바이트 글자인 값이면 true (숫자, 공백, '-' 등)
+     */
+    boolean isStandalone(byte b) {
+        return kind == SINGLE_BYTE || (b & 0xFF) < STANDALONE_LIMIT;
+    }
+
+    private int computeCharLength(int b) {
+        if (b < 0x80 || kind == SINGLE_BYTE) {
+            return 1;
+        }
+        if (kind == DOUBLE_BYTE) {
+            return b >= 0x81 ? 2 : 1;
+        }
+        // UTF-8 (이어지는 바이트로 시작하는 깨진 값은 한 바이트씩)
+        return b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : b >= 0xC0 ? 2 : 1;
+    }
+
+    String getName() {
+        return name;
+    }
+}
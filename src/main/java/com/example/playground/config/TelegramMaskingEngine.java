@@ -0,0 +1,269 @@
+package com.example.playground.config;
+
+import com.example.playground.config.masker.FixedLengthMask;
+import com.example.playground.config.masker.MaskerRegistry;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * 고정 길이 바이트 전문(masking.telegrams)을 디코딩하지 않고 제자리에서 마스킹하는 엔진
+ *
+ * 레이아웃에 정의된 필드의 바이트 범위만 '*'로 덮어쓰고 나머지 바이트는 건드리지 않으므로,
+ * 전문을 문자열이나 Map으로 바꾸는 비용 없이 마스킹 대상 필드 길이에 비례하는 작업만 합니다.
+ * 필드 값의 뒤쪽 공백(패딩)은 값으로 보지 않으며, 공백뿐인 필드는 마스킹하지 않습니다. (JSON의 null/빈 문자열과 같음)
+ *
+ * 레이아웃은 기동 시에만 컴파일합니다. (masking.reload로 다시 읽는 대상은 masking.mappings뿐)
+ * 전문이 레이아웃보다 짧거나 반복 횟수 필드가 잘못되었으면 IllegalArgumentException을 던지며,
+ * 이때 전문은 일부만 마스킹된 상태일 수 있으므로 그대로 내보내면 안 됩니다.
+ */
+@Component
+public class TelegramMaskingEngine {
+
+    private final Map<String, TelegramPlan> plans;
+    private final MaskingMetrics.EngineMeters meters;
+
+    // 생성자 주입 (레이아웃이 잘못되었거나 등록되지 않은 maskingType이 있으면 기동 실패)
+    public TelegramMaskingEngine(MaskingProperties maskingProperties, MaskerRegistry maskerRegistry,
+                                 MaskingMetrics maskingMetrics) {
+        this.plans = TelegramPlan.compileAll(maskingProperties.getTelegrams(), maskerRegistry);
+        this.meters = maskingMetrics.engine(MaskingMetrics.ENGINE_TELEGRAM);
+    }
+
+    /**
+     * @return mciId의 전문 레이아웃 (없으면 null)
+     */
+    public TelegramPlan getPlan(String mciId) {
+        return plans.get(mciId);
+    }
+
+    /**
+     * 전문 전체를 제자리에서 마스킹합니다.
+     * @return 마스킹한 필드 수 (레이아웃이 없는 mciId는 0)
+     */
+    public int mask(String mciId, byte[] telegram) {
+        return mask(mciId, telegram, 0, telegram.length);
+    }
+
+    /**
+     * 배열의 일부(offset부터 length 바이트)에 담긴 전문 하나를 제자리에서 마스킹합니다.
+     * @return 마스킹한 필드 수 (레이아웃이 없는 mciId는 0)
+     */
+    public int mask(String mciId, byte[] buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length
+                + ", buffer length=" + buffer.length);
+        }
+        TelegramPlan plan = plans.get(mciId);
+        return plan == null ? 0 : mask(plan, new ArrayBytes(buffer, offset), length);
+    }
+
+    /**
+     * 버퍼의 position부터 limit까지 담긴 전문 하나를 제자리에서 마스킹합니다. (position/limit은 바뀌지 않음)
+     * 힙 버퍼는 내부 배열을 직접 쓰고, 다이렉트 버퍼는 절대 위치 get/put으로 씁니다.
+     * @return 마스킹한 필드 수 (레이아웃이 없는 mciId는 0)
+     */
+    public int mask(String mciId, ByteBuffer telegram) {
+        TelegramPlan plan = plans.get(mciId);
+        if (plan == null) {
+            return 0;
+        }
+        if (telegram.hasArray()) {
+            return mask(plan, new ArrayBytes(telegram.array(), telegram.arrayOffset() + telegram.position()),
+                telegram.remaining());
+        }
+        return mask(plan, new BufferBytes(telegram, telegram.position()), telegram.remaining());
+    }
+
+    private int mask(TelegramPlan plan, Bytes bytes, int length) {
+        if (length < plan.getLength()) {
+            throw new IllegalArgumentException("Telegram " + plan.getMciId() + " is " + length
+                + " bytes, layout needs at least " + plan.getLength());
+        }
+        long start = System.nanoTime();
+        TraversalStats stats = new TraversalStats();
+        maskScope(plan.getRoot(), bytes, 0, length, 0, stats);
+
+        meters.record(plan.getMciId(), start, stats.entries, stats.masked, 0, stats.entries, stats.maxDepth);
+        return stats.masked;
+    }
+
+    /**
+     * 전문(또는 반복 그룹 한 건)의 마스킹 대상 필드를 모두 마스킹합니다.
+     * @param base Scope가 시작하는 전문 내 위치
+     */
+    private void maskScope(TelegramPlan.Scope scope, Bytes bytes, int base, int length, int depth,
+                           TraversalStats stats) {
+        stats.visit(scope.fieldCount(), depth);
+        int[] starts = scope.starts;
+        int[] lengths = scope.lengths;
+        for (int i = 0; i < starts.length; i++) {
+            if (maskField(bytes, base + starts[i], lengths[i], scope.masks[i], scope.encodings[i])) {
+                stats.masked++;
+            }
+        }
+
+        for (TelegramPlan.Group group : scope.groups) {
+            int count = readCount(group, bytes, base);
+            int groupStart = base + group.start;
+            if (groupStart + (long) count * group.stride > length) {
+                throw new IllegalArgumentException("Telegram " + group.path + " has " + count
+                    + " occurrences, but only " + length + " bytes were given");
+            }
+            for (int i = 0; i < count; i++) {
+                maskScope(group.scope, bytes, groupStart + i * group.stride, length, depth + 1, stats);
+            }
+        }
+    }
+
+    // 반복 횟수 필드 (첫 숫자 앞의 공백만 허용, 숫자만)
+    private static int readCount(TelegramPlan.Group group, Bytes bytes, int base) {
+        TelegramEncoding encoding = group.countEncoding;
+        int from = base + group.countStart;
+        int to = from + group.countLength;
+        int count = 0;
+        boolean digits = false;
+        for (int i = from; i < to; i++) {
+            byte b = bytes.get(i);
+            int digit = b - encoding.zero;
+            if (b == encoding.pad && !digits) {
+                continue;
+            }
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Telegram " + group.path + " count is not a number");
+            }
+            count = count * 10 + digit;
+            digits = true;
+        }
+        if (count > group.maxOccurs) {
+            throw new IllegalArgumentException("Telegram " + group.path + " count " + count
+                + " exceeds occurs " + group.maxOccurs);
+        }
+        return count;
+    }
+
+    /**
+     * 필드 하나의 가릴 범위를 '*'로 덮어씁니다.
+     * @return 마스킹했으면 true (공백뿐인 필드는 false)
+     */
+    private static boolean maskField(Bytes bytes, int from, int length, FixedLengthMask mask,
+                                     TelegramEncoding encoding) {
+        // 1. 뒤쪽 패딩 제외
+        int end = from + length;
+        byte pad = encoding.pad;
+        while (end > from && bytes.get(end - 1) == pad) {
+            end--;
+        }
+        if (end == from) {
+            return false;
+        }
+
+        // 2. 가릴 범위
+        switch (mask) {
+            case RLNO:
+                bytes.fill(lastChars(bytes, from, end, 7, encoding), end, encoding.fillRun);
+                break;
+            case NAME:
+                maskName(bytes, from, end, encoding);
+                break;
+            default:
+                bytes.fill(from, end, encoding.fillRun);
+        }
+        return true;
+    }
+
+    // 첫 글자와 마지막 글자를 남김 (2글자면 첫 글자만, 1글자면 전체)
+    private static void maskName(Bytes bytes, int from, int end, TelegramEncoding encoding) {
+        int secondChar = Math.min(end, from + encoding.charLength(bytes.get(from)));
+        if (secondChar == end) {
+            bytes.fill(from, end, encoding.fillRun); // 한 글자
+            return;
+        }
+        int lastChar = secondChar;
+        for (int i = secondChar; i < end; i += encoding.charLength(bytes.get(i))) {
+            lastChar = i;
+        }
+        bytes.fill(secondChar, lastChar == secondChar ? end : lastChar, encoding.fillRun);
+    }
+
+    // 뒤에서 n번째 글자의 시작 위치 (글자 수가 n 이하이면 from)
+    private static int lastChars(Bytes bytes, int from, int end, int n, TelegramEncoding encoding) {
+        // 마지막 n바이트가 모두 항상 한 바이트인 글자(숫자 등)이면 그대로 n글자
+        if (end - from <= n) {
+            return from;
+        }
+        int tail = end - n;
+        while (tail < end && encoding.isStandalone(bytes.get(tail))) {
+            tail++;
+        }
+        if (tail == end) {
+            return end - n;
+        }
+
+        // 그 밖에는 글자 경계를 앞에서부터만 알 수 있으므로 글자 수를 센 뒤 (글자 수 - n)글자만큼 다시 이동
+        int chars = 0;
+        for (int i = from; i < end; i += encoding.charLength(bytes.get(i))) {
+            chars++;
+        }
+        int position = from;
+        for (int skip = chars - n; skip > 0; skip--) {
+            position += encoding.charLength(bytes.get(position));
+        }
+        return Math.min(position, end);
+    }
+
+    /**
+     * 전문 바이트 접근 (위치는 전문 시작 기준)
+     */
+    private abstract static class Bytes {
+        abstract byte get(int index);
+
+        // run(같은 값으로 채운 배열)을 반복 복사해 from~to를 채움
+        abstract void fill(int from, int to, byte[] run);
+    }
+
+    private static final class ArrayBytes extends Bytes {
+        private final byte[] array;
+        private final int offset;
+
+        ArrayBytes(byte[] array, int offset) {
+            this.array = array;
+            this.offset = offset;
+        }
+
+        @Override
+        byte get(int index) {
+            return array[offset + index];
+        }
+
+        @Override
+        void fill(int from, int to, byte[] run) {
+            for (int i = from; i < to; i += run.length) {
+                System.arraycopy(run, 0, array, offset + i, Math.min(run.length, to - i));
+            }
+        }
+    }
+
+    private static final class BufferBytes extends Bytes {
+        private final ByteBuffer buffer;
+        private final int offset;
+
+        BufferBytes(ByteBuffer buffer, int offset) {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        @Override
+        byte get(int index) {
+            return buffer.get(offset + index);
+        }
+
+        @Override
+        void fill(int from, int to, byte[] run) {
+            for (int i = from; i < to; i += run.length) {
+                buffer.put(offset + i, run, 0, Math.min(run.length, to - i));
+            }
+        }
+    }
+}
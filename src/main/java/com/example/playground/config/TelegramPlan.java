@@ -0,0 +1,253 @@
+package com.example.playground.config;
+
+import com.example.playground.config.masker.FixedLengthMask;
+import com.example.playground.config.masker.Masker;
+import com.example.playground.config.masker.MaskerRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고정 길이 전문 레이아웃 하나(mciId)를 컴파일해 둔 불변 마스킹 계획 (TelegramMaskingEngine)
+ *
+ * 반복 횟수가 고정된 OCCURS 그룹은 컴파일 시점에 펼쳐서 마스킹할 필드 전체를 (시작 위치, 길이, 범위, 인코딩) 배열로 만들어 두고,
+ * 반복 횟수를 전문 안의 숫자 필드에서 읽는 그룹(countLength)만 요청마다 횟수를 읽어 한 건씩 반복합니다.
+ * maskingType은 JSON 룰과 같은 MaskerRegistry로 검증하므로 등록되지 않은 타입과 값 스캔 타입(type_scan)은 기동 단계에서 실패합니다.
+ */
+public final class TelegramPlan {
+
+    private final String mciId;
+    private final Scope root;
+    private final int depth;
+
+    private TelegramPlan(String mciId, Scope root, int depth) {
+        this.mciId = mciId;
+        this.root = root;
+        this.depth = depth;
+    }
+
+    /**
+     * yml에서 바인딩한 전문 레이아웃 전체를 컴파일합니다.
+     * @throws IllegalArgumentException 레이아웃이 잘못된 경우 (길이 누락, 그룹 범위를 벗어난 필드, 등록되지 않은 maskingType, type_scan 등)
+     */
+    public static Map<String, TelegramPlan> compileAll(Map<String, MaskingProperties.TelegramLayout> layouts,
+                                                        MaskerRegistry maskerRegistry) {
+        if (layouts == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, TelegramPlan> plans = new HashMap<>();
+        for (Map.Entry<String, MaskingProperties.TelegramLayout> entry : layouts.entrySet()) {
+            plans.put(entry.getKey(), compile(entry.getKey(), entry.getValue(), maskerRegistry));
+        }
+        return Collections.unmodifiableMap(plans);
+    }
+
+    public static TelegramPlan compile(String mciId, MaskingProperties.TelegramLayout layout,
+                                       MaskerRegistry maskerRegistry) {
+        if (layout.getFields() == null || layout.getFields().isEmpty()) {
+            throw new IllegalArgumentException("Telegram layout has no fields: " + mciId);
+        }
+        Compiler compiler = new Compiler(maskerRegistry);
+        Scope root = compiler.compileScope(layout.getFields(), TelegramEncoding.of(layout.getEncoding()), mciId, -1, 0);
+        return new TelegramPlan(mciId, root, compiler.maxDepth);
+    }
+
+    public String getMciId() {
+        return mciId;
+    }
+
+    /**
+     * @return 고정 필드(반복 횟수를 읽는 그룹 제외)가 차지하는 최소 전문 길이
+     */
+    public int getLength() {
+        return root.extent;
+    }
+
+    /**
+     * @return 컴파일 시점에 펼친 마스킹 대상 필드 수 (반복 횟수를 읽는 그룹의 필드 제외)
+     */
+    public int getFieldCount() {
+        return root.fieldCount();
+    }
+
+    /**
+     * @return OCCURS 그룹의 최대 중첩 깊이 (그룹이 없으면 0)
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    Scope getRoot() {
+        return root;
+    }
+
+    /**
+     * 전문(또는 반복 그룹 한 건) 안의 마스킹 대상
+     * starts 등의 위치는 Scope 시작 기준이며, 고정 반복 그룹의 필드는 이미 펼쳐져 있습니다.
+     */
+    static final class Scope {
+        final int[] starts;
+        final int[] lengths;
+        final FixedLengthMask[] masks;
+        final TelegramEncoding[] encodings;
+        final Group[] groups;
+        // 고정 필드가 차지하는 길이 (Scope 시작 기준 마지막 바이트 + 1)
+        final int extent;
+
+        Scope(int[] starts, int[] lengths, FixedLengthMask[] masks, TelegramEncoding[] encodings, Group[] groups,
+              int extent) {
+            this.starts = starts;
+            this.lengths = lengths;
+            this.masks = masks;
+            this.encodings = encodings;
+            this.groups = groups;
+            this.extent = extent;
+        }
+
+        int fieldCount() {
+            return starts.length;
+        }
+    }
+
+    /**
+     * 반복 횟수를 전문 안의 숫자 필드에서 읽는 OCCURS 그룹 (OCCURS n TIMES DEPENDING ON)
+     */
+    static final class Group {
+        final String path;
+        final int start;
+        final int stride;
+        final int countStart;
+        final int countLength;
+        final int maxOccurs;
+        final TelegramEncoding countEncoding;
+        final Scope scope;
+
+        Group(String path, int start, int stride, int countStart, int countLength, int maxOccurs,
+              TelegramEncoding countEncoding, Scope scope) {
+            this.path = path;
+            this.start = start;
+            this.stride = stride;
+            this.countStart = countStart;
+            this.countLength = countLength;
+            this.maxOccurs = maxOccurs;
+            this.countEncoding = countEncoding;
+            this.scope = scope;
+        }
+    }
+
+    private static final class Compiler {
+
+        private final MaskerRegistry maskerRegistry;
+        private int maxDepth;
+
+        Compiler(MaskerRegistry maskerRegistry) {
+            this.maskerRegistry = maskerRegistry;
+        }
+
+        /**
+         * @param bound 상위 그룹 한 건의 길이 (전문 최상위는 -1)
+         * @param depth 상위 OCCURS 그룹 수
+         */
+        Scope compileScope(List<MaskingProperties.TelegramField> fields, TelegramEncoding encoding, String path,
+                           int bound, int depth) {
+            ScopeBuilder builder = new ScopeBuilder();
+            add(builder, fields, 0, encoding, path, bound, depth);
+            return builder.build();
+        }
+
+        private void add(ScopeBuilder builder, List<MaskingProperties.TelegramField> fields, int base,
+                         TelegramEncoding inherited, String parentPath, int bound, int depth) {
+            for (MaskingProperties.TelegramField field : fields) {
+                String path = parentPath + "." + (field.getName() == null ? "@" + field.getOffset() : field.getName());
+                if (field.getOffset() < 0 || field.getLength() <= 0) {
+                    throw new IllegalArgumentException("Telegram field needs offset >= 0 and length > 0: " + path);
+                }
+                TelegramEncoding encoding = field.getEncoding() == null
+                    ? inherited : TelegramEncoding.of(field.getEncoding());
+                List<MaskingProperties.TelegramField> children = field.getFields();
+
+                if (children == null || children.isEmpty()) {
+                    // 1. 마스킹할 필드
+                    checkBound(path, field.getOffset() + field.getLength(), bound);
+                    if (field.getMaskingType() == null || field.getMaskingType().isBlank()) {
+                        throw new IllegalArgumentException("maskingType must not be empty: " + path);
+                    }
+                    Masker masker = maskerRegistry.get(field.getMaskingType());
+                    if (masker.isValueScanner()) {
+                        // 찾은 부분만 가리는 타입은 필드 길이를 유지하는 고정 범위 마스킹으로 표현할 수 없음
+                        throw new IllegalArgumentException("Value-scanning maskingType " + field.getMaskingType()
+                            + " is not supported for telegram fields: " + path);
+                    }
+                    builder.field(base + field.getOffset(), field.getLength(), masker.fixedLengthMask(), encoding);
+                    continue;
+                }
+
+                if (field.getMaskingType() != null) {
+                    throw new IllegalArgumentException("OCCURS group must not have a maskingType: " + path);
+                }
+                if (field.getOccurs() <= 0) {
+                    throw new IllegalArgumentException("OCCURS group needs occurs > 0: " + path);
+                }
+                checkBound(path, field.getOffset() + (long) field.getLength() * field.getOccurs(), bound);
+                maxDepth = Math.max(maxDepth, depth + 1);
+
+                if (field.getCountLength() > 0) {
+                    // 2. 반복 횟수를 전문에서 읽는 그룹 (한 건의 마스킹 대상은 따로 컴파일)
+                    checkBound(path + " count", field.getCountOffset() + field.getCountLength(), bound);
+                    Scope scope = compileScope(children, encoding, path, field.getLength(), depth + 1);
+                    builder.group(new Group(path, base + field.getOffset(), field.getLength(),
+                        base + field.getCountOffset(), field.getCountLength(), field.getOccurs(), encoding, scope),
+                        base + Math.max(field.getOffset(), field.getCountOffset() + field.getCountLength()));
+                } else {
+                    // 3. 고정 반복 그룹은 펼침
+                    for (int i = 0; i < field.getOccurs(); i++) {
+                        add(builder, children, base + field.getOffset() + i * field.getLength(), encoding, path,
+                            field.getLength(), depth + 1);
+                    }
+                }
+            }
+        }
+
+        private void checkBound(String path, long end, int bound) {
+            if (bound >= 0 && end > bound) {
+                throw new IllegalArgumentException("Telegram field exceeds its OCCURS group (" + end + " > "
+                    + bound + " bytes): " + path);
+            }
+        }
+    }
+
+    private static final class ScopeBuilder {
+        private final List<int[]> fields = new ArrayList<>();
+        private final List<FixedLengthMask> masks = new ArrayList<>();
+        private final List<TelegramEncoding> encodings = new ArrayList<>();
+        private final List<Group> groups = new ArrayList<>();
+        private int extent;
+
+        void field(int start, int length, FixedLengthMask mask, TelegramEncoding encoding) {
+            fields.add(new int[]{start, length});
+            masks.add(mask);
+            encodings.add(encoding);
+            extent = Math.max(extent, start + length);
+        }
+
+        // 그룹 자체는 길이가 요청마다 달라지므로 횟수 필드와 그룹 시작 위치까지만 고정 길이로 봄
+        void group(Group group, int fixedEnd) {
+            groups.add(group);
+            extent = Math.max(extent, fixedEnd);
+        }
+
+        Scope build() {
+            int[] starts = new int[fields.size()];
+            int[] lengths = new int[fields.size()];
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = fields.get(i)[0];
+                lengths[i] = fields.get(i)[1];
+            }
+            return new Scope(starts, lengths, masks.toArray(new FixedLengthMask[0]),
+                encodings.toArray(new TelegramEncoding[0]), groups.toArray(new Group[0]), extent);
+        }
+    }
+}
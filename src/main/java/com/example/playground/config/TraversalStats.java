@@ -0,0 +1,125 @@
+package com.example.playground.config;
+
+/**
+ * 마스킹 호출 한 번 동안의 수치 (지표 기록은 호출이 끝날 때 한 번만 수행)
+ *
+ * 룰별 수치는 MaskingRuleProfiler가 샘플로 고른 호출에서만 배열을 할당해 모으며,
+ * 샘플이 아닌 호출은 ruleStart/ruleHit가 아무 일도 하지 않습니다.
+ */
+final class TraversalStats {
+    int masked;
+    int failed;
+    int entries;
+    int maxDepth;
+
+    // 룰별 수치 (인덱스 = CompiledRule.getIndex(), 샘플이 아닌 호출이면 null)
+    private final int[] ruleMatched;
+    private final int[] ruleMasked;
+    private final int[] ruleFailed;
+    private final long[] ruleNanos;
+
+    TraversalStats() {
+        this.ruleMatched = null;
+        this.ruleMasked = null;
+        this.ruleFailed = null;
+        this.ruleNanos = null;
+    }
+
+    /**
+     * 룰별 수치도 모으는 인스턴스를 만듭니다.
+     * @param ruleCount 계획의 룰 수
+     */
+    TraversalStats(int ruleCount) {
+        this.ruleMatched = new int[ruleCount];
+        this.ruleMasked = new int[ruleCount];
+        this.ruleFailed = new int[ruleCount];
+        this.ruleNanos = new long[ruleCount];
+    }
+
+    /**
+     * 마스킹 탐색이 객체 하나를 방문할 때 호출합니다.
+     * @param size 객체의 항목 수
+     * @param depth 최상위 객체를 1로 하는 중첩 깊이
+     */
+    void visit(int size, int depth) {
+        entries += size;
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+    }
+
+    boolean isSampled() {
+        return ruleMatched != null;
+    }
+
+    /**
+     * @return 룰 하나를 값에 적용하기 직전의 시각 (샘플이 아니면 시계를 읽지 않고 0)
+     */
+    long ruleStart() {
+        return ruleMatched != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * 룰이 끝나는 위치의 값(null 제외)에 룰을 적용한 결과를 기록합니다.
+     * @param startNanos ruleStart()의 반환값
+     * @param masked 값을 교체했는지 여부
+     * @param failed 예외가 발생했는지 여부
+     */
+    void ruleHit(MaskingPlan.CompiledRule rule, long startNanos, boolean masked, boolean failed) {
+        if (ruleMatched == null) {
+            return;
+        }
+        int index = rule.getIndex();
+        ruleMatched[index]++;
+        if (masked) {
+            ruleMasked[index]++;
+        }
+        if (failed) {
+            ruleFailed[index]++;
+        }
+        ruleNanos[index] += System.nanoTime() - startNanos;
+    }
+
+    int ruleMatched(int index) {
+        return ruleMatched[index];
+    }
+
+    int ruleMasked(int index) {
+        return ruleMasked[index];
+    }
+
+    int ruleFailed(int index) {
+        return ruleFailed[index];
+    }
+
+    long ruleNanos(int index) {
+        return ruleNanos[index];
+    }
+
+    /**
+     * 병렬로 나눠 처리할 구간용 인스턴스를 만듭니다. (샘플 여부는 그대로 이어받음)
+     */
+    TraversalStats fork() {
+        return ruleMatched == null ? new TraversalStats() : new TraversalStats(ruleMatched.length);
+    }
+
+    /**
+     * 병렬로 나눠 처리한 구간의 수치를 합칩니다. (구간마다 fork()로 만든 인스턴스를 쓰고 join 후 호출)
+     */
+    void add(TraversalStats other) {
+        masked += other.masked;
+        failed += other.failed;
+        entries += other.entries;
+        if (other.maxDepth > maxDepth) {
+            maxDepth = other.maxDepth;
+        }
+        if (ruleMatched != null && other.ruleMatched != null) {
+            for (int i = 0; i < ruleMatched.length; i++) {
+                ruleMatched[i] += other.ruleMatched[i];
+                ruleMasked[i] += other.ruleMasked[i];
+                ruleFailed[i] += other.ruleFailed[i];
+                ruleNanos[i] += other.ruleNanos[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.playground.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업마다 가상 스레드를 하나씩 쓰는 ExecutorService를 만듭니다.
+ *
+ * 빌드 툴체인은 Java 17이므로 Executors.newVirtualThreadPerTaskExecutor()를 직접 호출할 수 없어
+ * 리플렉션으로 찾고, 실행 JVM이 21 미만이면 같은 방식(작업마다 스레드, 개수 제한 없음)의 데몬 스레드 풀로 대체합니다.
+ */
+@Slf4j
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @param namePrefix 가상 스레드를 쓸 수 없을 때 만드는 플랫폼 스레드의 이름 접두어
+     */
+    public static ExecutorService newPerTaskExecutor(String namePrefix) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads are not available on Java {}, using platform threads for {}",
+                Runtime.version().feature(), namePrefix);
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return 실행 JVM에서 가상 스레드를 쓸 수 있으면 true
+     */
+    public static boolean isAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
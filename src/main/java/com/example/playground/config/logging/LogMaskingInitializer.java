@@ -0,0 +1,79 @@
+package com.example.playground.config.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import ch.qos.logback.core.pattern.PatternLayoutBase;
+import com.example.playground.config.MaskedPropertyModule;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * yml의 masking.log.sensitive-keys로 로그 마스커를 컴파일해 Logback 쪽에 적용합니다.
+ * (Logback 컨버터는 스프링 빈이 아니므로 LogMessageMasker, MaskedLogArgument의 정적 참조를 교체)
+ *
+ * 로그 설정 파일(logback-spring.xml)을 두지 않고 스프링 부트 기본 설정(콘솔, logging.file.* 지정 시 파일)을 그대로 쓰면서
+ * 메시지(%m, %msg, %message) 출력만 MaskingMessageConverter로 바꿉니다.
+ */
+@Component
+public class LogMaskingInitializer {
+
+    private static final List<String> MESSAGE_CONVERSION_WORDS = List.of("m", "msg", "message");
+
+    public LogMaskingInitializer(MaskingProperties maskingProperties, ObjectMapper objectMapper,
+                                 MaskerRegistry maskerRegistry) {
+        LogMessageMasker.install(LogMessageMasker.of(maskingProperties.getLog().getSensitiveKeys()));
+        MaskedLogArgument.install(objectMapper.copy().registerModule(new MaskedPropertyModule(maskerRegistry)));
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+            registerConversionRules(context);
+        }
+    }
+
+    /**
+     * 메시지 변환 규칙을 MaskingMessageConverter로 등록하고, 이미 시작된 패턴 레이아웃을 다시 시작해 적용합니다.
+     * (스프링 부트가 로그 시스템을 초기화할 때마다 컨텍스트가 초기화되므로 빈 생성 시점에 등록)
+     */
+    @SuppressWarnings("unchecked")
+    public static void registerConversionRules(LoggerContext context) {
+        // 1. 컨텍스트 공용 규칙 (스프링 부트의 clr, wEx 등과 같은 맵 사용)
+        Map<String, Supplier<?>> registry =
+            (Map<String, Supplier<?>>) context.getObject(CoreConstants.PATTERN_RULE_REGISTRY_FOR_SUPPLIERS);
+        if (registry == null) {
+            registry = new HashMap<>();
+            context.putObject(CoreConstants.PATTERN_RULE_REGISTRY_FOR_SUPPLIERS, registry);
+        }
+        for (String word : MESSAGE_CONVERSION_WORDS) {
+            registry.put(word, MaskingMessageConverter::new);
+        }
+
+        // 2. 패턴은 레이아웃 시작 시 한 번만 해석되므로 붙어 있는 출력 appender의 레이아웃을 다시 시작
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                restartLayout(appenders.next());
+            }
+        }
+    }
+
+    private static void restartLayout(Appender<?> appender) {
+        if (appender instanceof OutputStreamAppender<?> output
+            && output.getEncoder() instanceof LayoutWrappingEncoder<?> encoder
+            && encoder.getLayout() instanceof PatternLayoutBase<?> layout && layout.isStarted()) {
+            layout.stop();
+            layout.start();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.playground.config.logging;
+
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.service.Impl.SensitiveKeyMatcher;
+
+import java.util.Collection;
+
+/**
+ * 로그 메시지 안의 "민감 키 + 값" 쌍을 찾아 값만 마스킹합니다. (컴파일 후 불변, 스레드 간 공유 가능)
+ *
+ * 아래 형식을 모두 한 번의 순회로 처리합니다.
+ *   Map.toString()   {custNm=홍길동, rlno=9007021234567}   →  {custNm=****, rlno=****}
+ *   JSON             {"rlno":"9007021234567"}               →  {"rlno":"****"}
+ *   Lombok toString  LombokMutableDto(name=홍길동, age=3)   →  LombokMutableDto(name=****, age=3)
+ *
+ * 키는 SensitiveKeyMatcher(트라이)로 글자를 읽는 즉시 판별하므로 키 수와 관계없이 메시지 길이에 선형이며,
+ * 민감 키가 하나도 없으면 새 문자열을 만들지 않고 입력을 그대로 반환합니다.
+ * 따옴표 없는 값은 구분자(, ; & ) } ] 줄바꿈)까지를 값으로 보므로, 공백이 섞인 값도 한 번에 마스킹됩니다.
+ */
+public final class LogMessageMasker {
+
+    static final String MASKED_VALUE = "****";
+
+    // 로그백 설정이 스프링보다 먼저 올라오므로 기본 키로 시작하고, 기동 후 yml 설정으로 교체 (LogMaskingInitializer)
+    private static volatile LogMessageMasker active = of(new MaskingProperties.Log().getSensitiveKeys());
+
+    private final SensitiveKeyMatcher sensitiveKeys;
+
+    private LogMessageMasker(SensitiveKeyMatcher sensitiveKeys) {
+        this.sensitiveKeys = sensitiveKeys;
+    }
+
+    /**
+     * @param keys 값을 마스킹할 키 목록 (대소문자 무시)
+     */
+    public static LogMessageMasker of(Collection<String> keys) {
+        return new LogMessageMasker(SensitiveKeyMatcher.of(keys));
+    }
+
+    /**
+     * @return 로그 출력(MaskingMessageConverter, MaskedLogArgument)에 사용 중인 마스커
+     */
+    public static LogMessageMasker active() {
+        return active;
+    }
+
+    static void install(LogMessageMasker masker) {
+        active = masker;
+    }
+
+    /**
+     * @return 민감 키의 값을 마스킹한 메시지 (마스킹할 값이 없으면 message 그대로)
+     */
+    public String mask(String message) {
+        if (message == null) {
+            return null;
+        }
+        int length = message.length();
+        StringBuilder out = null;
+        int copied = 0;
+        int i = 0;
+        while (i < length) {
+            if (!isKeyChar(message.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            // 1. 키 (영문/숫자/_ 연속 구간) - 읽는 동안 트라이 상태를 옮김
+            int state = SensitiveKeyMatcher.ROOT;
+            int keyEnd = i;
+            while (keyEnd < length && isKeyChar(message.charAt(keyEnd))) {
+                state = sensitiveKeys.next(state, message.charAt(keyEnd));
+                keyEnd++;
+            }
+            i = keyEnd;
+            if (!sensitiveKeys.isMatch(state)) {
+                continue;
+            }
+
+            // 2. 구분자 ("key": / key= / key : 등)
+            int cursor = keyEnd;
+            if (cursor < length && message.charAt(cursor) == '"') {
+                cursor++;
+            }
+            cursor = skipBlanks(message, cursor);
+            if (cursor >= length || (message.charAt(cursor) != '=' && message.charAt(cursor) != ':')) {
+                continue;
+            }
+            cursor = skipBlanks(message, cursor + 1);
+            if (cursor >= length) {
+                continue;
+            }
+
+            // 3. 값 범위
+            int valueStart;
+            int valueEnd;
+            char first = message.charAt(cursor);
+            if (first == '{' || first == '[') {
+                continue; // 중첩 객체/배열은 안쪽 키를 각각 판별
+            } else if (first == '"') {
+                valueStart = cursor + 1;
+                valueEnd = closingQuote(message, valueStart);
+            } else {
+                valueStart = cursor;
+                valueEnd = scalarEnd(message, valueStart);
+            }
+            if (valueEnd > valueStart) {
+                if (out == null) {
+                    out = new StringBuilder(length + 16);
+                }
+                out.append(message, copied, valueStart).append(MASKED_VALUE);
+                copied = valueEnd;
+            }
+            i = valueEnd;
+        }
+
+        if (out == null) {
+            return message;
+        }
+        return out.append(message, copied, length).toString();
+    }
+
+    /**
+     * 값 유무와 관계없이 민감 키와 같은 단어가 있는지만 봅니다. (로그 패턴의 "custNm={}"처럼 값이 인자로 채워지는 경우 포함)
+     * @return text에 민감 키가 하나라도 있으면 true
+     */
+    public boolean containsSensitiveKey(String text) {
+        if (text == null) {
+            return false;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            if (!isKeyChar(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int state = SensitiveKeyMatcher.ROOT;
+            while (i < length && isKeyChar(text.charAt(i))) {
+                state = sensitiveKeys.next(state, text.charAt(i));
+                i++;
+            }
+            if (sensitiveKeys.isMatch(state)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isKeyChar(char c) {
+        if (c < 0x80) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+        }
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static int skipBlanks(String message, int index) {
+        while (index < message.length() && (message.charAt(index) == ' ' || message.charAt(index) == '\t')) {
+            index++;
+        }
+        return index;
+    }
+
+    // 이스케이프된 따옴표(\")는 건너뜀, 닫는 따옴표가 없으면 메시지 끝까지
+    private static int closingQuote(String message, int index) {
+        while (index < message.length()) {
+            char c = message.charAt(index);
+            if (c == '\\') {
+                index += 2;
+            } else if (c == '"') {
+                return index;
+            } else {
+                index++;
+            }
+        }
+        return message.length();
+    }
+
+    // 값 뒤쪽 공백은 마스킹 범위에서 제외 (구분자 앞 공백 유지)
+    private static int scalarEnd(String message, int index) {
+        int end = index;
+        while (end < message.length()) {
+            char c = message.charAt(end);
+            if (c == ',' || c == ';' || c == '&' || c == ')' || c == '}' || c == ']' || c == '\r' || c == '\n') {
+                break;
+            }
+            end++;
+        }
+        while (end > index && message.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return end;
+    }
+}
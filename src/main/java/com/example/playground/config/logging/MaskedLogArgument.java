@@ -0,0 +1,59 @@
+package com.example.playground.config.logging;
+
+import com.example.playground.config.MaskedPropertyModule;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeanUtils;
+
+import java.util.Map;
+
+/**
+ * 로그 인자를 실제로 출력할 때만 문자열로 만들고 민감 키 값을 마스킹하는 래퍼
+ *
+ * 예) log.info("Test API {}", MaskedLogArgument.of(requestBody));
+ *
+ * SLF4J는 로그 레벨이 꺼져 있으면 인자의 toString()을 호출하지 않으므로
+ * 큰 payload를 넘겨도 출력되지 않는 로그에는 직렬화/마스킹 비용이 들지 않습니다.
+ * (log.info("{}", payload.toString())처럼 미리 문자열로 만들면 레벨과 관계없이 비용이 듦)
+ *
+ * 문자열, Map, 숫자 같은 단순 값이 아닌 객체(DTO 등)는 toString() 대신 @Masked를 적용하는 ObjectMapper로 JSON을 만들어
+ * 응답과 같은 마스킹이 로그에도 적용됩니다. (Lombok toString은 @Masked 필드를 원본 그대로 출력함)
+ */
+public final class MaskedLogArgument {
+
+    // 스프링 기동 전에는 기본 제공 마스커를 사용하고, 기동 후 공용 ObjectMapper 설정으로 교체 (LogMaskingInitializer)
+    private static volatile ObjectMapper objectMapper =
+        new ObjectMapper().registerModule(new MaskedPropertyModule(MaskerRegistry.defaults()));
+
+    private final Object value;
+
+    private MaskedLogArgument(Object value) {
+        this.value = value;
+    }
+
+    public static MaskedLogArgument of(Object value) {
+        return new MaskedLogArgument(value);
+    }
+
+    static void install(ObjectMapper maskedObjectMapper) {
+        objectMapper = maskedObjectMapper;
+    }
+
+    @Override
+    public String toString() {
+        return LogMessageMasker.active().mask(render(value));
+    }
+
+    private static String render(Object value) {
+        if (value == null || value instanceof Map || BeanUtils.isSimpleValueType(value.getClass())) {
+            return String.valueOf(value);
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            // 직렬화할 수 없는 객체(속성 없는 클래스 등)는 toString() 결과를 키 기준으로만 마스킹
+            return String.valueOf(value);
+        }
+    }
+}
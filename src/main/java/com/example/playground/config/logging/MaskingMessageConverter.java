@@ -0,0 +1,52 @@
+package com.example.playground.config.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.List;
+
+/**
+ * 로그 패턴의 %m(%msg, %message)을 대신해 메시지의 민감 키 값을 마스킹하는 Logback 컨버터 (LogMaskingInitializer가 등록)
+ *
+ * 옵션으로 키를 지정하면(%m{rlno,custNm}) 기동 시 한 번 컴파일한 마스커를 사용하고,
+ * 지정하지 않으면 yml의 masking.log.sensitive-keys로 만든 마스커를 사용합니다.
+ * MaskedLogArgument로 넘긴 인자가 아닌 일반 로그(예외 메시지, 다른 라이브러리 로그 등)에도 적용됩니다.
+ * 인자가 모두 MaskedLogArgument면 인자는 이미 마스킹되었으므로, 로그 패턴 문자열에 민감 키가 없을 때는 다시 마스킹하지 않습니다.
+ */
+public class MaskingMessageConverter extends MessageConverter {
+
+    // 패턴 옵션으로 키를 지정한 경우에만 사용 (없으면 null)
+    private LogMessageMasker optionMasker;
+
+    @Override
+    public void start() {
+        List<String> keys = getOptionList();
+        if (keys != null && !keys.isEmpty()) {
+            optionMasker = LogMessageMasker.of(keys);
+        }
+        super.start();
+    }
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        if (optionMasker == null && onlyMaskedArguments(event.getArgumentArray())
+            && !LogMessageMasker.active().containsSensitiveKey(event.getMessage())) {
+            // 큰 payload를 MaskedLogArgument와 여기서 두 번 훑지 않음 (같은 마스커로 이미 마스킹됨)
+            return event.getFormattedMessage();
+        }
+        LogMessageMasker masker = optionMasker != null ? optionMasker : LogMessageMasker.active();
+        return masker.mask(event.getFormattedMessage());
+    }
+
+    private static boolean onlyMaskedArguments(Object[] arguments) {
+        if (arguments == null || arguments.length == 0) {
+            return false;
+        }
+        for (Object argument : arguments) {
+            if (!(argument instanceof MaskedLogArgument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.playground.config.masker;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * type_account: 계좌번호 (전체 치환)
+ */
+@Component
+public class AccountMasker extends ProtectedValueMasker {
+
+    @Override
+    public String type() {
+        return "type_account";
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.playground.config.masker;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * type_address: 주소
+ * 첫 번째 숫자 앞부분(도로명 등)은 유지하고 숫자부터 끝까지를 "****"로 바꿉니다.
+ * 예: 서울시 강남구 테헤란로 123 -> 서울시 강남구 테헤란로 ****
+ */
+@Component
+public class AddressMasker implements Masker {
+
+    private static final int MASK_LENGTH = 4;
+
+    // 주소가 숫자로 시작하면 (예: "123 서울시...") 전체 마스킹
+    private static final String FULLY_MASKED = "********";
+
+    @Override
+    public String type() {
+        return "type_address";
+    }
+
+    @Override
+    public String mask(String original) {
+        // 1. 주소에서 첫 번째 숫자를 찾습니다. (정규식 \d와 같은 ASCII 숫자)
+        int index = 0;
+        int length = original.length();
+        while (index < length) {
+            char c = original.charAt(index);
+            if (c >= '0' && c <= '9') {
+                break;
+            }
+            index++;
+        }
+
+        // 주소에 숫자가 아예 없으면 (예: "서울특별시 강남구") 원본 반환
+        if (index == length) {
+            return original;
+        }
+        if (index == 0) {
+            return FULLY_MASKED;
+        }
+
+        // 2. 숫자 앞부분은 유지하고, 숫자부터 끝까지 마스킹
+        char[] masked = new char[index + MASK_LENGTH];
+        original.getChars(0, index, masked, 0);
+        for (int i = index; i < masked.length; i++) {
+            masked[i] = '*';
+        }
+        return new String(masked);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.playground.config.masker;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * type_email: 이메일 (전체 치환)
+ */
+@Component
+public class EmailMasker extends ProtectedValueMasker {
+
+    @Override
+    public String type() {
+        return "type_email";
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.playground.config.masker;
+
+/**
+ * 고정 길이 전문 필드를 바이트 단위로 마스킹할 때 가릴 글자 범위 (TelegramMaskingEngine)
+ *
+ * 전문은 필드 길이가 바뀌면 안 되므로 문자열 마스커처럼 고정 문자열로 바꾸지 않고, 가릴 글자의 바이트를 모두 '*'로 채웁니다.
+ * (예: MS949 "홍길동" -> "홍**동", 2바이트 글자 하나가 '*' 두 개) 뒤쪽 패딩 공백은 값으로 보지 않습니다.
+ */
+public enum FixedLengthMask {
+
+    // 값 전체
+    ALL,
+
+    // 뒤 7글자 (7글자 이하이면 전체) - RlnoMasker와 같은 범위
+    RLNO,
+
+    // 첫 글자와 마지막 글자를 뺀 나머지 (2글자면 둘째 글자, 1글자면 전체) - NameMasker와 같은 범위
+    NAME
+}
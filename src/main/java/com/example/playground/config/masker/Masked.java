@@ -0,0 +1,26 @@
+package com.example.playground.config.masker;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DTO 필드를 컨트롤러 응답 JSON으로 직렬화할 때 maskingType에 해당하는 마스커를 적용합니다.
+ * (주입받은 ObjectMapper로 직접 직렬화한 JSON에는 적용되지 않음)
+ *
+ * 예) @Masked(type = "type_name") private String name;  →  "name": "홍*동"
+ *
+ * 클래스의 직렬화기를 만들 때(클래스당 1회) MaskerRegistry에서 마스커를 찾아 묶어 두므로
+ * 응답을 쓸 때는 Map 변환 없이 일반 직렬화 비용만 듭니다. (MaskedPropertyModule 참고)
+ * 값은 MCI 룰과 같은 규칙으로 마스킹됩니다. (null은 그대로, 그 밖의 값은 String.valueOf 결과를 마스킹)
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Masked {
+
+    /**
+     * @return yml의 maskingType과 같은 값 (예: "type_name")
+     */
+    String type();
+}
@@ -0,0 +1,38 @@
+package com.example.playground.config.masker;
+
+/**
+ * maskingType 하나에 대응하는 마스킹 전략
+ *
+ * 룰을 컴파일할 때 MaskerRegistry에서 maskingType으로 한 번 찾아 CompiledRule에 묶어 두므로
+ * 요청 경로에서는 타입 문자열 비교 없이 바로 mask()가 호출됩니다.
+ * 구현체는 상태가 없어야 합니다. (여러 요청 스레드가 동시에 호출)
+ */
+public interface Masker {
+
+    /**
+     * @return yml의 maskingType 값 (예: "type_rlno")
+     */
+    String type();
+
+    /**
+     * @param original 마스킹할 원본 값 (null/빈 문자열은 호출부에서 걸러짐)
+     * @return 마스킹된 값
+     */
+    String mask(String original);
+
+    /**
+     * @return 값 전체가 아니라 값 안에서 찾은 패턴만 마스킹하는 마스커이면 true (type_scan)
+     *         경로가 객체/배열에서 끝나도 하위의 모든 값에 적용되며, 같은 필드를 지정한 다른 룰이 있으면 그 룰이 우선합니다.
+     *         (찾은 패턴이 없으면 mask()는 original 인스턴스를 그대로 반환해야 함)
+     */
+    default boolean isValueScanner() {
+        return false;
+    }
+
+    /**
+     * @return 고정 길이 전문(masking.telegrams) 필드에 이 타입을 지정했을 때 가릴 범위 (기본은 값 전체)
+     */
+    default FixedLengthMask fixedLengthMask() {
+        return FixedLengthMask.ALL;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.playground.config.masker;
+
+import com.example.playground.config.MaskingProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * maskingType -> Masker 조회 테이블
+ *
+ * 룰 컴파일 시점(기동, 리로드)에만 조회하므로 등록되지 않은 타입은 요청이 아니라 기동/리로드 단계에서 실패합니다.
+ * 새 타입은 Masker 구현체를 빈으로 등록하면 자동으로 추가됩니다.
+ */
+@Component
+public class MaskerRegistry {
+
+    private final Map<String, Masker> maskers;
+
+    public MaskerRegistry(List<Masker> maskers) {
+        Map<String, Masker> byType = new TreeMap<>();
+        for (Masker masker : maskers) {
+            Masker duplicate = byType.put(masker.type(), masker);
+            if (duplicate != null) {
+                throw new IllegalStateException("Duplicate Masker for maskingType " + masker.type() + ": "
+                    + duplicate.getClass().getName() + ", " + masker.getClass().getName());
+            }
+        }
+        this.maskers = Collections.unmodifiableMap(byType);
+    }
+
+    /**
+     * 기본 제공 마스커만 등록된 레지스트리 (스프링 컨텍스트 밖에서 사용)
+     */
+    public static MaskerRegistry defaults() {
+        return new MaskerRegistry(Arrays.asList(
+            new RlnoMasker(), new NameMasker(), new AccountMasker(), new EmailMasker(), new AddressMasker(),
+            new ValuePatternMasker(new MaskingProperties())));
+    }
+
+    /**
+     * @throws IllegalArgumentException 등록되지 않은 maskingType
+     */
+    public Masker get(String maskingType) {
+        Masker masker = maskers.get(maskingType);
+        if (masker == null) {
+            throw new IllegalArgumentException("Unknown maskingType: " + maskingType
+                + " (available: " + maskers.keySet() + ")");
+        }
+        return masker;
+    }
+}
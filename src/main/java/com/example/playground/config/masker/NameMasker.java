@@ -0,0 +1,32 @@
+package com.example.playground.config.masker;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * type_name: 이름
+ * 예: 홍길동 -> 홍*동, 남궁길동 -> 남*동, 홍길 -> 홍*
+ */
+@Component
+public class NameMasker implements Masker {
+
+    @Override
+    public String type() {
+        return "type_name";
+    }
+
+    @Override
+    public String mask(String original) {
+        int length = original.length();
+        if (length > 2) {
+            return new String(new char[]{original.charAt(0), '*', original.charAt(length - 1)});
+        } else if (length == 2) {
+            return new String(new char[]{original.charAt(0), '*'});
+        }
+        return ProtectedValueMasker.PROTECTED_VALUE; // 한 글자 이름
+    }
+
+    @Override
+    public FixedLengthMask fixedLengthMask() {
+        return FixedLengthMask.NAME;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.playground.config.masker;
+
+/**
+ * 값 전체를 고정 문자열로 치환하는 마스커 (부분 노출 규칙이 정해지지 않은 타입용)
+ */
+public abstract class ProtectedValueMasker implements Masker {
+
+    public static final String PROTECTED_VALUE = "<Protected_Mci_Data>";
+
+    @Override
+    public String mask(String original) {
+        return PROTECTED_VALUE;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.playground.config.masker;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * type_rlno: 주민등록번호
+ * 예: 9007021234567 -> 900702******* (뒤 7자리)
+ */
+@Component
+public class RlnoMasker implements Masker {
+
+    private static final int MASKED_LENGTH = 7;
+
+    @Override
+    public String type() {
+        return "type_rlno";
+    }
+
+    @Override
+    public String mask(String original) {
+        int length = original.length();
+        if (length <= MASKED_LENGTH) {
+            return ProtectedValueMasker.PROTECTED_VALUE; // 뒤 7자리를 가리면 남는 게 없음
+        }
+
+        char[] masked = new char[length];
+        int keep = length - MASKED_LENGTH;
+        original.getChars(0, keep, masked, 0);
+        for (int i = keep; i < length; i++) {
+            masked[i] = '*';
+        }
+        return new String(masked);
+    }
+
+    @Override
+    public FixedLengthMask fixedLengthMask() {
+        return FixedLengthMask.RLNO;
+    }
+}
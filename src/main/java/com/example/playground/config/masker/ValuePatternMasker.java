@@ -0,0 +1,36 @@
+package com.example.playground.config.masker;
+
+import com.example.playground.config.MaskingProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * type_scan: 자유 텍스트 안의 주민등록번호/계좌번호/이메일만 마스킹 (masking.value-scan 설정)
+ * 예: "연락처 hong@example.com, 주민번호 9007021234567" -> "연락처 ****@example.com, 주민번호 900702*******"
+ *
+ * 경로를 특정할 수 없는 비고/메모 필드용이며, "**.*" 룰로 payload의 모든 값에 적용할 수 있습니다.
+ * 찾은 패턴이 없으면 값을 바꾸지 않습니다. (숫자 값도 타입이 그대로 유지됨)
+ */
+@Component
+public class ValuePatternMasker implements Masker {
+
+    private final ValuePatternScanner scanner;
+
+    public ValuePatternMasker(MaskingProperties maskingProperties) {
+        this.scanner = ValuePatternScanner.of(maskingProperties.getValueScan());
+    }
+
+    @Override
+    public String type() {
+        return "type_scan";
+    }
+
+    @Override
+    public String mask(String original) {
+        return scanner.mask(original);
+    }
+
+    @Override
+    public boolean isValueScanner() {
+        return true;
+    }
+}
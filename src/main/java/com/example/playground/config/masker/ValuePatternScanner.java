@@ -0,0 +1,298 @@
+package com.example.playground.config.masker;
+
+import com.example.playground.config.MaskingProperties;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 문자열 값 안에서 주민등록번호/계좌번호 형식의 숫자열과 이메일 주소를 찾아 그 부분만 마스킹합니다. (컴파일 후 불변, 스레드 간 공유 가능)
+ *
+ * 예) "고객 900702-1234567 계좌 110-12-345678 문의 hong@example.com"
+ *   → "고객 900702-******* 계좌 ***-**-****** 문의 ****@example.com"
+ *
+ * 숫자 형식 전체를 글자 분류(숫자 / 구분자 / 그 밖의 글자) 위의 Aho-Corasick 오토마톤 하나로 합쳐
+ * 전이 테이블(DFA)로 만들어 두므로, 형식이 몇 개든 값을 한 번만 읽으며 되돌아가지 않습니다.
+ * 형식 앞뒤에 "숫자가 아닌 글자"를 붙여 컴파일하므로 더 긴 숫자열의 일부는 매칭되지 않습니다. (문자열 앞뒤도 경계로 취급)
+ * 이메일은 같은 순회 중 '@'를 만났을 때만 앞뒤를 확인합니다.
+ * 찾은 패턴이 없으면 새 문자열을 만들지 않고 입력을 그대로 반환합니다.
+ */
+public final class ValuePatternScanner {
+
+    static final char DIGIT_PLACEHOLDER = '#';
+    private static final char MASK = '*';
+
+    // 글자 분류: 0 = 숫자, 1..n = 형식에 쓰인 구분자, 마지막 = 그 밖의 글자
+    private static final int DIGIT = 0;
+
+    private final byte[] asciiClass;
+    private final int otherClass;
+    private final int classCount;
+
+    // 상태 s에서 분류 c로 이동할 상태 = transitions[s * classCount + c]
+    private final int[] transitions;
+    private final int startState;
+
+    // 상태에 도달했을 때 끝나는 형식 번호 (없으면 null)
+    private final int[][] outputs;
+    private final int[] formatLength;
+    private final int[] visibleDigits;
+
+    private final boolean emails;
+
+    private ValuePatternScanner(byte[] asciiClass, int otherClass, int[] transitions, int[][] outputs,
+                                int[] formatLength, int[] visibleDigits, boolean emails) {
+        this.asciiClass = asciiClass;
+        this.otherClass = otherClass;
+        this.classCount = otherClass + 1;
+        this.transitions = transitions;
+        this.startState = transitions[otherClass]; // 문자열 앞을 경계 글자 하나로 간주
+        this.outputs = outputs;
+        this.formatLength = formatLength;
+        this.visibleDigits = visibleDigits;
+        this.emails = emails;
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 비었거나, 숫자('#')가 없거나, ASCII 구두점/공백 외의 구분자를 쓴 경우
+     */
+    public static ValuePatternScanner of(MaskingProperties.ValueScan valueScan) {
+        List<MaskingProperties.DigitPattern> patterns = valueScan.getDigitPatterns() == null
+            ? List.of() : valueScan.getDigitPatterns();
+
+        // 1. 구분자 글자마다 분류 번호 부여
+        byte[] asciiClass = new byte[128];
+        int separators = 0;
+        for (MaskingProperties.DigitPattern pattern : patterns) {
+            validate(pattern);
+            for (char c : pattern.getFormat().toCharArray()) {
+                if (c != DIGIT_PLACEHOLDER && asciiClass[c] == 0) {
+                    asciiClass[c] = (byte) ++separators;
+                }
+            }
+        }
+        int otherClass = separators + 1;
+        for (char c = 0; c < 128; c++) {
+            if (c >= '0' && c <= '9') {
+                asciiClass[c] = DIGIT;
+            } else if (asciiClass[c] == 0) {
+                asciiClass[c] = (byte) otherClass;
+            }
+        }
+        int classCount = otherClass + 1;
+
+        // 2. "경계 + 형식 + 경계"를 분류 기호열로 바꿔 트라이에 삽입 (경계 = 숫자가 아닌 모든 분류)
+        List<int[]> children = new ArrayList<>();
+        List<int[]> terminals = new ArrayList<>();
+        children.add(newChildren(classCount));
+        terminals.add(null);
+        int[] formatLength = new int[patterns.size()];
+        int[] visibleDigits = new int[patterns.size()];
+        for (int f = 0; f < patterns.size(); f++) {
+            String format = patterns.get(f).getFormat();
+            formatLength[f] = format.length();
+            visibleDigits[f] = Math.max(0, patterns.get(f).getVisibleDigits());
+            for (int lead = 1; lead < classCount; lead++) {
+                int state = child(children, terminals, 0, lead, classCount);
+                for (char c : format.toCharArray()) {
+                    state = child(children, terminals, state, c == DIGIT_PLACEHOLDER ? DIGIT : asciiClass[c], classCount);
+                }
+                for (int trail = 1; trail < classCount; trail++) {
+                    int end = child(children, terminals, state, trail, classCount);
+                    terminals.set(end, append(terminals.get(end), f));
+                }
+            }
+        }
+
+        // 3. 실패 링크를 따라 전이를 채워 DFA로 완성 (BFS, 실패 상태의 출력도 합침)
+        int stateCount = children.size();
+        int[] transitions = new int[stateCount * classCount];
+        int[] fail = new int[stateCount];
+        int[][] outputs = new int[stateCount][];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < classCount; c++) {
+            int next = children.get(0)[c];
+            transitions[c] = next < 0 ? 0 : next;
+            if (next > 0) {
+                queue.add(next);
+            }
+        }
+        outputs[0] = terminals.get(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = merge(terminals.get(state), outputs[fail[state]]);
+            for (int c = 0; c < classCount; c++) {
+                int next = children.get(state)[c];
+                if (next < 0) {
+                    transitions[state * classCount + c] = transitions[fail[state] * classCount + c];
+                } else {
+                    fail[next] = transitions[fail[state] * classCount + c];
+                    transitions[state * classCount + c] = next;
+                    queue.add(next);
+                }
+            }
+        }
+        return new ValuePatternScanner(asciiClass, otherClass, transitions, outputs, formatLength, visibleDigits,
+            valueScan.isEmails());
+    }
+
+    private static void validate(MaskingProperties.DigitPattern pattern) {
+        String format = pattern.getFormat();
+        if (format == null || format.indexOf(DIGIT_PLACEHOLDER) < 0) {
+            throw new IllegalArgumentException("Value scan format must contain '#' digits: " + format);
+        }
+        for (char c : format.toCharArray()) {
+            if (c != DIGIT_PLACEHOLDER && (c >= 128 || Character.isLetterOrDigit(c) || c == '@' || c < ' ')) {
+                throw new IllegalArgumentException(
+                    "Value scan format may only use '#' and ASCII punctuation/space separators: " + format);
+            }
+        }
+    }
+
+    /**
+     * @return 찾은 패턴을 마스킹한 값 (찾은 패턴이 없으면 value 그대로)
+     */
+    public String mask(String value) {
+        int length = value.length();
+        char[] out = null;
+        int state = startState;
+        int emailFloor = 0; // 다음 이메일의 @ 앞부분이 이 위치보다 앞으로 갈 수 없음 (이미 확인한 구간)
+
+        for (int i = 0; i <= length; i++) {
+            char c;
+            int cls;
+            if (i < length) {
+                c = value.charAt(i);
+                cls = c < 128 ? asciiClass[c] : otherClass;
+            } else {
+                c = 0;
+                cls = otherClass; // 문자열 끝도 경계 글자 하나로 간주
+            }
+            state = transitions[state * classCount + cls];
+
+            // 1. 숫자 형식 (i 위치의 경계 글자 직전에서 끝남)
+            int[] matched = outputs[state];
+            if (matched != null) {
+                for (int f : matched) {
+                    out = maskDigits(value, out, i - formatLength[f], i, visibleDigits[f]);
+                }
+            }
+
+            // 2. 이메일 (로컬파트@도메인.최상위도메인)
+            if (c == '@' && emails) {
+                int domainEnd = emailDomainEnd(value, i);
+                int localStart = i;
+                while (localStart > emailFloor && isLocalChar(value.charAt(localStart - 1))) {
+                    localStart--;
+                }
+                if (domainEnd > 0 && localStart < i) {
+                    if (out == null) {
+                        out = value.toCharArray();
+                    }
+                    Arrays.fill(out, localStart, i, MASK);
+                    emailFloor = domainEnd;
+                }
+            }
+        }
+        return out == null ? value : new String(out);
+    }
+
+    // 앞에서 visible개의 숫자를 남기고 나머지 숫자만 *로 바꿈 (구분자는 그대로, 겹치는 매칭은 합집합)
+    private static char[] maskDigits(String value, char[] out, int start, int end, int visible) {
+        if (out == null) {
+            out = value.toCharArray();
+        }
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9' && digits++ >= visible) {
+                out[i] = MASK;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * @return '@' 뒤가 "라벨.라벨"(최상위 도메인은 영문 2자 이상) 형식이면 도메인 끝 위치, 아니면 -1
+     */
+    private static int emailDomainEnd(String value, int at) {
+        int end = at + 1;
+        while (end < value.length() && isDomainChar(value.charAt(end))) {
+            end++;
+        }
+        while (end > at + 1 && (value.charAt(end - 1) == '.' || value.charAt(end - 1) == '-')) {
+            end--; // 문장 끝의 마침표 등은 도메인에서 제외
+        }
+        // 마지막 '.'은 이 도메인 안에서만 찾음 (lastIndexOf는 앞쪽 도메인까지 거슬러 올라가 '@'가 많으면 제곱 시간)
+        int lastDot = end - 1;
+        while (lastDot > at + 1 && value.charAt(lastDot) != '.') {
+            lastDot--;
+        }
+        if (lastDot <= at + 1 || end - lastDot - 1 < 2) {
+            return -1;
+        }
+        for (int i = lastDot + 1; i < end; i++) {
+            char c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                return -1;
+            }
+        }
+        return end;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+            || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || c == '-';
+    }
+
+    // ---- 컴파일 시점 헬퍼 ----
+
+    private static int[] newChildren(int classCount) {
+        int[] next = new int[classCount];
+        Arrays.fill(next, -1);
+        return next;
+    }
+
+    private static int child(List<int[]> children, List<int[]> terminals, int state, int cls, int classCount) {
+        int next = children.get(state)[cls];
+        if (next < 0) {
+            next = children.size();
+            children.get(state)[cls] = next;
+            children.add(newChildren(classCount));
+            terminals.add(null);
+        }
+        return next;
+    }
+
+    private static int[] append(int[] values, int value) {
+        if (values == null) {
+            return new int[]{value};
+        }
+        for (int v : values) {
+            if (v == value) {
+                return values;
+            }
+        }
+        int[] grown = Arrays.copyOf(values, values.length + 1);
+        grown[values.length] = value;
+        return grown;
+    }
+
+    private static int[] merge(int[] own, int[] inherited) {
+        if (inherited == null) {
+            return own;
+        }
+        int[] merged = own;
+        for (int v : inherited) {
+            merged = append(merged, v);
+        }
+        return merged;
+    }
+}
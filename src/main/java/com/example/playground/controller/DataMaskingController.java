@@ -1,12 +1,23 @@
 package com.example.playground.controller;
 
 import com.example.playground.service.DataMaskingService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/data")
@@ -24,4 +35,24 @@ public class DataMaskingController {
         String maskedData = dataMaskingService.maskSensitiveData(rawData);
         return ResponseEntity.ok(maskedData);
     }
-}
\ No newline at end of file
+
+    /**
+     * 본문을 String으로 받지 않고 읽으면서 마스킹 결과를 바로 응답에 씁니다.
+     * (대용량 덤프용, 메모리는 본문 크기가 아닌 중첩 깊이와 고정 버퍼 크기에 비례)
+     * 형식이 잘못된 입력은 /mask와 달리 처리하지 않고 오류로 응답합니다.
+     */
+    @PostMapping("/mask/stream")
+    public ResponseEntity<StreamingResponseBody> maskDataStream(HttpServletRequest request) {
+        Charset charset = request.getCharacterEncoding() != null
+            ? Charset.forName(request.getCharacterEncoding()) : StandardCharsets.UTF_8;
+
+        StreamingResponseBody body = outputStream -> {
+            Reader in = new InputStreamReader(request.getInputStream(), charset);
+            Writer out = new BufferedWriter(new OutputStreamWriter(outputStream, charset));
+            dataMaskingService.maskSensitiveData(in, out);
+        };
+        return ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.TEXT_PLAIN, charset))
+            .body(body);
+    }
+}
@@ -1,31 +1,50 @@
 package com.example.playground.controller;
 
-import com.example.playground.service.DataMaskingService;
-import com.example.playground.service.ExternalApiService;
+import com.example.playground.service.DataFanOutService;
+import com.example.playground.service.MaskedDataCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 public class DataProcessingController {
 
-    private final ExternalApiService externalApiService;
-    private final DataMaskingService dataMaskingService;
+    private final DataFanOutService dataFanOutService;
+    private final MaskedDataCache maskedDataCache;
 
     /**
      * 외부에서 데이터를 가져와 마스킹 처리 후 응답하는 API 엔드포인트
+     * (마스킹된 결과는 data.cache.ttl 동안 캐싱되며, 동시에 들어온 요청은 하나의 조회를 함께 기다립니다)
      * @return 마스킹 처리된 데이터
      */
     @GetMapping("/api/data")
     public String getAndMaskData() {
-        // 1. 외부 서비스로부터 원본 데이터를 가져옵니다.
-        String originalData = externalApiService.fetchDataFromServer();
-
-        // 2. 데이터 마스킹 서비스를 이용해 민감 정보를 마스킹합니다.
-        String maskedData = dataMaskingService.maskSensitiveData(originalData);
+        // 외부 조회 → 마스킹 → 캐싱 (캐시 적중 시 외부 호출과 마스킹 모두 생략)
+        return maskedDataCache.getMaskedData();
+    }
 
-        // 3. 마스킹된 결과를 클라이언트에게 반환합니다.
-        return maskedData;
+    /**
+     * 여러 소스에서 동시에 데이터를 가져와 각각 마스킹한 뒤 합쳐서 응답하는 API 엔드포인트
+     * (data.fanout.timeout을 넘긴 소스는 취소되고 failed에 TIMEOUT으로 표시됩니다)
+     * @param sources 조회할 소스 목록 (예: ?sources=a,b,c, 중복 제외 data.fanout.max-sources개까지)
+     * @return results: 소스별 마스킹 결과, failed: 소스별 실패 사유
+     */
+    @GetMapping("/api/data/fanout")
+    public Map<String, Map<String, String>> getAndMaskDataFromSources(@RequestParam List<String> sources) {
+        // 소스마다 스레드 하나를 쓰므로 상한을 넘는 요청은 조회를 시작하기 전에 400으로 거절
+        int distinct = new HashSet<>(sources).size();
+        if (distinct > dataFanOutService.getMaxSources()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Too many sources: " + distinct
+                + " (at most " + dataFanOutService.getMaxSources() + ")");
+        }
+        return dataFanOutService.fetchAndMask(sources);
     }
 }
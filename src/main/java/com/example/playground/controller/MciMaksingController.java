@@ -1,32 +1,52 @@
 package com.example.playground.controller;
 
+import com.example.playground.config.BatchMaskingService;
 import com.example.playground.config.MaskingService;
+import com.example.playground.config.StreamingMaskingEngine;
+import com.example.playground.config.TelegramMaskingEngine;
+import com.example.playground.config.logging.MaskedLogArgument;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
 import java.util.Map;
 
+@Slf4j
 @RestController()
 @RequestMapping("/api")
 public class MciMaksingController {
 
     private final MaskingService maskingService;
+    private final StreamingMaskingEngine streamingMaskingEngine;
+    private final BatchMaskingService batchMaskingService;
+    private final TelegramMaskingEngine telegramMaskingEngine;
 
     @Autowired
-    public MciMaksingController(MaskingService maskingService) {
+    public MciMaksingController(MaskingService maskingService, StreamingMaskingEngine streamingMaskingEngine,
+                                BatchMaskingService batchMaskingService, TelegramMaskingEngine telegramMaskingEngine) {
         this.maskingService = maskingService;
+        this.streamingMaskingEngine = streamingMaskingEngine;
+        this.batchMaskingService = batchMaskingService;
+        this.telegramMaskingEngine = telegramMaskingEngine;
     }
 
    @PostMapping("/maskingTest")
     public Map<String, Object> testMasking(@RequestBody Map<String, Object> input) {
 
-        System.out.println("--- 마스킹 전 원본 데이터 ---");
-        System.out.println(input);
-        // 출력: {MIMEIN_IN_MST={MIMEIN_IN={custNm=홍길동, rlno=9007021234567}}}
+        // 원본은 민감 키 값을 가린 채로, DEBUG 레벨일 때만 문자열로 만듦
+        log.debug("Masking input {}", MaskedLogArgument.of(input));
+        // 출력: {MIMEIN_IN_MST={MIMEIN_IN={custNm=****, rlno=****}}}
 
 
         // 2. MaskingService를 호출하여 마스킹 적용
@@ -34,8 +54,45 @@ public class MciMaksingController {
         maskingService.applyMasking("NCDP_MIMEIN10A0", input);
 
 
-        System.out.println("--- 마스킹 후 데이터 ---");
-        System.out.println(input);
+        log.debug("Masked output {}", input);
         return input;
     }
+
+    /**
+     * 본문을 Map으로 바인딩하지 않고 토큰 단위로 읽으면서 마스킹 결과를 바로 응답에 씁니다.
+     * (대용량 MCI payload용, 결과는 /maskingTest와 동일)
+     */
+    @PostMapping(value = "/maskingTest/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void testMaskingStream(@RequestParam(defaultValue = "NCDP_MIMEIN10A0") String mciId,
+                                  HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        streamingMaskingEngine.mask(mciId, request.getInputStream(), response.getOutputStream());
+    }
+
+    /**
+     * 한 줄에 {"mciId": ..., "payload": {...}} 한 건씩 들어오는 NDJSON을 병렬로 마스킹하여
+     * 입력과 같은 순서의 NDJSON으로 바로 응답합니다. (건별 HTTP 호출 대신 사용)
+     */
+    @PostMapping(value = "/maskingTest/batch", consumes = "application/x-ndjson")
+    public void testMaskingBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        batchMaskingService.mask(request.getInputStream(), response.getOutputStream());
+    }
+
+    /**
+     * 고정 길이 바이트 전문(masking.telegrams)을 디코딩하지 않고 필드 바이트 범위만 마스킹해 그대로 응답합니다.
+     * (레이아웃이 없는 mciId는 원본 그대로, 레이아웃보다 짧거나 반복 횟수가 잘못된 전문은 400)
+     */
+    @PostMapping(value = "/maskingTest/telegram", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+        produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public byte[] testMaskingTelegram(@RequestParam(defaultValue = "NCDP_CUSAFT10T0") String mciId,
+                                      @RequestBody byte[] telegram) {
+        try {
+            telegramMaskingEngine.mask(mciId, telegram);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        return telegram;
+    }
 }
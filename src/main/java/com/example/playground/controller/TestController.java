@@ -1,5 +1,6 @@
 package com.example.playground.controller;
 
+import com.example.playground.config.logging.MaskedLogArgument;
 import com.example.playground.dto.ApiResponse;
 import com.example.playground.dto.LombokImmutableDto;
 import com.example.playground.dto.LombokMutableDto;
@@ -33,14 +34,14 @@ public class TestController {
     @PostMapping("/api")
     public String api(@RequestBody Map<String, Object> requestBody) {
         testService.sayHello();
-        log.info("Test API {}", requestBody);
+        log.info("Test API {}", MaskedLogArgument.of(requestBody));
         return "OK";
     }
 
     @PostMapping("/api/lombok/immutable")
     public ResponseEntity<ApiResponse<LombokImmutableDto>> apiImmutableDto(@RequestBody LombokImmutableDto lombokImmutableDto) {
         dtoService.immutableDto(lombokImmutableDto);
-        log.info("lombokImmutableDto API {}", lombokImmutableDto.toString());
+        log.info("lombokImmutableDto API {}", MaskedLogArgument.of(lombokImmutableDto));
 
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(lombokImmutableDto));
     }
@@ -48,9 +49,8 @@ public class TestController {
     @PostMapping("/api/lombok/mutable")
     public ResponseEntity<ApiResponse<LombokMutableDto>> apiMutableDto(@RequestBody LombokMutableDto lombokMutableDto) {
         dtoService.mutableDto(lombokMutableDto);
-        log.info("lombokMutableDto API {}", lombokMutableDto.toString());
+        log.info("lombokMutableDto API {}", MaskedLogArgument.of(lombokMutableDto));
 
-        System.out.println(lombokMutableDto.toString());
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(lombokMutableDto));
     }
     //HashMap to JSON Serialization for Server to Server Data Send
@@ -59,7 +59,7 @@ public class TestController {
     public ResponseEntity<ApiResponse<String>> maptojsonstring(@RequestBody LombokMutableDto lombokMutableDto) throws JsonProcessingException {
 
         String jsonString = mapper.writeValueAsString(lombokMutableDto);
-        log.info("apimaptojson API {}", jsonString);
+        log.info("apimaptojson API {}", MaskedLogArgument.of(jsonString));
 
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(jsonString));
     }
@@ -69,7 +69,7 @@ public class TestController {
     public ResponseEntity<ApiResponse<Map<String, Object>>> jsonstringtomap(@RequestBody String jsonString) throws JsonProcessingException {
 
         Map<String, Object> dataMap = mapper.readValue(jsonString, new TypeReference<>() {});
-        log.info("jsontomap API {}", dataMap.toString());
+        log.info("jsontomap API {}", MaskedLogArgument.of(dataMap));
 
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(dataMap));
     }
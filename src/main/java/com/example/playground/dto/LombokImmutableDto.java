@@ -1,9 +1,11 @@
 package com.example.playground.dto;
 
+import com.example.playground.config.masker.Masked;
 import lombok.Value;
 
 @Value
 public class LombokImmutableDto {
     String cusno;
+    @Masked(type = "type_name") // 응답 JSON에서 "조*영"과 같이 마스킹
     String name;
 }
@@ -1,5 +1,6 @@
 package com.example.playground.dto;
 
+import com.example.playground.config.masker.Masked;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 public class LombokMutableDto {
 
     private String cusno;
+    @Masked(type = "type_name") // 응답 JSON에서 "조*영"과 같이 마스킹
     private String name;
 
 }
@@ -0,0 +1,118 @@
+package com.example.playground.service;
+
+import com.example.playground.config.VirtualThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 여러 외부 소스에서 동시에 데이터를 가져와 각각 마스킹한 뒤 하나로 합칩니다.
+ *
+ * 소스마다 가상 스레드 하나에서 조회 → 마스킹까지 수행하므로 응답이 도착한 소스부터 바로 마스킹되고,
+ * 전체 소요 시간은 모든 소스의 합이 아니라 가장 느린 소스(최대 timeout)에 가깝습니다.
+ * timeout을 넘긴 소스는 작업을 취소(인터럽트)하고 결과에서 실패로 표시합니다.
+ * Java 21 미만에서는 가상 스레드 대신 플랫폼 스레드를 쓰므로, 요청 하나의 소스 수를 data.fanout.max-sources로 제한합니다.
+ */
+@Slf4j
+@Service
+public class DataFanOutService {
+
+    public static final String TIMEOUT = "TIMEOUT";
+    public static final String ERROR = "ERROR";
+
+    private final ExternalApiService externalApiService;
+    private final DataMaskingService dataMaskingService;
+    private final Duration timeout;
+    private final int maxSources;
+    private final ExecutorService executor = VirtualThreads.newPerTaskExecutor("data-fanout");
+
+    public DataFanOutService(ExternalApiService externalApiService,
+                             DataMaskingService dataMaskingService,
+                             @Value("${data.fanout.timeout:2s}") Duration timeout,
+                             @Value("${data.fanout.max-sources:32}") int maxSources) {
+        this.externalApiService = externalApiService;
+        this.dataMaskingService = dataMaskingService;
+        this.timeout = timeout;
+        this.maxSources = maxSources;
+    }
+
+    /**
+     * @return 요청 하나에서 동시에 조회할 수 있는 (중복을 제외한) 최대 소스 수
+     */
+    public int getMaxSources() {
+        return maxSources;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @param sources 조회할 소스 목록 (중복은 한 번만 조회)
+     * @return results: 소스별 마스킹 결과, failed: 소스별 실패 사유 (TIMEOUT, ERROR) - 둘 다 요청한 소스 순서
+     * @throws IllegalArgumentException 중복을 제외한 소스가 maxSources보다 많은 경우 (아무 소스도 조회하지 않음)
+     */
+    public Map<String, Map<String, String>> fetchAndMask(List<String> sources) {
+        if (new HashSet<>(sources).size() > maxSources) {
+            throw new IllegalArgumentException("Too many sources: at most " + maxSources + " distinct sources per request");
+        }
+
+        // 1. 모든 소스를 동시에 시작 (소스별 조회가 끝나는 즉시 같은 스레드에서 마스킹)
+        Map<String, Future<String>> futures = new LinkedHashMap<>();
+        for (String source : sources) {
+            futures.computeIfAbsent(source, s -> executor.submit(
+                () -> dataMaskingService.maskSensitiveData(externalApiService.fetchDataFromServer(s))));
+        }
+
+        // 2. 모두 같은 시점에 시작했으므로 소스별 마감 시각도 같음 (timeout은 소스마다 적용)
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Map<String, String> results = new LinkedHashMap<>();
+        Map<String, String> failed = new LinkedHashMap<>();
+        List<Future<String>> pending = new ArrayList<>(futures.values());
+        try {
+            for (Map.Entry<String, Future<String>> entry : futures.entrySet()) {
+                String source = entry.getKey();
+                Future<String> future = entry.getValue();
+                try {
+                    results.put(source, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    failed.put(source, TIMEOUT);
+                    log.warn("Fetching from source {} timed out after {}ms", source, timeout.toMillis());
+                } catch (ExecutionException e) {
+                    failed.put(source, ERROR);
+                    log.warn("Fetching from source {} failed", source, e.getCause());
+                }
+                pending.remove(future);
+            }
+        } catch (InterruptedException e) {
+            // 요청 스레드가 중단되면 남은 조회도 모두 취소
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fan-out interrupted", e);
+        } finally {
+            for (Future<String> future : pending) {
+                future.cancel(true);
+            }
+        }
+
+        // 3. 병합
+        Map<String, Map<String, String>> merged = new LinkedHashMap<>();
+        merged.put("results", results);
+        merged.put("failed", failed);
+        return merged;
+    }
+}
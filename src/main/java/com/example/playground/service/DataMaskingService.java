@@ -1,5 +1,9 @@
 package com.example.playground.service;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
 /**
  * 데이터 마스킹 서비스 인터페이스
  */
@@ -11,4 +15,16 @@ public interface DataMaskingService {
      * @return 마스킹 처리된 문자열
      */
     String maskSensitiveData(String data);
-}
\ No newline at end of file
+
+    /**
+     * 민감한 키의 값을 마스킹하면서 결과를 바로 출력합니다. (대용량 입력용 스트리밍 처리)
+     * 입력 전체를 메모리에 올리지 않으며, 결과는 maskSensitiveData(String)과 같습니다.
+     * (단, 같은 객체 안의 중복 키는 입력 그대로 출력)
+     *
+     * @param in 원본 데이터
+     * @param out 마스킹 처리된 데이터가 기록될 대상 (호출 후 flush됨)
+     * @throws IllegalArgumentException 괄호가 맞지 않거나 값이 없는 키가 있는 등 형식이 잘못된 경우
+     *                                  (이미 기록된 출력은 되돌리지 않음)
+     */
+    void maskSensitiveData(Reader in, Writer out) throws IOException;
+}
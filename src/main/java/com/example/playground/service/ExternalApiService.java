@@ -14,4 +14,16 @@ public class ExternalApiService {
         // 외부 API를 호출하는 로직이 포함될 것입니다.
         return "[abc=secret, xyz=password, test=value]";
     }
+
+    /**
+     * 지정한 소스(외부 시스템)에서 데이터를 가져오는 메소드라고 가정합니다.
+     * 소스마다 응답 시간이 다르며, fan-out 조회(DataFanOutService)에서 동시에 호출됩니다.
+     * @param source 조회할 소스 이름
+     * @return 외부에서 받아온 원본 데이터 문자열
+     */
+    public String fetchDataFromServer(String source) {
+        // 테스트를 위한 임시 데이터이며, 실제 프로덕션 코드에서는
+        // 소스별 외부 API를 호출하는 로직이 포함될 것입니다.
+        return "{source=" + source + ", abc=secret, xyz=password, test=value}";
+    }
 }
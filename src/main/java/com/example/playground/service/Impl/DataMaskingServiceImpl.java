@@ -1,35 +1,83 @@
 package com.example.playground.service.Impl;
 
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
 import com.example.playground.service.DataMaskingService;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.*;
 
 /**
  * 데이터 마스킹 서비스 구현체 (Manual Parser 기반)
+ *
+ * 기본적으로 KeyValueMaskingEngine으로 입력을 한 번만 읽으며 마스킹하고,
+ * 단일 패스로 재현할 수 없는 비정상 입력만 기존 3단계(파싱 → 마스킹 → 문자열화) 방식으로 처리합니다.
  */
 @Service
 public class DataMaskingServiceImpl implements DataMaskingService {
 
     private static final String MASKED_VALUE = "<Masked>";
-    // 테스트 케이스를 통과하기 위해 'cd_no' 추가
-    private static final Set<String> SENSITIVE_KEYS = new HashSet<>(Arrays.asList("abc", "xyz", "cd_No", "cd_no", "sync_dsc"));
+
+    // 설정(masking.key-value.sensitive-keys)의 민감 키를 대소문자 구분 없이 판별하는 트라이
+    private final SensitiveKeyMatcher sensitiveKeys;
+
+    // 출력 버퍼와 파서 상태를 스레드별로 재사용
+    private final ThreadLocal<KeyValueMaskingEngine> engines;
+
+    private final MaskingMetrics.EngineMeters meters;
+
+    public DataMaskingServiceImpl(MaskingProperties maskingProperties, MaskingMetrics maskingMetrics) {
+        this.sensitiveKeys = SensitiveKeyMatcher.of(maskingProperties.getKeyValue().getSensitiveKeys());
+        this.engines = ThreadLocal.withInitial(() -> new KeyValueMaskingEngine(sensitiveKeys, MASKED_VALUE));
+        this.meters = maskingMetrics.engine(MaskingMetrics.ENGINE_KEY_VALUE);
+    }
 
     @Override
     public String maskSensitiveData(String data) {
         if (!StringUtils.hasText(data)) {
             return data;
         }
+        long start = System.nanoTime();
+
+        // 단일 패스 엔진 (정상 입력은 여기서 끝남)
+        KeyValueMaskingEngine engine = engines.get();
+        String masked = engine.mask(data);
+        if (masked != null) {
+            meters.record(MaskingMetrics.NO_MCI_ID, start, 0, engine.fieldsMasked(), 0,
+                engine.keysExamined(), engine.maxDepth());
+            return masked;
+        }
 
+        // 괄호 불일치, 중복 키 등 비정상 입력은 기존 방식으로 처리 (결과/예외 동일)
         // 1단계: 파싱 (String -> Object)
         Object parsedData = parse(data.trim());
 
         // 2단계: 마스킹 (Object -> Masked Object)
-        mask(parsedData);
+        MaskStats stats = new MaskStats();
+        mask(parsedData, 1, stats);
 
         // 3단계: 문자열화 (Masked Object -> String)
-        return stringify(parsedData);
+        String result = stringify(parsedData);
+        meters.record(MaskingMetrics.NO_MCI_ID, start, 0, stats.masked, 0, stats.keys, stats.maxDepth);
+        return result;
+    }
+
+    @Override
+    public void maskSensitiveData(Reader in, Writer out) throws IOException {
+        long start = System.nanoTime();
+
+        // 단일 패스 엔진만 사용 (입력을 보관하지 않으므로 기존 방식으로 다시 처리할 수 없음)
+        KeyValueMaskingEngine engine = engines.get();
+        if (!engine.mask(in, out)) {
+            throw new IllegalArgumentException("Malformed key=value data (unbalanced brackets or a key without a value)");
+        }
+        out.flush();
+        meters.record(MaskingMetrics.NO_MCI_ID, start, 0, engine.fieldsMasked(), 0,
+            engine.keysExamined(), engine.maxDepth());
     }
 
     // ===================================================================================
@@ -124,27 +172,44 @@ public class DataMaskingServiceImpl implements DataMaskingService {
     // 2. 마스킹 (Masking)
     // ===================================================================================
 
-    private void mask(Object data) {
+    private void mask(Object data, int depth, MaskStats stats) {
         if (data instanceof Map) {
-            maskMap((Map<String, Object>) data);
+            stats.enter(depth);
+            maskMap((Map<String, Object>) data, depth, stats);
         } else if (data instanceof List) {
-            maskList((List<Object>) data);
+            stats.enter(depth);
+            maskList((List<Object>) data, depth, stats);
         }
     }
 
-    private void maskMap(Map<String, Object> map) {
+    private void maskMap(Map<String, Object> map, int depth, MaskStats stats) {
         for (Map.Entry<String, Object> entry : map.entrySet()) {
-            if (SENSITIVE_KEYS.contains(entry.getKey().toLowerCase())) {
+            stats.keys++;
+            if (sensitiveKeys.matches(entry.getKey())) {
                 entry.setValue(MASKED_VALUE);
+                stats.masked++;
             } else {
-                mask(entry.getValue());
+                mask(entry.getValue(), depth + 1, stats);
             }
         }
     }
 
-    private void maskList(List<Object> list) {
+    private void maskList(List<Object> list, int depth, MaskStats stats) {
         for (Object item : list) {
-            mask(item);
+            mask(item, depth + 1, stats);
+        }
+    }
+
+    // 지표용 수치 (KeyValueMaskingEngine과 같은 기준)
+    private static class MaskStats {
+        int keys;
+        int masked;
+        int maxDepth;
+
+        void enter(int depth) {
+            if (depth > maxDepth) {
+                maxDepth = depth;
+            }
         }
     }
 
@@ -0,0 +1,637 @@
+package com.example.playground.service.Impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * key=value 형식({a=1, b=[x, y]}) 문자열을 커서 하나로 한 번만 읽으면서 마스킹 결과를 바로 버퍼에 쓰는 엔진
+ *
+ * 기존 방식(블록 추출 → substring → 재파싱 → LinkedHashMap → stringify)과 출력이 완전히 같도록
+ * 기존 파서의 공백/trim 규칙과 괄호 균형 규칙을 그대로 상태 머신으로 옮겼습니다.
+ * 중첩 블록의 끝은 괄호 종류별 카운터로 판단하므로 입력 길이에 선형으로 동작합니다.
+ *
+ * 단, 기존 파서가 예외를 던지거나 결과를 재배치하는 비정상 입력(괄호 불일치로 블록이 잘리는 경우,
+ * 값 없는 키, 같은 객체 안의 중복 키 등)은 재현하지 않고 null을 반환하므로 호출부에서 기존 방식으로 처리해야 합니다.
+ *
+ * Reader/Writer 기반 스트리밍 모드(mask(Reader, Writer))는 입력을 고정 크기 버퍼로 읽으면서 출력도 같은 단위로 내보내므로
+ * 메모리가 입력 크기가 아닌 중첩 깊이(레벨 스택)와 버퍼 크기에 비례합니다.
+ *
+ * 상태를 재사용하므로 스레드 간 공유하지 않습니다. (스레드별 인스턴스 사용)
+ */
+final class KeyValueMaskingEngine {
+
+    // 재사용 버퍼가 이 크기를 넘으면 다음 호출을 위해 새로 만듦 (대용량 1회 요청이 메모리를 계속 잡지 않도록)
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+    private static final int INITIAL_CAPACITY = 256;
+
+    // 키 중복 검사용 해시 버킷 수 (2의 거듭제곱)
+    private static final int KEY_BUCKETS = 1 << 10;
+
+    // 스트리밍 모드에서 한 번에 읽는 글자 수 (출력도 이 단위로 내보냄)
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    // ---- 레벨(객체/배열) 상태 ----
+    private static final int FIRST = 0;        // 내용 시작 (아직 아무 문자도 읽지 않음)
+    private static final int KEY_LEAD = 1;     // 키 앞 공백
+    private static final int KEY = 2;          // 키 ('='까지)
+    private static final int VALUE_LEAD = 3;   // 값 앞 공백
+    private static final int SCALAR_LEAD = 4;  // 스칼라 값 앞쪽 trim 대상 문자
+    private static final int SCALAR = 5;       // 스칼라 값 (','까지)
+    private static final int AFTER_VALUE = 6;  // 값 뒤 공백 (',' 하나 허용)
+    private static final int AFTER_COMMA = 7;  // ',' 뒤 공백
+
+    private final SensitiveKeyMatcher sensitiveKeys;
+    private final String maskedValue;
+
+    private StringBuilder out = new StringBuilder(INITIAL_CAPACITY);
+
+    // 레벨 스택 (0 = 최상위)
+    private boolean[] object = new boolean[16];
+    private int[] state = new int[16];
+    private int[] base = new int[16];
+    private int[] entries = new int[16];
+    private boolean[] valueMasked = new boolean[16];
+    private int[] outerSameType = new int[16];
+    private int[] firstKey = new int[16];
+    private int level;
+
+    // 괄호 종류별 균형 카운터와 각 종류의 가장 안쪽 중첩 레벨 (-1 = 없음)
+    private int curly;
+    private int square;
+    private int innermostCurly;
+    private int innermostSquare;
+
+    // 마스킹된 값 내부라 출력하지 않는 레벨 (-1 = 출력 중)
+    private int suppressFrom;
+
+    // 현재 키 원문과 trim 대기 중인 값 뒤쪽 공백
+    private char[] keyBuf = new char[32];
+    private int keyLen;
+
+    // 현재 키를 읽으면서 옮겨 둔 민감 키 트라이 상태 (키 앞뒤 공백은 반영하지 않음)
+    private int keyMatch;
+    private boolean keyMatchStarted;
+    private int keyBlankFrom;
+    private final StringBuilder pending = new StringBuilder();
+
+    // 활성 객체들의 키 (중복 검사용, 레벨이 닫히면 역순으로 제거)
+    private char[] keyArena = new char[256];
+    private int arenaLen;
+    private int[] keyStart = new int[32];
+    private int[] keyLength = new int[32];
+    private int[] keyHash = new int[32];
+    private int[] nextInBucket = new int[32];
+    private int keyCount;
+    private final int[] bucketHead = new int[KEY_BUCKETS];
+
+    private boolean malformed;
+
+    // 같은 객체 안의 중복 키를 검사할지 여부 (스트리밍 모드는 키를 보관하지 않으므로 검사하지 않음)
+    private boolean detectDuplicateKeys;
+
+    // 스트리밍 모드 입력 버퍼와, 마지막 글자(최상위 닫는 괄호 후보) 뒤에 읽은 공백
+    private char[] readBuffer;
+    private final StringBuilder heldBlanks = new StringBuilder();
+
+    // 마지막 mask() 호출의 지표용 수치 (마스킹된 값 내부는 세지 않음)
+    private int keysExamined;
+    private int fieldsMasked;
+    private int maxDepth;
+
+    KeyValueMaskingEngine(SensitiveKeyMatcher sensitiveKeys, String maskedValue) {
+        this.sensitiveKeys = sensitiveKeys;
+        this.maskedValue = maskedValue;
+    }
+
+    /** 마지막 호출에서 민감 키 여부를 검사한 키 수 */
+    int keysExamined() {
+        return keysExamined;
+    }
+
+    /** 마지막 호출에서 마스킹한 값 수 */
+    int fieldsMasked() {
+        return fieldsMasked;
+    }
+
+    /** 마지막 호출에서 도달한 최대 중첩 깊이 (최상위 블록 = 1) */
+    int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @param data hasText를 만족하는 원본 문자열
+     * @return 마스킹된 문자열, 단일 패스로 재현할 수 없는 입력이면 null
+     */
+    String mask(String data) {
+        keysExamined = 0;
+        fieldsMasked = 0;
+        maxDepth = 0;
+
+        // String.trim()과 같은 규칙 (<= ' ')
+        int start = 0;
+        int end = data.length();
+        while (start < end && data.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && data.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return "";
+        }
+
+        char first = data.charAt(start);
+        if (first != '{' && first != '[') {
+            return data.substring(start, end); // 객체/배열이 아니면 trim 결과를 그대로 반환
+        }
+        if (end - start == 1) {
+            return null; // "{" 단독 (기존 파서는 예외)
+        }
+
+        // 최상위 블록은 괄호 균형과 무관하게 첫 글자와 마지막 글자를 제외한 범위가 내용
+        detectDuplicateKeys = true;
+        begin(first == '{');
+        for (int i = start + 1, contentEnd = end - 1; i < contentEnd && !malformed; i++) {
+            feed(data.charAt(i));
+        }
+        finish();
+
+        String result = malformed ? null : out.toString();
+        release();
+        return result;
+    }
+
+    /**
+     * Reader에서 고정 크기 버퍼 단위로 읽으면서 마스킹 결과를 Writer로 바로 씁니다. (스트리밍 모드)
+     *
+     * 결과는 mask(String)과 같지만, 입력 전체를 들고 있지 않으므로 다음 두 가지가 다릅니다.
+     * - 같은 객체 안의 중복 키는 입력 그대로 출력 (열려 있는 객체의 키를 모두 보관하지 않기 위함)
+     * - 단일 패스로 재현할 수 없는 입력은 기존 방식으로 다시 처리할 수 없으므로 false 반환 (이미 쓴 출력은 되돌리지 않음)
+     * 최상위 블록의 마지막 글자는 입력이 끝나야 알 수 있으므로 공백이 아닌 마지막 글자와 그 뒤 공백만 보류합니다.
+     * @return 끝까지 정상적으로 처리했으면 true
+     */
+    boolean mask(Reader in, Writer sink) throws IOException {
+        keysExamined = 0;
+        fieldsMasked = 0;
+        maxDepth = 0;
+        if (readBuffer == null) {
+            readBuffer = new char[READ_BUFFER_SIZE];
+        }
+        out.setLength(0);
+        heldBlanks.setLength(0);
+        malformed = false;
+
+        boolean started = false;   // 앞쪽 공백을 지나 첫 글자를 읽었는지
+        boolean block = false;     // 최상위가 객체/배열인지 (아니면 trim만 하고 그대로 출력)
+        int held = -1;             // 아직 feed하지 않은 마지막 글자 (-1 = 없음)
+        try {
+            int n;
+            while (!malformed && (n = in.read(readBuffer)) >= 0) {
+                for (int i = 0; i < n && !malformed; i++) {
+                    char c = readBuffer[i];
+                    // 1. 앞쪽 trim 후 최상위 형태 결정
+                    if (!started) {
+                        if (c <= ' ') {
+                            continue;
+                        }
+                        started = true;
+                        block = c == '{' || c == '[';
+                        if (block) {
+                            detectDuplicateKeys = false;
+                            begin(c == '{');
+                        } else {
+                            out.append(c);
+                        }
+                        continue;
+                    }
+                    // 2. 공백은 뒤에 다른 글자가 올 때까지 보류 (뒤쪽 trim)
+                    if (c <= ' ') {
+                        if (block && held < 0) {
+                            feed(c); // 여는 괄호 직후의 공백은 마지막 글자일 수 없음
+                        } else {
+                            heldBlanks.append(c);
+                        }
+                        continue;
+                    }
+                    // 3. 새 글자가 왔으므로 보류했던 글자와 공백은 최상위 블록의 내용
+                    if (block) {
+                        if (held >= 0) {
+                            feed((char) held);
+                            for (int b = 0; b < heldBlanks.length() && !malformed; b++) {
+                                feed(heldBlanks.charAt(b));
+                            }
+                        }
+                        held = c;
+                    } else {
+                        out.append(heldBlanks).append(c);
+                    }
+                    heldBlanks.setLength(0);
+                }
+                // 4. 읽은 만큼 내보냄 (출력 버퍼는 읽기 버퍼 크기 수준으로 유지)
+                if (!malformed) {
+                    sink.append(out);
+                    out.setLength(0);
+                }
+            }
+
+            // 5. 보류 중인 마지막 글자는 최상위 블록의 닫는 괄호 자리이므로 제외
+            if (block && !malformed) {
+                if (held < 0) {
+                    malformed = true; // "{" 단독 (기존 파서는 예외)
+                } else {
+                    finish();
+                    sink.append(out);
+                }
+            }
+            return !malformed;
+        } finally {
+            release();
+            heldBlanks.setLength(0);
+        }
+    }
+
+    private void begin(boolean topIsObject) {
+        level = 0;
+        curly = 0;
+        square = 0;
+        innermostCurly = -1;
+        innermostSquare = -1;
+        suppressFrom = -1;
+        keyCount = 0;
+        arenaLen = 0;
+        malformed = false;
+        maxDepth = 1;
+        out.setLength(0);
+        pending.setLength(0);
+        Arrays.fill(bucketHead, -1);
+
+        object[0] = topIsObject;
+        state[0] = FIRST;
+        entries[0] = 0;
+        valueMasked[0] = false;
+        firstKey[0] = 0;
+        out.append(topIsObject ? '{' : '[');
+    }
+
+    private void finish() {
+        if (malformed) {
+            return;
+        }
+        if (level > 0) {
+            malformed = true; // 닫히지 않은 중첩 블록 (기존 파서는 블록을 잘라서 재파싱)
+            return;
+        }
+        closeContent();
+        if (!malformed) {
+            out.append(object[0] ? '}' : ']');
+        }
+    }
+
+    private void release() {
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            out = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            out.setLength(0);
+        }
+        pending.setLength(0);
+    }
+
+    /**
+     * 현재 레벨 내용의 한 글자를 처리합니다.
+     */
+    private void feed(char c) {
+        // 1. 괄호 균형 갱신 및 중첩 블록 종료 판단 (키/값 안의 괄호도 기존 블록 추출과 동일하게 센다)
+        if (c == '}') {
+            curly--;
+            if (innermostCurly > 0 && curly == base[innermostCurly]) {
+                closeLevel(innermostCurly);
+                return;
+            }
+        } else if (c == ']') {
+            square--;
+            if (innermostSquare > 0 && square == base[innermostSquare]) {
+                closeLevel(innermostSquare);
+                return;
+            }
+        } else if (c == '{') {
+            curly++;
+        } else if (c == '[') {
+            square++;
+        }
+
+        // 2. 현재 레벨의 상태 머신 (내용의 첫 글자는 공백이어도 항목의 시작으로 본다)
+        int l = level;
+        if (state[l] == FIRST) {
+            state[l] = object[l] ? KEY_LEAD : VALUE_LEAD;
+        }
+        feedState(l, c);
+    }
+
+    private void feedState(int l, char c) {
+        switch (state[l]) {
+            case KEY_LEAD:
+                if (Character.isWhitespace(c)) {
+                    return;
+                }
+                state[l] = KEY;
+                keyLen = 0;
+                keyMatch = SensitiveKeyMatcher.ROOT;
+                keyMatchStarted = false;
+                keyBlankFrom = -1;
+                // fall through
+            case KEY:
+                if (c == '=') {
+                    completeKey(l);
+                    state[l] = VALUE_LEAD;
+                } else {
+                    appendKeyChar(c);
+                    advanceKeyMatch(c);
+                }
+                return;
+            case VALUE_LEAD:
+                if (Character.isWhitespace(c)) {
+                    return;
+                }
+                if (!object[l]) {
+                    startEntry(l);
+                }
+                if (c == '{' || c == '[') {
+                    openLevel(c == '{');
+                    return;
+                }
+                state[l] = SCALAR_LEAD;
+                // fall through
+            case SCALAR_LEAD:
+                if (c == ',') {
+                    state[l] = AFTER_COMMA;
+                    return;
+                }
+                if (c <= ' ') {
+                    return; // 값 앞쪽 trim
+                }
+                state[l] = SCALAR;
+                writeScalarChar(l, c);
+                return;
+            case SCALAR:
+                if (c == ',') {
+                    pending.setLength(0); // 값 뒤쪽 trim
+                    state[l] = AFTER_COMMA;
+                } else if (c <= ' ') {
+                    if (isWriting(l)) {
+                        pending.append(c);
+                    }
+                } else {
+                    writeScalarChar(l, c);
+                }
+                return;
+            case AFTER_VALUE:
+                if (Character.isWhitespace(c)) {
+                    return;
+                }
+                if (c == ',') {
+                    state[l] = AFTER_COMMA;
+                    return;
+                }
+                startNextEntry(l, c);
+                return;
+            case AFTER_COMMA:
+                if (Character.isWhitespace(c)) {
+                    return;
+                }
+                startNextEntry(l, c);
+                return;
+            default:
+                throw new IllegalStateException("Unknown state: " + state[l]);
+        }
+    }
+
+    private void startNextEntry(int l, char c) {
+        state[l] = object[l] ? KEY_LEAD : VALUE_LEAD;
+        feedState(l, c);
+    }
+
+    // ---- 키 ----
+
+    private void appendKeyChar(char c) {
+        if (keyLen == keyBuf.length) {
+            keyBuf = Arrays.copyOf(keyBuf, keyLen * 2);
+        }
+        keyBuf[keyLen++] = c;
+    }
+
+    /**
+     * 키를 읽는 동안 민감 키 트라이 상태를 옮깁니다.
+     * completeKey()의 trim과 같은 결과가 되도록 공백(<= ' ')은 뒤에 다른 글자가 올 때까지 반영을 미룹니다.
+     */
+    private void advanceKeyMatch(char c) {
+        if (c <= ' ') {
+            if (keyMatchStarted && keyBlankFrom < 0) {
+                keyBlankFrom = keyLen - 1;
+            }
+            return; // 앞쪽 공백은 버리고, 중간/뒤쪽 공백은 보류
+        }
+        if (keyBlankFrom >= 0) {
+            // 키 중간의 공백이었으므로 보류한 글자를 먼저 반영
+            for (int i = keyBlankFrom; i < keyLen - 1; i++) {
+                keyMatch = sensitiveKeys.next(keyMatch, keyBuf[i]);
+            }
+            keyBlankFrom = -1;
+        }
+        keyMatchStarted = true;
+        keyMatch = sensitiveKeys.next(keyMatch, c);
+    }
+
+    private void completeKey(int l) {
+        int s = 0;
+        int e = keyLen;
+        while (s < e && keyBuf[s] <= ' ') {
+            s++;
+        }
+        while (e > s && keyBuf[e - 1] <= ' ') {
+            e--;
+        }
+
+        boolean writing = suppressFrom < 0;
+        if (writing && detectDuplicateKeys && !registerKey(l, s, e)) {
+            malformed = true; // 중복 키 (기존 방식은 첫 위치에 마지막 값을 남김)
+            return;
+        }
+
+        startEntry(l);
+        valueMasked[l] = sensitiveKeys.isMatch(keyMatch);
+        if (writing) {
+            keysExamined++;
+            out.append(keyBuf, s, e - s).append('=');
+            if (valueMasked[l]) {
+                fieldsMasked++;
+                out.append(maskedValue);
+            }
+        }
+    }
+
+    /**
+     * 현재 객체의 키로 등록합니다.
+     * @return 같은 객체에 이미 있는 키면 false
+     */
+    private boolean registerKey(int l, int s, int e) {
+        int len = e - s;
+        int hash = 0;
+        for (int i = s; i < e; i++) {
+            hash = 31 * hash + keyBuf[i];
+        }
+
+        int bucket = hash & (KEY_BUCKETS - 1);
+        // 버킷 체인은 최근 등록 순이므로 현재 객체의 첫 키보다 앞선 키를 만나면 중단
+        for (int k = bucketHead[bucket]; k >= firstKey[l]; k = nextInBucket[k]) {
+            if (keyHash[k] == hash && keyLength[k] == len
+                && Arrays.equals(keyArena, keyStart[k], keyStart[k] + len, keyBuf, s, e)) {
+                return false;
+            }
+        }
+
+        if (keyCount == keyStart.length) {
+            int capacity = keyCount * 2;
+            keyStart = Arrays.copyOf(keyStart, capacity);
+            keyLength = Arrays.copyOf(keyLength, capacity);
+            keyHash = Arrays.copyOf(keyHash, capacity);
+            nextInBucket = Arrays.copyOf(nextInBucket, capacity);
+        }
+        if (arenaLen + len > keyArena.length) {
+            keyArena = Arrays.copyOf(keyArena, Math.max(keyArena.length * 2, arenaLen + len));
+        }
+        System.arraycopy(keyBuf, s, keyArena, arenaLen, len);
+
+        keyStart[keyCount] = arenaLen;
+        keyLength[keyCount] = len;
+        keyHash[keyCount] = hash;
+        nextInBucket[keyCount] = bucketHead[bucket];
+        bucketHead[bucket] = keyCount;
+        arenaLen += len;
+        keyCount++;
+        return true;
+    }
+
+    /**
+     * 닫히는 레벨의 키를 등록 역순으로 제거합니다.
+     */
+    private void unregisterKeys(int l) {
+        for (int k = keyCount - 1; k >= firstKey[l]; k--) {
+            bucketHead[keyHash[k] & (KEY_BUCKETS - 1)] = nextInBucket[k];
+        }
+        if (firstKey[l] < keyCount) {
+            arenaLen = keyStart[firstKey[l]];
+            keyCount = firstKey[l];
+        }
+    }
+
+    // ---- 값 ----
+
+    private void startEntry(int l) {
+        valueMasked[l] = false;
+        if (suppressFrom < 0 && entries[l] > 0) {
+            out.append(", ");
+        }
+        entries[l]++;
+    }
+
+    private boolean isWriting(int l) {
+        return suppressFrom < 0 && !valueMasked[l];
+    }
+
+    private void writeScalarChar(int l, char c) {
+        if (!isWriting(l)) {
+            return;
+        }
+        if (pending.length() > 0) {
+            out.append(pending);
+            pending.setLength(0);
+        }
+        out.append(c);
+    }
+
+    /**
+     * 현재 레벨 내용이 끝났을 때의 처리 (기존 파서가 예외를 던지는 상태면 malformed)
+     */
+    private void closeContent() {
+        switch (state[level]) {
+            case KEY_LEAD:
+            case KEY:
+            case VALUE_LEAD:
+                malformed = true; // 값이 없는 항목
+                return;
+            default:
+                pending.setLength(0);
+        }
+    }
+
+    // ---- 중첩 블록 ----
+
+    private void openLevel(boolean isObject) {
+        int parent = level;
+        if (suppressFrom < 0 && valueMasked[parent]) {
+            suppressFrom = parent + 1;
+        }
+
+        int l = ++level;
+        if (l == state.length) {
+            int capacity = l * 2;
+            object = Arrays.copyOf(object, capacity);
+            state = Arrays.copyOf(state, capacity);
+            base = Arrays.copyOf(base, capacity);
+            entries = Arrays.copyOf(entries, capacity);
+            valueMasked = Arrays.copyOf(valueMasked, capacity);
+            outerSameType = Arrays.copyOf(outerSameType, capacity);
+            firstKey = Arrays.copyOf(firstKey, capacity);
+        }
+        object[l] = isObject;
+        state[l] = FIRST;
+        entries[l] = 0;
+        valueMasked[l] = false;
+        firstKey[l] = keyCount;
+        // 여는 괄호는 feed()에서 이미 카운트되었으므로 직전 값이 기준
+        if (isObject) {
+            base[l] = curly - 1;
+            outerSameType[l] = innermostCurly;
+            innermostCurly = l;
+        } else {
+            base[l] = square - 1;
+            outerSameType[l] = innermostSquare;
+            innermostSquare = l;
+        }
+
+        if (suppressFrom < 0) {
+            out.append(isObject ? '{' : '[');
+            if (l + 1 > maxDepth) {
+                maxDepth = l + 1;
+            }
+        }
+    }
+
+    private void closeLevel(int l) {
+        if (l != level) {
+            malformed = true; // 바깥 블록이 먼저 닫힘 (기존 파서는 안쪽 블록을 잘라서 재파싱)
+            return;
+        }
+        closeContent();
+        if (malformed) {
+            return;
+        }
+        if (suppressFrom < 0) {
+            out.append(object[l] ? '}' : ']');
+        }
+        if (suppressFrom == l) {
+            suppressFrom = -1;
+        }
+        if (object[l]) {
+            innermostCurly = outerSameType[l];
+        } else {
+            innermostSquare = outerSameType[l];
+        }
+        unregisterKeys(l);
+
+        level--;
+        state[level] = AFTER_VALUE;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.playground.service.Impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 민감 키 목록을 대소문자 구분 없이 판별하는 트라이 (컴파일 후 불변, 스레드 간 공유 가능)
+ *
+ * 파서가 키를 한 글자씩 읽는 동안 next()로 상태를 옮기고, 키가 끝났을 때 isMatch()로 판별합니다.
+ * 상태는 int 하나이므로 키 문자열이나 소문자 복사본을 만들지 않습니다.
+ *
+ * 예) abc, xyz, cd_no
+ *     0 ─┬─ a ─ b ─ c (매칭)
+ *        ├─ x ─ y ─ z (매칭)
+ *        └─ c ─ d ─ _ ─ n ─ o (매칭)
+ */
+public final class SensitiveKeyMatcher {
+
+    /** 더 이상 어떤 민감 키와도 매칭될 수 없는 상태 */
+    public static final int NO_MATCH = -1;
+
+    /** 키를 읽기 시작할 때의 상태 */
+    public static final int ROOT = 0;
+
+    // 상태 s에서 나가는 간선은 edgeChars/edgeTargets의 [edgeStart[s], edgeStart[s + 1]) 범위 (글자 오름차순)
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final boolean[] terminal;
+
+    private SensitiveKeyMatcher(int[] edgeStart, char[] edgeChars, int[] edgeTargets, boolean[] terminal) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.terminal = terminal;
+    }
+
+    /**
+     * @param keys 민감 키 목록 (대소문자 무시, 앞뒤 공백 제거, 빈 키와 중복은 무시)
+     */
+    public static SensitiveKeyMatcher of(Collection<String> keys) {
+        // 1. 가변 트라이로 삽입 (글자는 Character.toLowerCase 기준으로 정규화)
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Boolean> accepts = new ArrayList<>();
+        children.add(new TreeMap<>());
+        accepts.add(false);
+
+        for (String key : keys) {
+            if (key == null || key.trim().isEmpty()) {
+                continue;
+            }
+            String trimmed = key.trim();
+            int state = ROOT;
+            for (int i = 0; i < trimmed.length(); i++) {
+                char c = Character.toLowerCase(trimmed.charAt(i));
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(c, next);
+                    children.add(new TreeMap<>());
+                    accepts.add(false);
+                }
+                state = next;
+            }
+            accepts.set(state, true);
+        }
+
+        // 2. 상태별 간선을 연속된 배열로 평탄화
+        int stateCount = children.size();
+        int[] edgeStart = new int[stateCount + 1];
+        char[] edgeChars = new char[stateCount - 1];
+        int[] edgeTargets = new int[stateCount - 1];
+        boolean[] terminal = new boolean[stateCount];
+        int edge = 0;
+        for (int s = 0; s < stateCount; s++) {
+            edgeStart[s] = edge;
+            for (var entry : children.get(s).entrySet()) {
+                edgeChars[edge] = entry.getKey();
+                edgeTargets[edge] = entry.getValue();
+                edge++;
+            }
+            terminal[s] = accepts.get(s);
+        }
+        edgeStart[stateCount] = edge;
+        return new SensitiveKeyMatcher(edgeStart, edgeChars, edgeTargets, terminal);
+    }
+
+    /**
+     * @param state 현재 상태 (ROOT 또는 이전 next()의 결과)
+     * @param c 키의 다음 글자 (대소문자 무관)
+     * @return 다음 상태, 어떤 민감 키의 접두어도 아니게 되면 NO_MATCH
+     */
+    public int next(int state, char c) {
+        if (state == NO_MATCH) {
+            return NO_MATCH;
+        }
+        char lower = c < 0x80 ? (c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c) : Character.toLowerCase(c);
+        for (int e = edgeStart[state], end = edgeStart[state + 1]; e < end; e++) {
+            char label = edgeChars[e];
+            if (label == lower) {
+                return edgeTargets[e];
+            }
+            if (label > lower) {
+                break; // 오름차순이므로 더 볼 필요 없음
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * @return 지금까지 읽은 글자가 민감 키 전체와 일치하면 true
+     */
+    public boolean isMatch(int state) {
+        return state != NO_MATCH && terminal[state];
+    }
+
+    /**
+     * 이미 만들어진 키 전체를 판별합니다. (키 앞뒤 공백은 호출부에서 제거)
+     */
+    public boolean matches(CharSequence key) {
+        int state = ROOT;
+        for (int i = 0, len = key.length(); i < len && state != NO_MATCH; i++) {
+            state = next(state, key.charAt(i));
+        }
+        return isMatch(state);
+    }
+}
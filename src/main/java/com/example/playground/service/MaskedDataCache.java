@@ -0,0 +1,136 @@
+package com.example.playground.service;
+
+import com.example.playground.config.VirtualThreads;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 외부 조회 + 마스킹 결과를 캐싱합니다.
+ *
+ * 마스킹까지 끝난 결과를 저장하므로 캐시 적중 시 외부 호출과 마스킹을 모두 건너뜁니다.
+ * 같은 소스에 대한 동시 미스는 진행 중인 조회 하나를 함께 기다리므로(single-flight) 요청이 몰려도 외부 호출은 한 번입니다.
+ * 결과는 data.cache.ttl 동안 유지되며 data.cache.maximum-size를 넘으면 오래 쓰이지 않은 소스부터 제거됩니다.
+ * 조회가 실패하면 캐싱하지 않으므로 다음 요청에서 다시 조회합니다.
+ */
+@Service
+public class MaskedDataCache {
+
+    public static final String CACHE_NAME = "maskedData";
+
+    // fetchDataFromServer()(소스 지정 없음)의 캐시 키
+    static final String DEFAULT_SOURCE = "";
+
+    private final ExternalApiService externalApiService;
+    private final DataMaskingService dataMaskingService;
+
+    // 외부 호출은 블로킹이므로 공용 ForkJoinPool 대신 작업마다 (가상) 스레드를 씀
+    private final ExecutorService loader = VirtualThreads.newPerTaskExecutor("masked-data-loader");
+    private final AsyncLoadingCache<String, String> cache;
+    private final Timer loadTimer;
+
+    @Autowired
+    public MaskedDataCache(ExternalApiService externalApiService,
+                           DataMaskingService dataMaskingService,
+                           @Value("${data.cache.ttl:5s}") Duration ttl,
+                           @Value("${data.cache.maximum-size:1000}") long maximumSize,
+                           MeterRegistry meterRegistry) {
+        this(externalApiService, dataMaskingService, ttl, maximumSize, meterRegistry, Ticker.systemTicker());
+    }
+
+    // 테스트에서 시간을 직접 움직이기 위한 생성자
+    MaskedDataCache(ExternalApiService externalApiService, DataMaskingService dataMaskingService,
+                    Duration ttl, long maximumSize, MeterRegistry meterRegistry, Ticker ticker) {
+        this.externalApiService = externalApiService;
+        this.dataMaskingService = dataMaskingService;
+        this.loadTimer = Timer.builder("cache.load.latency")
+            .description("Latency of a cache miss: upstream fetch plus masking")
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .executor(loader)
+            .ticker(ticker)
+            .recordStats()
+            .buildAsync(this::load);
+
+        // cache.gets(hit/miss), cache.evictions, cache.size 등 표준 캐시 지표 + 적중률
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", this, self -> self.cache.synchronous().stats().hitRate())
+            .description("Fraction of lookups served from the cache")
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * @return fetchDataFromServer() 결과를 마스킹한 값 (캐싱됨)
+     */
+    public String getMaskedData() {
+        return getMaskedData(DEFAULT_SOURCE);
+    }
+
+    /**
+     * @param source 조회할 소스
+     * @return 해당 소스의 데이터를 마스킹한 값 (캐싱됨)
+     */
+    public String getMaskedData(String source) {
+        CompletableFuture<String> future = cache.get(source);
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 실패한 결과는 Caffeine이 완료 콜백에서 비동기로 지우므로, 바로 재요청해도 다시 조회하도록 여기서 먼저 제거
+            cache.asMap().remove(source, future);
+            // 조회/마스킹 중 발생한 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 캐싱된 결과를 모두 버립니다. (다음 요청부터 다시 조회)
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * 대기 중인 만료/제거를 먼저 처리한 뒤의 항목 수 (테스트용)
+     */
+    long size() {
+        cache.synchronous().cleanUp();
+        return cache.synchronous().estimatedSize();
+    }
+
+    private String load(String source) {
+        return loadTimer.record(() -> {
+            // 1. 외부 서비스로부터 원본 데이터를 가져옵니다.
+            String originalData = DEFAULT_SOURCE.equals(source)
+                ? externalApiService.fetchDataFromServer()
+                : externalApiService.fetchDataFromServer(source);
+
+            // 2. 마스킹까지 끝난 결과를 캐싱합니다.
+            return dataMaskingService.maskSensitiveData(originalData);
+        });
+    }
+}
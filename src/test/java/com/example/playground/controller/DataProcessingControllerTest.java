@@ -1,23 +1,37 @@
 package com.example.playground.controller;
 
+import com.example.playground.service.DataFanOutService;
 import com.example.playground.service.DataMaskingService;
 import com.example.playground.service.ExternalApiService;
+import com.example.playground.service.MaskedDataCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * DataProcessingController에 대한 통합 테스트 클래스
  */
 @WebMvcTest(DataProcessingController.class) // 웹 레이어(컨트롤러)만 테스트하기 위한 어노테이션
+@Import({MaskedDataCache.class, SimpleMeterRegistry.class}) // 실제 캐시가 아래 Mock 서비스들을 호출
 class DataProcessingControllerTest {
 
     @Autowired
@@ -31,6 +45,18 @@ class DataProcessingControllerTest {
     @MockBean
     private DataMaskingService dataMaskingService;
 
+    @MockBean
+    private DataFanOutService dataFanOutService;
+
+    @Autowired
+    private MaskedDataCache maskedDataCache;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 간에 컨텍스트(캐시)가 공유되므로 이전 테스트의 결과를 비움
+        maskedDataCache.invalidateAll();
+    }
+
     @Test
     @DisplayName("외부 데이터를 가져와 성공적으로 마스킹 처리 후 응답한다")
     void getAndMaskData_Success() throws Exception {
@@ -55,4 +81,52 @@ class DataProcessingControllerTest {
                 // 예상 결과: 응답 본문(body)의 내용은 위에서 정의한 maskedData와 일치해야 한다.
                 .andExpect(content().string(maskedData));
     }
+
+    @Test
+    @DisplayName("여러 소스를 동시에 조회해 마스킹한 결과와 실패한 소스를 합쳐서 응답한다")
+    void getAndMaskDataFromSources_Success() throws Exception {
+        // given
+        given(dataFanOutService.getMaxSources()).willReturn(32);
+        given(dataFanOutService.fetchAndMask(List.of("a", "b", "slow"))).willReturn(Map.of(
+            "results", Map.of("a", "[abc=<Masked>]", "b", "[xyz=<Masked>]"),
+            "failed", Map.of("slow", DataFanOutService.TIMEOUT)));
+
+        // when & then
+        mockMvc.perform(get("/api/data/fanout").param("sources", "a,b,slow"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.a").value("[abc=<Masked>]"))
+                .andExpect(jsonPath("$.results.b").value("[xyz=<Masked>]"))
+                .andExpect(jsonPath("$.failed.slow").value("TIMEOUT"));
+    }
+
+    @Test
+    @DisplayName("중복을 제외한 소스가 상한을 넘으면 조회하지 않고 400으로 응답한다")
+    void getAndMaskDataFromSources_tooManySources() throws Exception {
+        // given
+        given(dataFanOutService.getMaxSources()).willReturn(2);
+
+        // when & then
+        mockMvc.perform(get("/api/data/fanout").param("sources", "a,b,c"))
+                .andExpect(status().isBadRequest());
+        then(dataFanOutService).should(never()).fetchAndMask(any());
+    }
+
+    @Test
+    @DisplayName("연속된 요청은 캐싱된 마스킹 결과를 받으며 외부 조회와 마스킹은 한 번만 수행된다")
+    void getAndMaskData_servedFromCache() throws Exception {
+        // given
+        String originalData = "[{abc=secret}]";
+        String maskedData = "[{abc=<Masked>}]";
+        given(externalApiService.fetchDataFromServer()).willReturn(originalData);
+        given(dataMaskingService.maskSensitiveData(originalData)).willReturn(maskedData);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/data"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(maskedData));
+        }
+        then(externalApiService).should(times(1)).fetchDataFromServer();
+        then(dataMaskingService).should(times(1)).maskSensitiveData(originalData);
+    }
 }
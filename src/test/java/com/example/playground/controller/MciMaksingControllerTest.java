@@ -0,0 +1,57 @@
+package com.example.playground.controller;
+
+import com.example.playground.config.BatchMaskingService;
+import com.example.playground.config.MaskingService;
+import com.example.playground.config.StreamingMaskingEngine;
+import com.example.playground.config.TelegramMaskingEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * MciMaksingController에 대한 웹 레이어 테스트 (잘못된 전문은 400)
+ */
+@WebMvcTest(MciMaksingController.class)
+class MciMaksingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MaskingService maskingService;
+
+    @MockBean
+    private StreamingMaskingEngine streamingMaskingEngine;
+
+    @MockBean
+    private BatchMaskingService batchMaskingService;
+
+    @MockBean
+    private TelegramMaskingEngine telegramMaskingEngine;
+
+    @Test
+    @DisplayName("레이아웃과 맞지 않는 전문은 500이 아닌 400으로 응답해야 한다")
+    void testMaskingTelegram_malformedIsBadRequest() throws Exception {
+        byte[] valid = "CUSAFT10T0".getBytes();
+        byte[] malformed = new byte[40];
+        when(telegramMaskingEngine.mask(eq("NCDP_CUSAFT10T0"), argThat((byte[] bytes) -> bytes.length == malformed.length)))
+            .thenThrow(new IllegalArgumentException("Telegram NCDP_CUSAFT10T0 is 40 bytes, but the layout needs at least 56"));
+
+        mockMvc.perform(post("/api/maskingTest/telegram").contentType(MediaType.APPLICATION_OCTET_STREAM).content(valid))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(valid));
+        mockMvc.perform(post("/api/maskingTest/telegram").contentType(MediaType.APPLICATION_OCTET_STREAM).content(malformed))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.playground.controller;
+
+import com.example.playground.dto.LombokMutableDto;
+import com.example.playground.service.DtoService;
+import com.example.playground.service.TestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * TestController에 대한 웹 레이어 테스트 (@Masked는 응답에만 적용되어야 함)
+ */
+@WebMvcTest(TestController.class)
+class TestControllerTest {
+
+    private static final String BODY = "{\"cusno\":\"322110113\",\"name\":\"홍길동\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private TestService testService;
+
+    @MockBean
+    private DtoService dtoService;
+
+    @Test
+    @DisplayName("DTO를 그대로 응답하면 @Masked 필드가 마스킹되어야 한다")
+    void apiMutableDto_masksResponse() throws Exception {
+        mockMvc.perform(post("/api/lombok/mutable").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.cusno").value("322110113"))
+                .andExpect(jsonPath("$.data.name").value("홍*동"));
+    }
+
+    @Test
+    @DisplayName("주입받은 ObjectMapper로 만든 서버 간 전송용 JSON은 원본 이름을 그대로 담아야 한다")
+    void maptojsonstring_keepsOriginalName() throws Exception {
+        mockMvc.perform(post("/api/jsonobject/maptojsonstring").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(BODY));
+
+        assertThat(objectMapper.writeValueAsString(new LombokMutableDto("322110113", "홍길동"))).isEqualTo(BODY);
+    }
+}
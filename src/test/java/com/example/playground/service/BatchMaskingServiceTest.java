@@ -0,0 +1,123 @@
+package com.example.playground.service;
+
+import com.example.playground.config.BatchMaskingService;
+import com.example.playground.config.MaskingManager;
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.MaskingService;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchMaskingServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BatchMaskingService batchMaskingService;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("NCDP_MIMEIN10A0", Arrays.asList(rule("MIMEIN_IN_MST.MIMEIN_IN.rlno", "type_rlno")));
+        mappings.put("NCDP_CUSAFT10A0", Arrays.asList(rule("CUSAFT_IN.CUSAFT_IN_SUB.acno", "type_account")));
+
+        MaskingProperties properties = new MaskingProperties();
+        properties.setMappings(mappings);
+        // window보다 입력이 훨씬 많아도 순서가 유지되는지 확인하기 위해 작게 설정
+        properties.getBatch().setParallelism(4);
+        properties.getBatch().setWindow(3);
+
+        MaskingManager maskingManager = new MaskingManager(properties, MaskerRegistry.defaults());
+        MaskingService maskingService = new MaskingService(maskingManager, new MaskingMetrics(new SimpleMeterRegistry()));
+        batchMaskingService = new BatchMaskingService(maskingService, objectMapper, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchMaskingService.shutdown();
+    }
+
+    private MaskingProperties.PathRule rule(String jsonPath, String maskingType) {
+        MaskingProperties.PathRule rule = new MaskingProperties.PathRule();
+        rule.setJsonPath(jsonPath);
+        rule.setMaskingType(maskingType);
+        return rule;
+    }
+
+    private List<Map<String, Object>> run(String ndjson) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        batchMaskingService.mask(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), out);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, new TypeReference<>() {}));
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("여러 건을 병렬로 마스킹해도 결과는 입력 순서대로 한 줄씩 나와야 한다")
+    void mask_keepsInputOrder() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            if (i % 2 == 0) {
+                ndjson.append("{\"mciId\":\"NCDP_MIMEIN10A0\",\"payload\":{\"MIMEIN_IN_MST\":{\"MIMEIN_IN\":")
+                    .append("{\"rlno\":\"900702123456").append(i % 10).append("\",\"seq\":").append(i).append("}}}}\n");
+            } else {
+                ndjson.append("{\"mciId\":\"NCDP_CUSAFT10A0\",\"payload\":{\"CUSAFT_IN\":{\"CUSAFT_IN_SUB\":")
+                    .append("[{\"acno\":\"1234567890\",\"seq\":").append(i).append("}]}}}\n");
+            }
+        }
+
+        List<Map<String, Object>> results = run(ndjson.toString());
+
+        assertThat(results).hasSize(200);
+        for (int i = 0; i < 200; i++) {
+            Map<String, Object> payload = (Map<String, Object>) results.get(i).get("payload");
+            if (i % 2 == 0) {
+                Map<String, Object> mimeinIn = (Map<String, Object>) ((Map<String, Object>) payload.get("MIMEIN_IN_MST")).get("MIMEIN_IN");
+                assertThat(mimeinIn.get("seq")).isEqualTo(i);
+                assertThat(mimeinIn.get("rlno")).isEqualTo("900702*******");
+            } else {
+                List<Map<String, Object>> sub = (List<Map<String, Object>>) ((Map<String, Object>) payload.get("CUSAFT_IN")).get("CUSAFT_IN_SUB");
+                assertThat(sub.get(0).get("seq")).isEqualTo(i);
+                assertThat(sub.get(0).get("acno")).isEqualTo("<Protected_Mci_Data>");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 줄은 오류 결과로 대체되고 나머지 건은 계속 처리되어야 한다 (빈 줄은 무시)")
+    void mask_invalidRecordDoesNotStopBatch() throws Exception {
+        String ndjson = "{\"mciId\":\"NCDP_MIMEIN10A0\",\"payload\":{\"MIMEIN_IN_MST\":{\"MIMEIN_IN\":{\"rlno\":\"9007021234567\"}}}}\n"
+            + "{\"mciId\":\"NCDP_MIMEIN10A0\",\"payload\":{\"rlno\":\"9007021234567\"\n"
+            + "\n"
+            + "{\"payload\":{}}\n"
+            + "{\"mciId\":\"NCDP_CUSAFT10A0\",\"payload\":{}}\n";
+
+        List<Map<String, Object>> results = run(ndjson);
+
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0)).containsKey("payload");
+        assertThat(results.get(1)).containsKey("error").doesNotContainKey("payload");
+        assertThat(results.get(1).toString()).doesNotContain("9007021234567"); // 원문이 오류 결과에 섞이지 않음
+        assertThat(results.get(2)).containsEntry("mciId", null).containsKey("error");
+        assertThat(results.get(3)).containsEntry("mciId", "NCDP_CUSAFT10A0").containsKey("payload");
+    }
+}
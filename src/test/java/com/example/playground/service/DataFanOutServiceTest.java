@@ -0,0 +1,116 @@
+package com.example.playground.service;
+
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.service.Impl.DataMaskingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataFanOutServiceTest {
+
+    // 소스 이름의 "slow-300" 처럼 뒤에 붙은 숫자만큼 지연 후 응답하는 가짜 외부 서비스
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    private final ExternalApiService externalApiService = new ExternalApiService() {
+        @Override
+        public String fetchDataFromServer(String source) {
+            if (source.startsWith("error")) {
+                throw new IllegalStateException("connection refused");
+            }
+            try {
+                Thread.sleep(Long.parseLong(source.substring(source.indexOf('-') + 1)));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+            return "{source=" + source + ", abc=secret, test=value}";
+        }
+    };
+
+    private DataFanOutService service;
+
+    private DataFanOutService newService(Duration timeout) {
+        service = new DataFanOutService(externalApiService,
+            new DataMaskingServiceImpl(new MaskingProperties(), new MaskingMetrics(new SimpleMeterRegistry())), timeout, 4);
+        return service;
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("전체 소요 시간은 소스별 지연의 합이 아니라 가장 느린 소스에 가깝다")
+    void fetchAndMask_latencyCloseToSlowestSource() {
+        DataFanOutService fanOut = newService(Duration.ofSeconds(5));
+
+        long start = System.nanoTime();
+        Map<String, Map<String, String>> merged = fanOut.fetchAndMask(List.of("a-300", "b-300", "c-300", "d-100"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 순차 호출이면 1000ms
+        assertThat(elapsedMillis).isLessThan(800);
+        assertThat(merged.get("results")).containsOnlyKeys("a-300", "b-300", "c-300", "d-100");
+        assertThat(merged.get("results").get("a-300")).isEqualToIgnoringWhitespace("{source=a-300, abc=<Masked>, test=value}");
+        assertThat(merged.get("failed")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과는 완료 순서와 관계없이 요청한 소스 순서를 유지한다")
+    void fetchAndMask_keepsRequestOrder() {
+        DataFanOutService fanOut = newService(Duration.ofSeconds(5));
+
+        Map<String, Map<String, String>> merged = fanOut.fetchAndMask(List.of("a-200", "b-0", "c-100", "b-0"));
+
+        assertThat(merged.get("results").keySet()).containsExactly("a-200", "b-0", "c-100");
+    }
+
+    @Test
+    @DisplayName("timeout을 넘긴 소스는 취소(인터럽트)되고 TIMEOUT으로 표시되며, 나머지 결과는 그대로 응답한다")
+    void fetchAndMask_cancelsSlowSource() throws InterruptedException {
+        DataFanOutService fanOut = newService(Duration.ofMillis(200));
+
+        long start = System.nanoTime();
+        Map<String, Map<String, String>> merged = fanOut.fetchAndMask(List.of("fast-10", "slow-10000"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isLessThan(2000);
+        assertThat(merged.get("results")).containsOnlyKeys("fast-10");
+        assertThat(merged.get("failed")).containsExactly(Map.entry("slow-10000", DataFanOutService.TIMEOUT));
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 중 예외가 난 소스는 ERROR로 표시된다")
+    void fetchAndMask_marksFailedSource() {
+        DataFanOutService fanOut = newService(Duration.ofSeconds(5));
+
+        Map<String, Map<String, String>> merged = fanOut.fetchAndMask(List.of("ok-0", "error"));
+
+        assertThat(merged.get("results")).containsOnlyKeys("ok-0");
+        assertThat(merged.get("failed")).containsExactly(Map.entry("error", DataFanOutService.ERROR));
+    }
+
+    @Test
+    @DisplayName("중복을 제외한 소스가 상한을 넘으면 아무 소스도 조회하지 않고 예외가 발생한다 (중복은 한 번만 셈)")
+    void fetchAndMask_rejectsTooManySources() {
+        DataFanOutService fanOut = newService(Duration.ofSeconds(5));
+
+        assertThat(fanOut.fetchAndMask(List.of("a-0", "b-0", "c-0", "d-0", "a-0")).get("results")).hasSize(4);
+        assertThatThrownBy(() -> fanOut.fetchAndMask(List.of("a-0", "b-0", "c-0", "d-0", "e-0")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("at most 4");
+    }
+}
@@ -1,19 +1,32 @@
 package com.example.playground.service;
 
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
 import com.example.playground.service.Impl.DataMaskingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class DataMaskingServiceTest {
 
     private DataMaskingService dataMaskingService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        dataMaskingService = new DataMaskingServiceImpl();
+        meterRegistry = new SimpleMeterRegistry();
+        dataMaskingService = new DataMaskingServiceImpl(new MaskingProperties(), new MaskingMetrics(meterRegistry));
     }
 
     @Test
@@ -78,10 +91,122 @@ class DataMaskingServiceTest {
         assertThat(actual).isEqualToIgnoringWhitespace(expected);
     }
 
+    @Test
+    @DisplayName("키/값 앞뒤 공백 제거와 대소문자 무시 매칭이 기존 파서와 동일해야 한다")
+    void testTrimAndCaseInsensitiveKeys() {
+        String input = "{ ABC = secret value , test = a=b , Sync_Dsc=R}";
+        String expected = "{ABC=<Masked>, test=a=b, Sync_Dsc=<Masked>}";
+        assertThat(dataMaskingService.maskSensitiveData(input)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("같은 객체 안의 중복 키는 첫 위치에 마지막 값이 남아야 한다")
+    void testDuplicateKeys() {
+        String input = "{a=1, b={c=2}, a={abc=3}}";
+        String expected = "{a={abc=<Masked>}, b={c=2}}";
+        assertThat(dataMaskingService.maskSensitiveData(input)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("객체/배열이 아닌 입력은 앞뒤 공백만 제거되어야 한다")
+    void testPlainText() {
+        assertThat(dataMaskingService.maskSensitiveData("  plain abc=text  ")).isEqualTo("plain abc=text");
+    }
+
     @Test
     @DisplayName("빈 문자열 처리")
     void testEmptyString() {
         assertThat(dataMaskingService.maskSensitiveData(null)).isNull();
         assertThat(dataMaskingService.maskSensitiveData("")).isEqualTo("");
     }
+
+    @Test
+    @DisplayName("민감 키는 대소문자 구분 없이 매칭되어야 한다 (키 원문은 그대로 출력)")
+    void testCaseInsensitiveKeys() {
+        String input = "{ABC=value1, Cd_No=value2, sync_DSC=value3, abcd=value4, ab=value5}";
+        String expected = "{ABC=<Masked>, Cd_No=<Masked>, sync_DSC=<Masked>, abcd=value4, ab=value5}";
+        String actual = dataMaskingService.maskSensitiveData(input);
+        assertThat(actual).isEqualToIgnoringWhitespace(expected);
+    }
+
+    @Test
+    @DisplayName("민감 키는 설정(masking.key-value.sensitive-keys)에서 읽어와야 한다")
+    void testConfiguredSensitiveKeys() {
+        MaskingProperties properties = new MaskingProperties();
+        properties.getKeyValue().setSensitiveKeys(List.of("Card No", "pwd"));
+        DataMaskingService configured =
+            new DataMaskingServiceImpl(properties, new MaskingMetrics(new SimpleMeterRegistry()));
+
+        // 키 앞뒤 공백은 무시하고, 키 중간 공백은 그대로 비교
+        String input = "{ card no =1234, cardno=5678, PWD=secret, abc=value1}";
+        assertThat(configured.maskSensitiveData(input))
+            .isEqualTo("{card no=<Masked>, cardno=5678, PWD=<Masked>, abc=value1}");
+        // 단일 패스로 처리할 수 없는 입력(중복 키)도 같은 기준으로 마스킹
+        assertThat(configured.maskSensitiveData("{pwd=a, pwd=b, x=1}"))
+            .isEqualTo("{pwd=<Masked>, x=1}");
+    }
+
+    /**
+     * 스트리밍 처리 결과를 반환합니다. (한 번에 최대 chunk 글자씩만 읽히도록 해서 버퍼 경계를 검증)
+     */
+    private String maskStreaming(String input, int chunk) throws IOException {
+        Reader reader = new FilterReader(new StringReader(input)) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, chunk));
+            }
+        };
+        StringWriter out = new StringWriter();
+        dataMaskingService.maskSensitiveData(reader, out);
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("스트리밍 처리 결과는 읽는 단위와 관계없이 문자열 처리 결과와 같아야 한다")
+    void testStreamingMatchesStringMasking() throws IOException {
+        StringBuilder large = new StringBuilder("  [");
+        for (int i = 0; i < 2000; i++) {
+            large.append(i == 0 ? "" : ", ")
+                .append("{id=").append(i).append(", abc={nested=[1, 2], xyz=secret}, name = value ").append(i).append(" }");
+        }
+        large.append("]\n\t ");
+
+        List<String> inputs = List.of(
+            "[{abc=value1},{test=value2}]",
+            "  {abc= value1 , test=value2 ,}  ",
+            "{outer=val, abc=sec, inner=[{xyz=pass}, {deep={abc=secret}}]}",
+            "plain text  ",
+            "[]",
+            large.toString());
+        for (String input : inputs) {
+            String expected = dataMaskingService.maskSensitiveData(input);
+            for (int chunk : new int[]{1, 7, 8192}) {
+                assertThat(maskStreaming(input, chunk)).as("chunk=%d, input=%s", chunk, input).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍 처리는 중복 키를 입력 그대로 출력하고, 형식이 잘못된 입력은 예외를 던진다")
+    void testStreamingDuplicateAndMalformedInput() throws IOException {
+        assertThat(maskStreaming("{a=1, abc=2, a=3}", 8192)).isEqualTo("{a=1, abc=<Masked>, a=3}");
+
+        assertThatThrownBy(() -> maskStreaming("{a=1, b={c=2}", 8192))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> maskStreaming("{a=1, b}", 8192))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("key=value 엔진은 검사한 키 수를 룰 수로 집계하지 않고 방문한 항목 수로만 기록해야 한다")
+    void testMetrics() {
+        dataMaskingService.maskSensitiveData("{outer=val, abc=sec, inner=[{xyz=pass}]}");
+
+        assertThat(meterRegistry.get("masking.rules.evaluated").tag("engine", "keyvalue").functionCounter().count())
+            .isZero();
+        assertThat(meterRegistry.get("masking.fields.masked").tag("engine", "keyvalue").functionCounter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("masking.entries.visited").tag("engine", "keyvalue").summary().totalAmount())
+            .isEqualTo(4);
+    }
 }
@@ -0,0 +1,159 @@
+package com.example.playground.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.playground.config.logging.LogMaskingInitializer;
+import com.example.playground.config.logging.LogMessageMasker;
+import com.example.playground.config.logging.MaskedLogArgument;
+import com.example.playground.config.logging.MaskingMessageConverter;
+import com.example.playground.dto.LombokMutableDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogMessageMaskerTest {
+
+    private final LogMessageMasker masker = LogMessageMasker.of(List.of("rlno", "custNm", "name", "cd_no"));
+
+    @Test
+    @DisplayName("Map.toString, JSON, Lombok toString 형식의 민감 키 값만 마스킹해야 한다")
+    void mask_commonFormats() {
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("custNm", "홍길동");
+        inner.put("rlno", "9007021234567");
+        inner.put("age", 30);
+
+        assertThat(masker.mask(Map.of("MIMEIN_IN", inner).toString()))
+            .isEqualTo("{MIMEIN_IN={custNm=****, rlno=****, age=30}}");
+        assertThat(masker.mask("{\"rlno\":\"9007021234567\", \"CUSTNM\" : \"홍 길동\", \"cusno\":1}"))
+            .isEqualTo("{\"rlno\":\"****\", \"CUSTNM\" : \"****\", \"cusno\":1}");
+        assertThat(masker.mask(new LombokMutableDto("322110113", "홍길동").toString()))
+            .isEqualTo("LombokMutableDto(cusno=322110113, name=****)");
+        assertThat(masker.mask("abc=1&cd_no=1234 5678&xyz=2"))
+            .isEqualTo("abc=1&cd_no=****&xyz=2");
+    }
+
+    @Test
+    @DisplayName("키 일부만 같거나 값이 없는 경우는 그대로 두고, 마스킹할 값이 없으면 같은 문자열을 반환해야 한다")
+    void mask_noMatch() {
+        String message = "username=kim, rlnoType=A, name, custNm=, rlno={a=1}, \"name\":\"a\\\"b\"";
+
+        assertThat(masker.mask(message))
+            .isEqualTo("username=kim, rlnoType=A, name, custNm=, rlno={a=1}, \"name\":\"****\"");
+
+        String plain = "Masking rules reloaded from mciMasking.yml (version=2)";
+        assertThat(masker.mask(plain)).isSameAs(plain);
+        assertThat(masker.mask(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("MaskedLogArgument는 로그가 실제로 출력될 때만 toString을 호출해야 한다")
+    void maskedLogArgument_isLazy() {
+        LoggerContext context = new LoggerContext();
+        Logger logger = context.getLogger("lazy");
+        logger.setLevel(Level.INFO);
+        AtomicInteger toStringCalls = new AtomicInteger();
+        Object payload = new Object() {
+            @Override
+            public String toString() {
+                toStringCalls.incrementAndGet();
+                return "{rlno=9007021234567}";
+            }
+        };
+
+        logger.debug("payload {}", MaskedLogArgument.of(payload));
+        assertThat(toStringCalls).hasValue(0);
+
+        assertThat(MaskedLogArgument.of(payload).toString()).isEqualTo("{rlno=****}");
+        assertThat(toStringCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("%m을 대신하는 컨버터는 옵션으로 지정한 키로 포맷된 메시지를 마스킹해야 한다")
+    void messageConverter_masksFormattedMessage() {
+        LoggerContext context = new LoggerContext();
+        PatternLayout layout = new PatternLayout();
+        layout.setContext(context);
+        layout.getInstanceConverterMap().put("m", MaskingMessageConverter::new);
+        layout.setPattern("%m{custNm,rlno}");
+        layout.start();
+
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), context.getLogger("test"), Level.INFO,
+            "input {} name={}", null, new Object[]{Map.of("custNm", "홍길동"), "kim"});
+
+        // name은 옵션에 없으므로 그대로
+        assertThat(layout.doLayout(event)).isEqualTo("input {custNm=****} name=kim");
+    }
+
+    @Test
+    @DisplayName("인자가 모두 MaskedLogArgument면 컨버터는 다시 마스킹하지 않고, 패턴에 민감 키가 있으면 전체를 마스킹해야 한다")
+    void messageConverter_skipsMaskedLogArguments() {
+        LoggerContext context = new LoggerContext();
+        PatternLayout layout = new PatternLayout();
+        layout.setContext(context);
+        layout.getInstanceConverterMap().put("m", MaskingMessageConverter::new);
+        layout.setPattern("%m");
+        layout.start();
+
+        LoggingEvent wrapped = new LoggingEvent(Logger.class.getName(), context.getLogger("test"), Level.INFO,
+            "payload {}", null, new Object[]{MaskedLogArgument.of(Map.of("rlno", "9007021234567"))});
+        assertThat(layout.doLayout(wrapped)).isEqualTo("payload {rlno=****}");
+        assertThat(LogMessageMasker.active().containsSensitiveKey("payload {}")).isFalse();
+
+        // 값이 인자로 채워지는 패턴 키("custNm={}")는 인자가 MaskedLogArgument여도 마스킹
+        LoggingEvent keyInPattern = new LoggingEvent(Logger.class.getName(), context.getLogger("test"), Level.INFO,
+            "custNm={}", null, new Object[]{MaskedLogArgument.of("홍길동")});
+        assertThat(layout.doLayout(keyInPattern)).isEqualTo("custNm=****");
+
+        // 기본 키에는 프레임워크 로그에 흔한 name이 없어야 함
+        LoggingEvent framework = new LoggingEvent(Logger.class.getName(), context.getLogger("test"), Level.INFO,
+            "Starting bean name={}", null, new Object[]{"dataSource"});
+        assertThat(layout.doLayout(framework)).isEqualTo("Starting bean name=dataSource");
+    }
+
+    @Test
+    @DisplayName("등록한 변환 규칙은 이미 시작된 appender에도 적용되고, DTO 인자는 @Masked 필드가 마스킹되어 출력되어야 한다")
+    void registerConversionRules_masksRunningAppenders() {
+        // 1. 스프링 부트 기본 설정처럼 %m 패턴으로 이미 시작된 appender
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%m%n");
+        encoder.setCharset(StandardCharsets.UTF_8);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(output);
+        appender.start();
+        Logger logger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        logger.addAppender(appender);
+
+        // 2. 규칙 등록 후 출력
+        LogMaskingInitializer.registerConversionRules(context);
+        logger.info("rlno={}", "9007021234567");
+        logger.info("lombokMutableDto API {}", MaskedLogArgument.of(new LombokMutableDto("322110113", "홍길동")));
+
+        // 3. 결과 검증 (Lombok toString이 아닌 @Masked를 적용한 JSON)
+        assertThat(output.toString(StandardCharsets.UTF_8).split("\\R")).containsExactly(
+            "rlno=****",
+            "lombokMutableDto API {\"cusno\":\"322110113\",\"name\":\"홍*동\"}");
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.playground.service;
 
 import com.example.playground.config.MaskingManager;
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingPlan;
 import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.MaskingRuleProfiler;
 import com.example.playground.config.MaskingService;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.*;
 
@@ -22,9 +30,22 @@ class MaskingServiceTest {
     @Mock // 가짜로 만들 객체
     private MaskingManager maskingManager;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy // 실제 지표를 기록하는 객체 (지표 검증용)
+    private MaskingMetrics maskingMetrics = new MaskingMetrics(meterRegistry);
+
+    @Spy // 기본 설정 (큰 List 병렬 처리 기준 등)
+    private MaskingProperties maskingProperties = new MaskingProperties();
+
+    @Spy // 모든 호출을 샘플로 삼는 룰별 수치 수집기 (룰별 수치를 모으는 경로도 함께 검증)
+    private MaskingRuleProfiler maskingRuleProfiler = new MaskingRuleProfiler(1.0);
+
     @InjectMocks // @Mock 객체를 주입받을 테스트 대상
     private MaskingService maskingService;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     private Map<String, Object> testDataMap;
 
     @BeforeEach
@@ -43,6 +64,13 @@ class MaskingServiceTest {
         testDataMap.put("MIMEIN_IN_MST", mimeinInMst);
     }
 
+    /**
+     * Mock MaskingManager가 반환할 실행 계획을 만듭니다. (common 룰 병합은 MaskingManagerTest에서 검증)
+     */
+    private MaskingPlan planOf(String mciId, List<MaskingProperties.PathRule> rules) {
+        return MaskingPlan.compile(mciId, Collections.emptyList(), rules, MaskerRegistry.defaults());
+    }
+
     @Test
     @DisplayName("여러 마스킹 룰(rlno, custNm)이 정확히 적용되어야 한다")
     void applyMasking_withMultipleRulesAndMixedTypes() {
@@ -59,7 +87,7 @@ class MaskingServiceTest {
         List<MaskingProperties.PathRule> rules = Arrays.asList(rule1, rule2);
 
         // 2. Mocking 설정: maskingManager가 이 ID로 호출되면, 위 룰을 반환하도록 설정
-        when(maskingManager.getMaskingRules(mciId)).thenReturn(rules);
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, rules));
 
         // 3. 테스트 대상 메소드 실행 (원본 Map이 수정됨)
         maskingService.applyMasking(mciId, testDataMap);
@@ -81,7 +109,7 @@ class MaskingServiceTest {
         String mciId = "NO_RULES_ID";
 
         // 1. Mocking 설정: 빈 리스트 반환
-        when(maskingManager.getMaskingRules(mciId)).thenReturn(Collections.emptyList());
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, Collections.emptyList()));
 
         // 2. 테스트 대상 메소드 실행
         maskingService.applyMasking(mciId, testDataMap);
@@ -123,7 +151,7 @@ class MaskingServiceTest {
         List<MaskingProperties.PathRule> rules = Arrays.asList(rule);
 
         // 3. Mocking 설정
-        when(maskingManager.getMaskingRules(mciId)).thenReturn(rules);
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, rules));
 
         // 4. 테스트 대상 메소드 실행
         maskingService.applyMasking(mciId, testData);
@@ -158,7 +186,7 @@ class MaskingServiceTest {
         List<MaskingProperties.PathRule> rules = Arrays.asList(rule);
 
         // 3. Mocking 설정
-        when(maskingManager.getMaskingRules(mciId)).thenReturn(rules);
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, rules));
 
         // 4. 테스트 대상 메소드 실행 - 예외가 발생하지 않아야 함
         maskingService.applyMasking(mciId, testData);
@@ -213,7 +241,7 @@ class MaskingServiceTest {
         List<MaskingProperties.PathRule> allRules = Arrays.asList(commonRule1, commonRule2, specificRule);
 
         // 3. Mocking 설정: MaskingManager가 common + specific 룰을 반환하도록 설정
-        when(maskingManager.getMaskingRules(mciId)).thenReturn(allRules);
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, allRules));
 
         // 4. 테스트 대상 메소드 실행
         maskingService.applyMasking(mciId, testData);
@@ -221,14 +249,14 @@ class MaskingServiceTest {
         // 5. 결과 검증
         // 5-1. common 룰이 적용되었는지 확인
         Map<String, Object> pfmidataResult = (Map<String, Object>) testData.get("pfmidata");
-        assertThat(pfmidataResult.get("rlno")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(pfmidataResult.get("rlno")).isEqualTo("123456*******");
 
         Map<String, Object> pfminptResult = (Map<String, Object>) testData.get("pfminpt");
-        assertThat(pfminptResult.get("rlno")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(pfminptResult.get("rlno")).isEqualTo("987654*******");
 
         // 5-2. mciId별 룰이 적용되었는지 확인
         Map<String, Object> mimeinInResult = (Map<String, Object>) ((Map<String, Object>) testData.get("MIMEIN_IN_MST")).get("MIMEIN_IN");
-        assertThat(mimeinInResult.get("custNm")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(mimeinInResult.get("custNm")).isEqualTo("김*수");
     }
 
     @Test
@@ -253,14 +281,14 @@ class MaskingServiceTest {
         List<MaskingProperties.PathRule> rules = Arrays.asList(commonRule);
 
         // 3. Mocking 설정: common 룰만 반환
-        when(maskingManager.getMaskingRules(mciId)).thenReturn(rules);
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, rules));
 
         // 4. 테스트 대상 메소드 실행
         maskingService.applyMasking(mciId, testData);
 
         // 5. 결과 검증
         Map<String, Object> pfmidataResult = (Map<String, Object>) testData.get("pfmidata");
-        assertThat(pfmidataResult.get("rlno")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(pfmidataResult.get("rlno")).isEqualTo("123456*******");
         assertThat(pfmidataResult.get("otherField")).isEqualTo("untouched"); // 룰이 없는 필드는 그대로
     }
 
@@ -321,7 +349,7 @@ class MaskingServiceTest {
         List<MaskingProperties.PathRule> rules = Arrays.asList(rule);
 
         // 3. Mocking 설정
-        when(maskingManager.getMaskingRules(mciId)).thenReturn(rules);
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, rules));
 
         // 4. 테스트 대상 메소드 실행
         maskingService.applyMasking(mciId, testData);
@@ -333,14 +361,14 @@ class MaskingServiceTest {
 
         // sub01의 첫 번째 요소 검증
         List<Map<String, Object>> subsub01Result1 = (List<Map<String, Object>>) sub01Result.get(0).get("subsub01");
-        assertThat(subsub01Result1.get(0).get("rlno")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(subsub01Result1.get(0).get("rlno")).isEqualTo("111111*******");
         assertThat(subsub01Result1.get(0).get("name")).isEqualTo("홍길동"); // 룰이 없는 필드는 그대로
-        assertThat(subsub01Result1.get(1).get("rlno")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(subsub01Result1.get(1).get("rlno")).isEqualTo("222222*******");
         assertThat(subsub01Result1.get(1).get("name")).isEqualTo("김철수"); // 룰이 없는 필드는 그대로
 
         // sub01의 두 번째 요소 검증
         List<Map<String, Object>> subsub01Result2 = (List<Map<String, Object>>) sub01Result.get(1).get("subsub01");
-        assertThat(subsub01Result2.get(0).get("rlno")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(subsub01Result2.get(0).get("rlno")).isEqualTo("333333*******");
         assertThat(subsub01Result2.get(0).get("name")).isEqualTo("이영희"); // 룰이 없는 필드는 그대로
     }
 
@@ -391,7 +419,7 @@ class MaskingServiceTest {
         List<MaskingProperties.PathRule> rules = Arrays.asList(rule);
 
         // 3. Mocking 설정
-        when(maskingManager.getMaskingRules(mciId)).thenReturn(rules);
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, rules));
 
         // 4. 테스트 대상 메소드 실행
         maskingService.applyMasking(mciId, testData);
@@ -402,9 +430,295 @@ class MaskingServiceTest {
         List<Map<String, Object>> level2Result = (List<Map<String, Object>>) level1Result.get(0).get("level2");
         List<Map<String, Object>> level3Result = (List<Map<String, Object>>) level2Result.get(0).get("level3");
 
-        assertThat(level3Result.get(0).get("rlno")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(level3Result.get(0).get("rlno")).isEqualTo("999999*******");
         assertThat(level3Result.get(0).get("data")).isEqualTo("test1"); // 룰이 없는 필드는 그대로
-        assertThat(level3Result.get(1).get("rlno")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(level3Result.get(1).get("rlno")).isEqualTo("888888*******");
         assertThat(level3Result.get(1).get("data")).isEqualTo("test2"); // 룰이 없는 필드는 그대로
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("공통 접두 경로를 공유하는 여러 룰이 List 내부의 모든 요소에 한 번에 적용되어야 한다")
+    void applyMasking_withSharedPrefixRulesOnList() {
+        // 1. List를 포함한 테스트 데이터 생성
+        Map<String, Object> testData = new HashMap<>();
+        Map<String, Object> cusaftIn = new HashMap<>();
+        List<Map<String, Object>> cusaftInSubList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("acno", "123456789" + i);
+            item.put("custNm", "김철수");
+            item.put("brno", "0001");
+            cusaftInSubList.add(item);
+        }
+        cusaftIn.put("CUSAFT_IN_SUB", cusaftInSubList);
+        testData.put("CUSAFT_IN", cusaftIn);
+
+        // 2. 같은 접두 경로(CUSAFT_IN.CUSAFT_IN_SUB)를 공유하는 룰 준비
+        String mciId = "NCDP_CUSAFT10A0";
+        MaskingProperties.PathRule acnoRule = new MaskingProperties.PathRule();
+        acnoRule.setJsonPath("CUSAFT_IN.CUSAFT_IN_SUB.acno");
+        acnoRule.setMaskingType("type_account");
+
+        MaskingProperties.PathRule nameRule = new MaskingProperties.PathRule();
+        nameRule.setJsonPath("CUSAFT_IN.CUSAFT_IN_SUB.custNm");
+        nameRule.setMaskingType("type_account");
+
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, Arrays.asList(acnoRule, nameRule)));
+
+        // 3. 테스트 대상 메소드 실행
+        maskingService.applyMasking(mciId, testData);
+
+        // 4. 결과 검증 - 모든 요소의 두 필드가 마스킹되고 룰이 없는 필드는 그대로
+        for (Map<String, Object> item : cusaftInSubList) {
+            assertThat(item.get("acno")).isEqualTo("<Protected_Mci_Data>");
+            assertThat(item.get("custNm")).isEqualTo("<Protected_Mci_Data>");
+            assertThat(item.get("brno")).isEqualTo("0001");
+        }
+    }
+
+    @Test
+    @DisplayName("마스킹 호출마다 지연 시간, 룰/필드 수, 실패 경로, payload 크기/깊이가 지표로 기록되어야 한다")
+    void applyMasking_recordsMetrics() {
+        // 1. 마스킹 가능한 필드 1개 + 불변 Map이라 실패하는 필드 1개
+        Map<String, Object> testData = new HashMap<>();
+        Map<String, Object> pfmidata = new HashMap<>();
+        pfmidata.put("rlno", "1234567890123");
+        pfmidata.put("svc_id", "MIMEIN10A0");
+        testData.put("pfmidata", pfmidata);
+        testData.put("pfminpt", Collections.singletonMap("rlno", "9876543210987"));
+
+        String mciId = "NCDP_MIMEIN10A0";
+        MaskingProperties.PathRule rule1 = new MaskingProperties.PathRule();
+        rule1.setJsonPath("pfmidata.rlno");
+        rule1.setMaskingType("type_rlno");
+
+        MaskingProperties.PathRule rule2 = new MaskingProperties.PathRule();
+        rule2.setJsonPath("pfminpt.rlno");
+        rule2.setMaskingType("type_rlno");
+
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, Arrays.asList(rule1, rule2)));
+
+        // 2. 테스트 대상 메소드 실행
+        maskingService.applyMasking(mciId, testData);
+
+        // 3. 결과 검증
+        assertThat(meterRegistry.get("masking.latency").tag("mciId", mciId).tag("engine", "map").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("masking.rules.evaluated").tag("engine", "map").functionCounter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("masking.fields.masked").tag("engine", "map").functionCounter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("masking.paths.failed").tag("engine", "map").functionCounter().count())
+            .isEqualTo(1);
+        // 방문한 객체: 최상위(2) + pfmidata(2) + pfminpt(1), 최대 깊이 2
+        assertThat(meterRegistry.get("masking.entries.visited").tag("engine", "map").summary().totalAmount())
+            .isEqualTo(5);
+        assertThat(meterRegistry.get("masking.payload.depth").tag("engine", "map").summary().max())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("'**' 룰 하나로 깊이와 부모 키에 관계없이 모든 rlno가 마스킹되어야 한다")
+    void applyMasking_withDeepScanRule() {
+        // 1. 서로 다른 부모 아래, 서로 다른 깊이에 rlno가 있는 데이터 (List 포함)
+        Map<String, Object> testData = new HashMap<>();
+        testData.put("rlno", "9007021234567");
+        Map<String, Object> pfmidata = new HashMap<>();
+        pfmidata.put("rlno", "1234567890123");
+        pfmidata.put("svc_id", "MIMEIN10A0");
+        testData.put("pfmidata", pfmidata);
+        List<Map<String, Object>> subList = new ArrayList<>();
+        Map<String, Object> item = new HashMap<>();
+        item.put("rlno", "8501011234567");
+        item.put("acno", "1234567890");
+        subList.add(item);
+        testData.put("CUSAFT_IN", new HashMap<>(Map.of("CUSAFT_IN_SUB", subList)));
+
+        String mciId = "NCDP_MIMEIN10A0";
+        MaskingProperties.PathRule deepRule = new MaskingProperties.PathRule();
+        deepRule.setJsonPath("**.rlno");
+        deepRule.setMaskingType("type_rlno");
+
+        MaskingProperties.PathRule oneLevelRule = new MaskingProperties.PathRule();
+        oneLevelRule.setJsonPath("CUSAFT_IN.*.acno");
+        oneLevelRule.setMaskingType("type_account");
+
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, Arrays.asList(deepRule, oneLevelRule)));
+
+        // 2. 테스트 대상 메소드 실행
+        maskingService.applyMasking(mciId, testData);
+
+        // 3. 결과 검증
+        assertThat(testData.get("rlno")).isEqualTo("900702*******");
+        assertThat(pfmidata.get("rlno")).isEqualTo("123456*******");
+        assertThat(pfmidata.get("svc_id")).isEqualTo("MIMEIN10A0");
+        assertThat(item.get("rlno")).isEqualTo("850101*******");
+        assertThat(item.get("acno")).isEqualTo("<Protected_Mci_Data>");
+    }
+
+    @Test
+    @DisplayName("'**.*' 값 스캔 룰은 모든 문자열/숫자 안의 패턴만 마스킹하고, 같은 필드를 지정한 룰이 있으면 그 룰이 우선해야 한다")
+    void applyMasking_withValueScanRule() {
+        // 1. 비고/메모 필드와 배열 안의 문자열에 민감 정보가 섞여 있는 데이터
+        Map<String, Object> memo = new HashMap<>();
+        memo.put("rmk", "고객 900702-1234567 계좌 110-12-345678 변경");
+        memo.put("tags", new ArrayList<>(Arrays.asList("hong@example.com", 8501011234567L, "일반", null)));
+        memo.put("cnt", 3);
+        ((Map<String, Object>) testDataMap.get("MIMEIN_IN_MST")).put("MEMO", memo);
+
+        String mciId = "NCDP_MIMEIN10A0";
+        MaskingProperties.PathRule scanRule = new MaskingProperties.PathRule();
+        scanRule.setJsonPath("**.*");
+        scanRule.setMaskingType("type_scan");
+
+        MaskingProperties.PathRule nameRule = new MaskingProperties.PathRule();
+        nameRule.setJsonPath("MIMEIN_IN_MST.MIMEIN_IN.custNm");
+        nameRule.setMaskingType("type_name");
+
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, Arrays.asList(scanRule, nameRule)));
+
+        // 2. 테스트 대상 메소드 실행
+        maskingService.applyMasking(mciId, testDataMap);
+
+        // 3. 결과 검증
+        Map<String, Object> mimeinIn = (Map<String, Object>) ((Map<String, Object>) testDataMap.get("MIMEIN_IN_MST")).get("MIMEIN_IN");
+        assertThat(mimeinIn.get("rlno")).isEqualTo("900702*******"); // 숫자 값도 스캔
+        assertThat(mimeinIn.get("custNm")).isEqualTo("홍*동");         // 먼저 정의된 스캔 룰보다 경로 룰 우선
+        assertThat(mimeinIn.get("addr")).isEqualTo("서울시 강남구");    // 패턴이 없으면 그대로
+        assertThat(memo.get("rmk")).isEqualTo("고객 900702-******* 계좌 ***-**-****** 변경");
+        assertThat(memo.get("tags")).isEqualTo(Arrays.asList("****@example.com", "850101*******", "일반", null));
+        assertThat(memo.get("cnt")).isEqualTo(3);                        // 타입 유지
+        assertThat(meterRegistry.get("masking.fields.masked").tag("engine", "map").functionCounter().count())
+            .isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상의 List는 나눠서 병렬로 마스킹하되, 결과와 지표는 순차 처리와 같아야 한다")
+    void applyMasking_withLargeListInParallel() {
+        String mciId = "NCDP_CUSAFT10A0";
+        MaskingProperties.PathRule acnoRule = new MaskingProperties.PathRule();
+        acnoRule.setJsonPath("CUSAFT_IN.CUSAFT_IN_SUB.acno");
+        acnoRule.setMaskingType("type_account");
+        MaskingProperties.PathRule deepRule = new MaskingProperties.PathRule();
+        deepRule.setJsonPath("**.rlno");
+        deepRule.setMaskingType("type_rlno");
+        MaskingProperties.PathRule scanRule = new MaskingProperties.PathRule();
+        scanRule.setJsonPath("CUSAFT_IN.CUSAFT_IN_SUB.memo");
+        scanRule.setMaskingType("type_scan");
+        when(maskingManager.getMaskingPlan(mciId))
+            .thenReturn(planOf(mciId, Arrays.asList(acnoRule, deepRule, scanRule)));
+
+        // 1. 순차 처리(threshold 0)와 병렬 처리(바깥/안쪽 List 모두 기준 이상)를 같은 데이터로 실행
+        MaskingProperties sequentialProperties = new MaskingProperties();
+        sequentialProperties.getParallel().setThreshold(0);
+        MaskingProperties parallelProperties = new MaskingProperties();
+        parallelProperties.getParallel().setThreads(4);
+        parallelProperties.getParallel().setThreshold(16);
+        parallelProperties.getParallel().setChunkSize(8);
+
+        SimpleMeterRegistry sequentialMeters = new SimpleMeterRegistry();
+        SimpleMeterRegistry parallelMeters = new SimpleMeterRegistry();
+        MaskingService sequential = new MaskingService(maskingManager, new MaskingMetrics(sequentialMeters), sequentialProperties);
+        MaskingService parallel = new MaskingService(maskingManager, new MaskingMetrics(parallelMeters), parallelProperties);
+
+        Map<String, Object> expected = largeListPayload();
+        Map<String, Object> actual = largeListPayload();
+        try {
+            sequential.applyMasking(mciId, expected);
+            parallel.applyMasking(mciId, actual);
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+
+        // 2. 결과 검증
+        assertThat(actual).isEqualTo(expected);
+        Map<String, Object> first = ((List<Map<String, Object>>) ((Map<String, Object>) actual.get("CUSAFT_IN")).get("CUSAFT_IN_SUB")).get(0);
+        assertThat(first.get("acno")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(first.get("memo")).isEqualTo("변경 900702-*******");
+        for (String meter : List.of("masking.fields.masked", "masking.paths.failed")) {
+            assertThat(parallelMeters.get(meter).functionCounter().count())
+                .isEqualTo(sequentialMeters.get(meter).functionCounter().count());
+        }
+        for (String meter : List.of("masking.entries.visited", "masking.payload.depth")) {
+            assertThat(parallelMeters.get(meter).summary().max()).isEqualTo(sequentialMeters.get(meter).summary().max());
+        }
+        assertThat(parallelMeters.get("masking.fields.masked").functionCounter().count()).isEqualTo(1000 + 1000 + 500 + 1000 * 20);
+    }
+
+    // CUSAFT_IN.CUSAFT_IN_SUB[1000건] 각각 acno/rlno/memo와 20건짜리 하위 List를 가진 데이터
+    private Map<String, Object> largeListPayload() {
+        List<Object> records = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> record = new HashMap<>();
+            record.put("acno", "110-12-" + (100000 + i));
+            record.put("rlno", 9007021000000L + i);
+            record.put("memo", i % 2 == 0 ? "변경 900702-1234567" : "변경 없음");
+            List<Object> history = new ArrayList<>();
+            for (int j = 0; j < 20; j++) {
+                history.add(new HashMap<>(Map.of("rlno", String.valueOf(8501011000000L + j), "seq", j)));
+            }
+            record.put("HISTORY", history);
+            records.add(record);
+        }
+        return new HashMap<>(Map.of("CUSAFT_IN", new HashMap<>(Map.of("CUSAFT_IN_SUB", records))));
+    }
+
+    @Test
+    @DisplayName("maskedView는 원본을 바꾸지 않고, 읽은 결과(get, 순회, JSON)가 applyMasking 결과와 같아야 한다")
+    void maskedView_matchesApplyMaskingWithoutMutation() throws Exception {
+        String mciId = "NCDP_CUSAFT10A0";
+        MaskingProperties.PathRule acnoRule = new MaskingProperties.PathRule();
+        acnoRule.setJsonPath("CUSAFT_IN.CUSAFT_IN_SUB.acno");
+        acnoRule.setMaskingType("type_account");
+        MaskingProperties.PathRule rlnoRule = new MaskingProperties.PathRule();
+        rlnoRule.setJsonPath("CUSAFT_IN.CUSAFT_IN_SUB.rlno");
+        rlnoRule.setMaskingType("type_rlno");
+        MaskingProperties.PathRule scanRule = new MaskingProperties.PathRule();
+        scanRule.setJsonPath("CUSAFT_IN.CUSAFT_IN_SUB.memo");
+        scanRule.setMaskingType("type_scan");
+        when(maskingManager.getMaskingPlan(mciId))
+            .thenReturn(planOf(mciId, Arrays.asList(acnoRule, rlnoRule, scanRule)));
+
+        Map<String, Object> original = largeListPayload();
+        Map<String, Object> unrelated = new HashMap<>(Map.of("svc_id", "CUSAFT10A0"));
+        original.put("HEADER", unrelated);
+        String originalJson = objectMapper.writeValueAsString(original);
+
+        Map<String, Object> expected = largeListPayload();
+        expected.put("HEADER", new HashMap<>(unrelated));
+        maskingService.applyMasking(mciId, expected);
+
+        // 1. 뷰를 읽은 결과는 applyMasking과 같고, 원본은 그대로
+        Map<String, Object> view = maskingService.maskedView(mciId, original);
+        assertThat(view).isEqualTo(expected);
+        assertThat(objectMapper.writeValueAsString(view)).isEqualTo(objectMapper.writeValueAsString(expected));
+        assertThat(objectMapper.writeValueAsString(original)).isEqualTo(originalJson);
+
+        // 2. 룰과 무관한 하위 구조는 복사하지 않고 원본을 공유
+        assertThat(view.get("HEADER")).isSameAs(unrelated);
+        Map<String, Object> firstView = (Map<String, Object>) ((List<Object>) ((Map<String, Object>) view.get("CUSAFT_IN")).get("CUSAFT_IN_SUB")).get(0);
+        Map<String, Object> firstOriginal = ((List<Map<String, Object>>) ((Map<String, Object>) original.get("CUSAFT_IN")).get("CUSAFT_IN_SUB")).get(0);
+        assertThat(firstView.get("HISTORY")).isSameAs(firstOriginal.get("HISTORY"));
+        assertThat(firstView.get("acno")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(firstView.get("rlno")).isEqualTo("900702*******");
+
+        // 3. 읽기 전용
+        assertThatThrownBy(() -> view.put("rlno", "1")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> firstView.remove("acno")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("룰이 없거나 데이터가 null이면 maskedView는 원본을 읽기 전용으로 감싸거나 null을 반환해야 한다")
+    void maskedView_withNoRules() {
+        String mciId = "NO_RULES";
+        when(maskingManager.getMaskingPlan(mciId)).thenReturn(planOf(mciId, Collections.emptyList()));
+
+        Map<String, Object> view = maskingService.maskedView(mciId, testDataMap);
+
+        assertThat(view).isEqualTo(testDataMap);
+        assertThat(view.get("MIMEIN_IN_MST")).isSameAs(testDataMap.get("MIMEIN_IN_MST"));
+        assertThatThrownBy(() -> view.put("x", 1)).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(maskingService.maskedView(mciId, null)).isNull();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.playground.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MaskedDataCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    // 소스별 호출 횟수를 세고, release가 열릴 때까지 응답을 늦추는 가짜 외부 서비스
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean blocking;
+
+    private final ExternalApiService externalApiService = new ExternalApiService() {
+        @Override
+        public String fetchDataFromServer(String source) {
+            fetchCount.incrementAndGet();
+            if (source.startsWith("error")) {
+                throw new IllegalStateException("connection refused");
+            }
+            if (blocking) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "{source=" + source + ", abc=secret}";
+        }
+    };
+
+    private final AtomicInteger maskCount = new AtomicInteger();
+    private final DataMaskingService dataMaskingService = new DataMaskingService() {
+        @Override
+        public String maskSensitiveData(String data) {
+            maskCount.incrementAndGet();
+            return data.replace("secret", "<Masked>");
+        }
+
+        @Override
+        public void maskSensitiveData(Reader in, Writer out) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    private final MaskedDataCache cache = new MaskedDataCache(externalApiService, dataMaskingService,
+        Duration.ofSeconds(10), 2, meterRegistry, ticker);
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 소스에 동시에 들어온 미스는 하나의 조회/마스킹을 함께 기다린다")
+    void getMaskedData_coalescesConcurrentMisses() throws Exception {
+        blocking = true;
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.getMaskedData("core")));
+            }
+            Thread.sleep(200); // 모든 호출이 진행 중인 조회에 합류할 시간
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("{source=core, abc=<Masked>}");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(fetchCount).hasValue(1);
+        assertThat(maskCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회하고, 그 전에는 캐싱된 마스킹 결과를 반환한다")
+    void getMaskedData_expiresAfterTtl() {
+        cache.getMaskedData("core");
+        nanos.addAndGet(Duration.ofSeconds(9).toNanos());
+        cache.getMaskedData("core");
+        assertThat(fetchCount).hasValue(1);
+
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        cache.getMaskedData("core");
+        assertThat(fetchCount).hasValue(2);
+        assertThat(maskCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 캐싱하지 않고 예외를 그대로 전달한다")
+    void getMaskedData_doesNotCacheFailures() {
+        assertThatThrownBy(() -> cache.getMaskedData("error-1")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> cache.getMaskedData("error-1")).isInstanceOf(IllegalStateException.class);
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 제거되고, 적중률과 조회 지연 시간이 지표로 기록된다")
+    void getMaskedData_boundsSizeAndRecordsMetrics() {
+        cache.getMaskedData("a");
+        cache.getMaskedData("a");
+        cache.getMaskedData("a");
+        cache.getMaskedData("b");
+        cache.getMaskedData("c");
+
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", "maskedData").gauge().value())
+            .isEqualTo(2.0 / 5);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "maskedData").tag("result", "miss")
+            .functionCounter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("cache.load.latency").tag("cache", "maskedData").timer().count())
+            .isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "maskedData").functionCounter().count())
+            .isEqualTo(1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.playground.service;
+
+import com.example.playground.config.MaskedPropertyModule;
+import com.example.playground.config.masker.Masked;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.example.playground.dto.ApiResponse;
+import com.example.playground.dto.LombokImmutableDto;
+import com.example.playground.dto.LombokMutableDto;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MaskedPropertyModuleTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new MaskedPropertyModule(MaskerRegistry.defaults()));
+
+    @Test
+    @DisplayName("@Masked 필드는 ApiResponse 안에서도 직렬화 시점에 마스킹되고 나머지 필드는 그대로 써야 한다")
+    void serialize_masksAnnotatedFields() throws Exception {
+        String immutable = objectMapper.writeValueAsString(ApiResponse.success(new LombokImmutableDto("322110113", "조재영")));
+        String mutable = objectMapper.writeValueAsString(ApiResponse.success(new LombokMutableDto("322110113", "홍길동")));
+
+        assertThat(immutable).isEqualTo("{\"success\":true,\"data\":{\"cusno\":\"322110113\",\"name\":\"조*영\"},\"message\":null}");
+        assertThat(mutable).isEqualTo("{\"success\":true,\"data\":{\"cusno\":\"322110113\",\"name\":\"홍*동\"},\"message\":null}");
+    }
+
+    @Test
+    @DisplayName("문자열이 아닌 값은 문자열로 바꿔 마스킹하고, null과 빈 문자열은 그대로 써야 한다")
+    void serialize_nonStringNullAndEmptyValues() throws Exception {
+        assertThat(objectMapper.writeValueAsString(new Customer(9007021234567L, null, "")))
+            .isEqualTo("{\"rlno\":\"900702*******\",\"email\":null,\"addr\":\"\"}");
+        assertThat(objectMapper.writeValueAsString(List.of(new LombokMutableDto("1", "김철수"))))
+            .isEqualTo("[{\"cusno\":\"1\",\"name\":\"김*수\"}]");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 maskingType은 해당 클래스를 처음 직렬화할 때 실패해야 한다")
+    void serialize_unknownMaskingType() {
+        assertThatThrownBy(() -> objectMapper.writeValueAsString(new Unknown("x")))
+            .isInstanceOf(JsonMappingException.class)
+            .hasMessageContaining("Unknown maskingType: type_rrn");
+    }
+
+    static class Customer {
+        @Masked(type = "type_rlno")
+        public final Long rlno;
+        @Masked(type = "type_email")
+        public final String email;
+        @Masked(type = "type_address")
+        public final String addr;
+
+        Customer(Long rlno, String email, String addr) {
+            this.rlno = rlno;
+            this.email = email;
+            this.addr = addr;
+        }
+    }
+
+    static class Unknown {
+        @Masked(type = "type_rrn")
+        public final String value;
+
+        Unknown(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.playground.service;
+
+import com.example.playground.config.masker.Masker;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.example.playground.config.masker.RlnoMasker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MaskerTest {
+
+    private final MaskerRegistry maskerRegistry = MaskerRegistry.defaults();
+
+    private String mask(String maskingType, String original) {
+        return maskerRegistry.get(maskingType).mask(original);
+    }
+
+    @Test
+    @DisplayName("type_rlno는 뒤 7자리를 가리고, 7자리 이하면 전체를 치환해야 한다")
+    void rlno() {
+        assertThat(mask("type_rlno", "9007021234567")).isEqualTo("900702*******");
+        assertThat(mask("type_rlno", "12345678")).isEqualTo("1*******");
+        assertThat(mask("type_rlno", "1234567")).isEqualTo("<Protected_Mci_Data>");
+    }
+
+    @Test
+    @DisplayName("type_name은 첫 글자와 마지막 글자만 남겨야 한다")
+    void name() {
+        assertThat(mask("type_name", "홍길동")).isEqualTo("홍*동");
+        assertThat(mask("type_name", "남궁길동")).isEqualTo("남*동");
+        assertThat(mask("type_name", "홍길")).isEqualTo("홍*");
+        assertThat(mask("type_name", "홍")).isEqualTo("<Protected_Mci_Data>");
+    }
+
+    @Test
+    @DisplayName("type_address는 첫 숫자부터 끝까지를 가려야 한다")
+    void address() {
+        assertThat(mask("type_address", "서울시 강남구 테헤란로 123 4층")).isEqualTo("서울시 강남구 테헤란로 ****");
+        assertThat(mask("type_address", "123 서울시")).isEqualTo("********");
+        assertThat(mask("type_address", "서울특별시 강남구")).isEqualTo("서울특별시 강남구");
+        // 정규식 \d와 같이 ASCII 숫자만 숫자로 본다 (전각 숫자 제외)
+        assertThat(mask("type_address", "서울시 １２３")).isEqualTo("서울시 １２３");
+    }
+
+    @Test
+    @DisplayName("type_account, type_email은 전체를 고정 문자열로 치환해야 한다")
+    void protectedTypes() {
+        assertThat(mask("type_account", "1234567890")).isEqualTo("<Protected_Mci_Data>");
+        assertThat(mask("type_email", "user@example.com")).isEqualTo("<Protected_Mci_Data>");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 maskingType과 중복 등록된 maskingType은 거부되어야 한다")
+    void registryRejectsUnknownAndDuplicateTypes() {
+        assertThatThrownBy(() -> maskerRegistry.get("type_unknown"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("type_unknown");
+
+        Masker duplicate = new RlnoMasker();
+        assertThatThrownBy(() -> new MaskerRegistry(Arrays.asList(new RlnoMasker(), duplicate)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("type_rlno");
+    }
+}
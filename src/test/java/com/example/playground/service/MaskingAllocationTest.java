@@ -0,0 +1,201 @@
+package com.example.playground.service;
+
+import com.example.playground.config.MaskingManager;
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.MaskingRuleProfiler;
+import com.example.playground.config.MaskingService;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.example.playground.service.Impl.DataMaskingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 마스킹 핫 패스의 호출당 할당량(bytes)이 시나리오별 예산을 넘지 않는지 검증합니다.
+ *
+ * 예산은 src/test/resources/allocation-budgets.properties에 있으며, 같은 이름의 시스템 속성으로 덮어쓸 수 있습니다.
+ * (예: gradle test -Pallocation.budget.mimein=2048)
+ * 워밍업으로 JIT 컴파일(탈출 분석 포함)을 끝낸 뒤, 입력은 미리 만들어 두고 호출 구간의 할당량만 잽니다.
+ *
+ * MaksingServiceTest와 같은 payload/룰을 쓰지만, Mock 호출 기록이 할당량에 섞이지 않도록 실제 MaskingManager를 사용합니다.
+ */
+class MaskingAllocationTest {
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 2_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static Properties budgets;
+
+    private MaskingService maskingService;
+    private DataMaskingService dataMaskingService;
+
+    @BeforeAll
+    static void loadBudgets() throws IOException {
+        budgets = new Properties();
+        try (InputStream in = MaskingAllocationTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            budgets.load(in);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported(), "thread allocation counting is not supported");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("NCDP_MIMEIN10A0", Arrays.asList(
+            rule("MIMEIN_IN_MST.MIMEIN_IN.rlno", "type_rlno"),
+            rule("MIMEIN_IN_MST.MIMEIN_IN.custNm", "type_name")));
+        mappings.put("NCDP_CUSAFT10A0", Arrays.asList(rule("CUSAFT_IN.CUSAFT_IN_SUB.acno", "type_account")));
+
+        // 운영과 같은 기본 설정 (룰별 수치 샘플링 비율 포함)
+        MaskingProperties properties = new MaskingProperties();
+        properties.setMappings(mappings);
+        MaskingMetrics metrics = new MaskingMetrics(new SimpleMeterRegistry());
+        maskingService = new MaskingService(new MaskingManager(properties, MaskerRegistry.defaults()), metrics,
+            properties, new MaskingRuleProfiler(properties));
+        dataMaskingService = new DataMaskingServiceImpl(new MaskingProperties(), metrics);
+    }
+
+    private MaskingProperties.PathRule rule(String jsonPath, String maskingType) {
+        MaskingProperties.PathRule rule = new MaskingProperties.PathRule();
+        rule.setJsonPath(jsonPath);
+        rule.setMaskingType(maskingType);
+        return rule;
+    }
+
+    // MaksingServiceTest.setUp과 같은 payload
+    private static Map<String, Object> mimeinPayload(int i) {
+        Map<String, Object> mimeinIn = new HashMap<>();
+        mimeinIn.put("rlno", 9007021234567L);
+        mimeinIn.put("custNm", "홍길동");
+        mimeinIn.put("addr", "서울시 강남구");
+        Map<String, Object> mimeinInMst = new HashMap<>();
+        mimeinInMst.put("MIMEIN_IN", mimeinIn);
+        Map<String, Object> dataMap = new HashMap<>();
+        dataMap.put("MIMEIN_IN_MST", mimeinInMst);
+        return dataMap;
+    }
+
+    // MaksingServiceTest.applyMasking_withListType과 같은 payload
+    private static Map<String, Object> cusaftPayload(int i) {
+        List<Map<String, Object>> subList = new ArrayList<>();
+        subList.add(new HashMap<>(Map.of("acno", "1234567890", "name", "김철수")));
+        subList.add(new HashMap<>(Map.of("acno", "0987654321", "name", "이영희")));
+        Map<String, Object> cusaftIn = new HashMap<>();
+        cusaftIn.put("CUSAFT_IN_SUB", subList);
+        Map<String, Object> dataMap = new HashMap<>();
+        dataMap.put("CUSAFT_IN", cusaftIn);
+        return dataMap;
+    }
+
+    // DataMaskingServiceTest.testCardCoreStructure와 같은 입력
+    private static final String KEY_VALUE_PAYLOAD = "{MIMEIN15A0_IN_MST={MIMEIN15A0_IN={cd_cusno=322110113, "
+        + "MIMEIN15A0_subArray01=[{cd_no=12341234, mbepay_dsc=1}, {cd_no=56785678, mbepay_dsc=1}, "
+        + "{cd_no=56785678, mbepay_dsc=1}]}}, pfmidata={std_glbl_id=238489238402, svc_id=MIMEIN15A0, sync_dsc=R}}";
+
+    @Test
+    @DisplayName("applyMasking(여러 룰, 중첩 Map)의 호출당 할당량이 예산 이내여야 한다")
+    void applyMasking_nestedMap() {
+        assertWithinBudget("mimein", MaskingAllocationTest::mimeinPayload,
+            payload -> maskingService.applyMasking("NCDP_MIMEIN10A0", payload));
+    }
+
+    @Test
+    @DisplayName("applyMasking(List 내부 Map)의 호출당 할당량이 예산 이내여야 한다")
+    void applyMasking_list() {
+        assertWithinBudget("cusaft-list", MaskingAllocationTest::cusaftPayload,
+            payload -> maskingService.applyMasking("NCDP_CUSAFT10A0", payload));
+    }
+
+    @Test
+    @DisplayName("적용할 룰이 없는 applyMasking의 호출당 할당량이 예산 이내여야 한다")
+    void applyMasking_noRules() {
+        assertWithinBudget("no-rules", MaskingAllocationTest::mimeinPayload,
+            payload -> maskingService.applyMasking("NO_RULES_ID", payload));
+    }
+
+    @Test
+    @DisplayName("maskSensitiveData(String)의 호출당 할당량이 예산 이내여야 한다")
+    void maskSensitiveData_string() {
+        assertWithinBudget("key-value", i -> KEY_VALUE_PAYLOAD,
+            payload -> dataMaskingService.maskSensitiveData(payload));
+    }
+
+    @Test
+    @DisplayName("maskSensitiveData(Reader, Writer)의 호출당 할당량이 예산 이내여야 한다")
+    void maskSensitiveData_stream() {
+        assertWithinBudget("key-value-stream", i -> new StringReader(KEY_VALUE_PAYLOAD),
+            reader -> {
+                try {
+                    dataMaskingService.maskSensitiveData(reader, new StringWriter(KEY_VALUE_PAYLOAD.length()));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+    }
+
+    /**
+     * 워밍업 후 MEASURED_CALLS번 호출한 할당량의 평균을 시나리오 예산과 비교합니다.
+     * (입력은 측정 구간 밖에서 미리 만들어 두므로 호출 자체의 할당량만 집계됨)
+     */
+    private <T> void assertWithinBudget(String scenario, IntFunction<T> input, Call<T> call) {
+        long budget = budget(scenario);
+
+        // 1. 워밍업 (JIT 컴파일)
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call.run(input.apply(i));
+        }
+
+        // 2. 측정 대상 입력 준비
+        List<T> inputs = new ArrayList<>(MEASURED_CALLS);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            inputs.add(input.apply(i));
+        }
+
+        // 3. 측정 (현재 스레드의 누적 할당량 차이)
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.run(inputs.get(i));
+        }
+        long perCall = (THREADS.getCurrentThreadAllocatedBytes() - before) / MEASURED_CALLS;
+
+        assertThat(perCall)
+            .as("%s: %d bytes allocated per call (budget %d)", scenario, perCall, budget)
+            .isLessThanOrEqualTo(budget);
+    }
+
+    private static long budget(String scenario) {
+        String key = "allocation.budget." + scenario;
+        String value = System.getProperty(key, budgets.getProperty(key));
+        assertThat(value).as("no allocation budget configured for %s", key).isNotNull();
+        return Long.parseLong(value.trim());
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        void run(T input);
+    }
+}
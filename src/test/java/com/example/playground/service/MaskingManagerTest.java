@@ -0,0 +1,194 @@
+package com.example.playground.service;
+
+import com.example.playground.config.MaskingManager;
+import com.example.playground.config.MaskingPathNode;
+import com.example.playground.config.MaskingPlan;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.MaskingRuleSnapshot;
+import com.example.playground.config.masker.MaskerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MaskingManagerTest {
+
+    private MaskingManager maskingManager;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("common", Arrays.asList(rule("pfmidata.rlno", "type_rlno")));
+        mappings.put("NCDP_MIMEIN10A0", Arrays.asList(
+            rule("MIMEIN_IN_MST.MIMEIN_IN.rlno", "type_rlno"),
+            rule("MIMEIN_IN_MST.MIMEIN_IN.custNm", "type_name")));
+        mappings.put("NCDP_EMPTY", Collections.emptyList());
+
+        MaskingProperties properties = new MaskingProperties();
+        properties.setMappings(mappings);
+        maskingManager = new MaskingManager(properties, MaskerRegistry.defaults());
+    }
+
+    private MaskingProperties.PathRule rule(String jsonPath, String maskingType) {
+        MaskingProperties.PathRule rule = new MaskingProperties.PathRule();
+        rule.setJsonPath(jsonPath);
+        rule.setMaskingType(maskingType);
+        return rule;
+    }
+
+    @Test
+    @DisplayName("common 룰이 먼저, mciId별 룰이 뒤에 병합되고 경로는 미리 분리되어 있어야 한다")
+    void getMaskingPlan_mergesCommonAndSpecificRules() {
+        MaskingPlan plan = maskingManager.getMaskingPlan("NCDP_MIMEIN10A0");
+
+        assertThat(plan.getRules()).extracting(MaskingPlan.CompiledRule::getJsonPath)
+            .containsExactly("pfmidata.rlno", "MIMEIN_IN_MST.MIMEIN_IN.rlno", "MIMEIN_IN_MST.MIMEIN_IN.custNm");
+        assertThat(plan.getRules().get(1).getSegments()).containsExactly("MIMEIN_IN_MST", "MIMEIN_IN", "rlno");
+    }
+
+    @Test
+    @DisplayName("공통 접두 경로를 가진 룰들은 경로 트라이에서 하나의 노드로 병합되어야 한다")
+    void getMaskingPlan_sharesCommonPrefixInTrie() {
+        MaskingPathNode root = maskingManager.getMaskingPlan("NCDP_MIMEIN10A0").getRoot();
+
+        assertThat(root.getChildKeys()).containsExactly("pfmidata", "MIMEIN_IN_MST");
+        MaskingPathNode mimeinIn = root.next("MIMEIN_IN_MST").next("MIMEIN_IN");
+        assertThat(mimeinIn.getChildKeys()).containsExactly("rlno", "custNm");
+        assertThat(mimeinIn.next("custNm").isTerminal()).isTrue();
+        assertThat(mimeinIn.next("custNm").getRule().getMaskingType()).isEqualTo("type_name");
+        assertThat(mimeinIn.next("addr")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 mciId는 매 호출마다 캐싱된 동일 계획을 반환해야 한다")
+    void getMaskingPlan_returnsCachedInstance() {
+        assertThat(maskingManager.getMaskingPlan("NCDP_MIMEIN10A0"))
+            .isSameAs(maskingManager.getMaskingPlan("NCDP_MIMEIN10A0"));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 mciId는 하나의 common 전용 계획을 공유해야 한다")
+    void getMaskingPlan_unknownIdsShareCommonPlan() {
+        MaskingPlan unknown1 = maskingManager.getMaskingPlan("UNKNOWN_1");
+        MaskingPlan unknown2 = maskingManager.getMaskingPlan("UNKNOWN_2");
+
+        assertThat(unknown1).isSameAs(unknown2);
+        assertThat(maskingManager.getMaskingPlan(null)).isSameAs(unknown1);
+        assertThat(unknown1.getRules()).extracting(MaskingPlan.CompiledRule::getJsonPath)
+            .containsExactly("pfmidata.rlno");
+    }
+
+    @Test
+    @DisplayName("mciId별 룰이 비어 있으면 common 룰만 포함해야 한다")
+    void getMaskingPlan_emptySpecificRules() {
+        assertThat(maskingManager.getMaskingPlan("NCDP_EMPTY").getRules())
+            .extracting(MaskingPlan.CompiledRule::getJsonPath)
+            .containsExactly("pfmidata.rlno");
+    }
+
+    @Test
+    @DisplayName("리로드하면 새 스냅샷으로 교체되고, 이미 꺼내 둔 계획은 이전 룰을 그대로 유지해야 한다")
+    void reload_swapsSnapshotAndKeepsInFlightPlan() {
+        MaskingPlan inFlight = maskingManager.getMaskingPlan("NCDP_MIMEIN10A0");
+
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("NCDP_MIMEIN10A0", Arrays.asList(rule("MIMEIN_IN_MST.MIMEIN_IN.addr", "type_address")));
+        MaskingRuleSnapshot snapshot = maskingManager.reload(mappings);
+
+        assertThat(snapshot.getVersion()).isEqualTo(2);
+        assertThat(maskingManager.getSnapshot()).isSameAs(snapshot);
+        assertThat(maskingManager.getMaskingPlan("NCDP_MIMEIN10A0").getRules())
+            .extracting(MaskingPlan.CompiledRule::getJsonPath)
+            .containsExactly("MIMEIN_IN_MST.MIMEIN_IN.addr");
+        assertThat(inFlight.getRules()).extracting(MaskingPlan.CompiledRule::getJsonPath)
+            .containsExactly("pfmidata.rlno", "MIMEIN_IN_MST.MIMEIN_IN.rlno", "MIMEIN_IN_MST.MIMEIN_IN.custNm");
+    }
+
+    @Test
+    @DisplayName("잘못된 룰로 리로드하면 예외가 발생하고 기존 스냅샷이 유지되어야 한다")
+    void reload_invalidRulesKeepsPreviousSnapshot() {
+        MaskingRuleSnapshot before = maskingManager.getSnapshot();
+
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("NCDP_MIMEIN10A0", Arrays.asList(rule("MIMEIN_IN_MST.MIMEIN_IN.addr", null)));
+
+        assertThatThrownBy(() -> maskingManager.reload(mappings))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maskingType");
+        assertThat(maskingManager.getSnapshot()).isSameAs(before);
+        assertThat(before.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 maskingType이 있으면 생성 시점(기동)에 실패해야 한다")
+    void constructor_rejectsUnknownMaskingType() {
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("NCDP_MIMEIN10A0", Arrays.asList(rule("MIMEIN_IN_MST.MIMEIN_IN.rlno", "type_rrn")));
+        MaskingProperties properties = new MaskingProperties();
+        properties.setMappings(mappings);
+
+        assertThatThrownBy(() -> new MaskingManager(properties, MaskerRegistry.defaults()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown maskingType: type_rrn");
+    }
+
+    @Test
+    @DisplayName("컴파일된 룰에는 maskingType에 해당하는 마스커가 묶여 있어야 한다")
+    void getMaskingPlan_resolvesMaskerAtCompileTime() {
+        MaskingPlan plan = maskingManager.getMaskingPlan("NCDP_MIMEIN10A0");
+
+        assertThat(plan.getRules()).extracting(rule -> rule.getMasker().type())
+            .containsExactly("type_rlno", "type_rlno", "type_name");
+    }
+
+    @Test
+    @DisplayName("'**' 룰은 자기 자신으로 돌아오는 와일드카드 전이로 컴파일되어 어느 깊이에서든 매칭되어야 한다")
+    void getMaskingPlan_compilesDeepScanIntoAutomaton() {
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("NCDP_DEEP", Arrays.asList(rule("**.rlno", "type_rlno"), rule("CUS.*.acno", "type_account")));
+        maskingManager.reload(mappings);
+
+        MaskingPathNode root = maskingManager.getMaskingPlan("NCDP_DEEP").getRoot();
+
+        assertThat(root.hasWildcard()).isTrue();
+        assertThat(root.next("rlno").getRule().getJsonPath()).isEqualTo("**.rlno");
+        assertThat(root.next("a").next("b")).isSameAs(root.next("x")); // 상태가 무한히 늘어나지 않음
+        assertThat(root.next("a").next("b").next("rlno").isTerminal()).isTrue();
+        assertThat(root.next("CUS").next("ANY").next("acno").getRule().getMaskingType()).isEqualTo("type_account");
+        assertThat(root.next("CUS").next("acno").isTerminal()).isFalse(); // '*'는 정확히 한 단계
+    }
+
+    @Test
+    @DisplayName("같은 키에서 여러 룰이 끝나면 먼저 정의된 룰이 적용되어야 한다")
+    void getMaskingPlan_firstDefinedRuleWinsOnOverlap() {
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("NCDP_DEEP", Arrays.asList(rule("A.rlno", "type_account"), rule("**.rlno", "type_rlno")));
+        maskingManager.reload(mappings);
+
+        MaskingPathNode root = maskingManager.getMaskingPlan("NCDP_DEEP").getRoot();
+
+        assertThat(root.next("A").next("rlno").getRule().getMaskingType()).isEqualTo("type_account");
+        assertThat(root.next("B").next("rlno").getRule().getMaskingType()).isEqualTo("type_rlno");
+    }
+
+    @Test
+    @DisplayName("세그먼트 일부에만 쓴 와일드카드, '**'로 끝나는 경로, 빈 세그먼트는 거부되어야 한다")
+    void reload_rejectsInvalidWildcardPaths() {
+        for (String jsonPath : Arrays.asList("CUS.acno*", "CUS.**", "CUS..acno")) {
+            Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+            mappings.put("NCDP_DEEP", Arrays.asList(rule(jsonPath, "type_account")));
+
+            assertThatThrownBy(() -> maskingManager.reload(mappings))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(jsonPath);
+        }
+    }
+}
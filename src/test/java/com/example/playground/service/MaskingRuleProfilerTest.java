@@ -0,0 +1,187 @@
+package com.example.playground.service;
+
+import com.example.playground.config.MaskingManager;
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.MaskingRuleProfiler;
+import com.example.playground.config.MaskingRuleSnapshot;
+import com.example.playground.config.MaskingRulesEndpoint;
+import com.example.playground.config.MaskingService;
+import com.example.playground.config.StreamingMaskingEngine;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MaskingRuleProfilerTest {
+
+    private static final String MCI_ID = "NCDP_MIMEIN10A0";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MaskingManager maskingManager;
+    private MaskingMetrics maskingMetrics;
+    private Map<String, List<MaskingProperties.PathRule>> mappings;
+
+    @BeforeEach
+    void setUp() {
+        mappings = new HashMap<>();
+        mappings.put("common", Arrays.asList(rule("pfmidata.rlno", "type_rlno")));
+        mappings.put(MCI_ID, Arrays.asList(
+            rule("MIMEIN_IN_MST.MIMEIN_IN.rlno", "type_rlno"),
+            rule("MIMEIN_IN_MST.MIMEIN_IN.custNm", "type_name"),
+            rule("MIMEIN_IN_MST.MIMEIN_IN.custNm", "type_rlno"), // 앞선 룰에 가려지는 중복 룰
+            rule("MIMEIN_IN_MST.MIMEIN_IM.custNm", "type_name"))); // 경로 오타
+
+        MaskingProperties properties = new MaskingProperties();
+        properties.setMappings(mappings);
+        maskingManager = new MaskingManager(properties, MaskerRegistry.defaults());
+        maskingMetrics = new MaskingMetrics(new SimpleMeterRegistry());
+    }
+
+    private MaskingProperties.PathRule rule(String jsonPath, String maskingType) {
+        MaskingProperties.PathRule rule = new MaskingProperties.PathRule();
+        rule.setJsonPath(jsonPath);
+        rule.setMaskingType(maskingType);
+        return rule;
+    }
+
+    private Map<String, Object> payload(String rlno, String custNm) {
+        Map<String, Object> mimeinIn = new HashMap<>();
+        mimeinIn.put("rlno", rlno);
+        mimeinIn.put("custNm", custNm);
+        Map<String, Object> mimeinInMst = new HashMap<>();
+        mimeinInMst.put("MIMEIN_IN", mimeinIn);
+        Map<String, Object> dataMap = new HashMap<>();
+        dataMap.put("MIMEIN_IN_MST", mimeinInMst);
+        return dataMap;
+    }
+
+    @Test
+    @DisplayName("Map/스트리밍 엔진 호출의 룰별 평가/적중/마스킹/실패 수를 (mciId, jsonPath, maskingType)별로 모아야 한다")
+    void report_countsPerRule() throws Exception {
+        MaskingRuleProfiler profiler = new MaskingRuleProfiler(1.0);
+        MaskingService maskingService = new MaskingService(maskingManager, maskingMetrics, new MaskingProperties(),
+            profiler);
+        StreamingMaskingEngine streamingMaskingEngine = new StreamingMaskingEngine(maskingManager, objectMapper,
+            maskingMetrics, profiler);
+
+        // 1. 정상 2건 + 불변 Map 1건(put 실패) + 스트리밍 1건(custNm이 null이면 적중 아님)
+        maskingService.applyMasking(MCI_ID, payload("9007021234567", "홍길동"));
+        maskingService.applyMasking(MCI_ID, payload("8501011234567", "김철수"));
+        maskingService.applyMasking(MCI_ID, Map.of("MIMEIN_IN_MST", Map.of("MIMEIN_IN", Map.of("rlno", "9007021234567"))));
+        String json = "{\"MIMEIN_IN_MST\":{\"MIMEIN_IN\":{\"rlno\":\"9007021234567\",\"custNm\":null}}}";
+        streamingMaskingEngine.mask(MCI_ID, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+            new ByteArrayOutputStream());
+
+        // 2. 스냅샷 순서대로 (common 전용 계획 먼저, mciId별 계획은 common 룰 + 자체 룰)
+        List<MaskingRuleProfiler.RuleReport> reports = profiler.report(maskingManager.getSnapshot());
+        assertThat(reports)
+            .extracting(MaskingRuleProfiler.RuleReport::getMciId, MaskingRuleProfiler.RuleReport::getJsonPath,
+                MaskingRuleProfiler.RuleReport::getMaskingType, MaskingRuleProfiler.RuleReport::getEvaluated,
+                MaskingRuleProfiler.RuleReport::getMatched, MaskingRuleProfiler.RuleReport::getMasked,
+                MaskingRuleProfiler.RuleReport::getFailed)
+            .containsExactly(
+                tuple("common", "pfmidata.rlno", "type_rlno", 0L, 0L, 0L, 0L),
+                tuple(MCI_ID, "pfmidata.rlno", "type_rlno", 4L, 0L, 0L, 0L),
+                tuple(MCI_ID, "MIMEIN_IN_MST.MIMEIN_IN.rlno", "type_rlno", 4L, 4L, 3L, 1L),
+                tuple(MCI_ID, "MIMEIN_IN_MST.MIMEIN_IN.custNm", "type_name", 4L, 2L, 2L, 0L),
+                tuple(MCI_ID, "MIMEIN_IN_MST.MIMEIN_IN.custNm", "type_rlno", 4L, 0L, 0L, 0L),
+                tuple(MCI_ID, "MIMEIN_IN_MST.MIMEIN_IM.custNm", "type_name", 4L, 0L, 0L, 0L));
+        assertThat(reports.get(3).getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("엔드포인트는 한 번도 적중하지 않은 룰, 실패한 룰, 비용이 큰 룰을 나눠 보여줘야 한다")
+    @SuppressWarnings("unchecked")
+    void endpoint_listsDeadFailingAndExpensiveRules() {
+        MaskingRuleProfiler profiler = new MaskingRuleProfiler(1.0);
+        MaskingService maskingService = new MaskingService(maskingManager, maskingMetrics, new MaskingProperties(),
+            profiler);
+        MaskingRulesEndpoint endpoint = new MaskingRulesEndpoint(maskingManager, profiler);
+
+        maskingService.applyMasking(MCI_ID, payload("9007021234567", "홍길동"));
+        maskingService.applyMasking(MCI_ID, Map.of("MIMEIN_IN_MST", Map.of("MIMEIN_IN", Map.of("rlno", "9007021234567"))));
+
+        Map<String, Object> body = endpoint.rules();
+        assertThat(body).containsEntry("rulesVersion", 1L).containsEntry("sampleRate", 1.0);
+        // 평가된 횟수가 많은 룰부터 (common 전용 계획은 호출이 없어 마지막)
+        assertThat((List<MaskingRuleProfiler.RuleReport>) body.get("neverMatched"))
+            .extracting(MaskingRuleProfiler.RuleReport::getMciId, MaskingRuleProfiler.RuleReport::getJsonPath)
+            .containsExactly(
+                tuple(MCI_ID, "pfmidata.rlno"),
+                tuple(MCI_ID, "MIMEIN_IN_MST.MIMEIN_IN.custNm"),
+                tuple(MCI_ID, "MIMEIN_IN_MST.MIMEIN_IM.custNm"),
+                tuple("common", "pfmidata.rlno"));
+        assertThat((List<MaskingRuleProfiler.RuleReport>) body.get("failing"))
+            .extracting(MaskingRuleProfiler.RuleReport::getJsonPath)
+            .containsExactly("MIMEIN_IN_MST.MIMEIN_IN.rlno");
+        assertThat((List<MaskingRuleProfiler.RuleReport>) body.get("expensive"))
+            .extracting(MaskingRuleProfiler.RuleReport::getMaskingType)
+            .containsExactlyInAnyOrder("type_rlno", "type_name");
+
+        // 초기화 후에는 모든 룰이 평가 0회
+        endpoint.reset();
+        assertThat(profiler.report(maskingManager.getSnapshot()))
+            .allSatisfy(report -> assertThat(report.getEvaluated()).isZero());
+    }
+
+    @Test
+    @DisplayName("샘플 비율이 0이면 룰별 수치를 모으지 않고, 마스킹 결과는 그대로여야 한다")
+    void sampleRateZero_recordsNothing() {
+        MaskingRuleProfiler profiler = new MaskingRuleProfiler(0.0);
+        MaskingService maskingService = new MaskingService(maskingManager, maskingMetrics, new MaskingProperties(),
+            profiler);
+        Map<String, Object> dataMap = payload("9007021234567", "홍길동");
+
+        maskingService.applyMasking(MCI_ID, dataMap);
+
+        assertThat(dataMap.toString()).doesNotContain("9007021234567", "홍길동");
+        assertThat(profiler.report(maskingManager.getSnapshot()))
+            .allSatisfy(report -> assertThat(report.getEvaluated()).isZero());
+    }
+
+    @Test
+    @DisplayName("조회는 수치를 바꾸지 않고, 리로드로 사라진 룰의 수치는 스냅샷을 교체할 때 정리되어야 한다")
+    void reload_prunesRemovedRules() {
+        MaskingRuleProfiler profiler = new MaskingRuleProfiler(1.0);
+        MaskingManager manager = new MaskingManager(properties(mappings), MaskerRegistry.defaults(), profiler);
+        MaskingService maskingService = new MaskingService(manager, maskingMetrics, new MaskingProperties(), profiler);
+        maskingService.applyMasking(MCI_ID, payload("9007021234567", "홍길동"));
+
+        // 1. MCI 룰이 없는 스냅샷으로 조회해도 누적 수치는 그대로
+        Map<String, List<MaskingProperties.PathRule>> commonOnly = Map.of("common", mappings.get("common"));
+        MaskingRuleSnapshot other = MaskingRuleSnapshot.compile(1, commonOnly, MaskerRegistry.defaults());
+        assertThat(profiler.report(other)).hasSize(1);
+        assertThat(profiler.report(manager.getSnapshot()))
+            .filteredOn(report -> report.getMciId().equals(MCI_ID))
+            .allSatisfy(report -> assertThat(report.getEvaluated()).isEqualTo(1));
+
+        // 2. 룰을 뺐다가 다시 넣으면 처음부터 집계
+        manager.reload(commonOnly);
+        manager.reload(mappings);
+        assertThat(profiler.report(manager.getSnapshot()))
+            .filteredOn(report -> report.getMciId().equals(MCI_ID))
+            .hasSize(5)
+            .allSatisfy(report -> assertThat(report.getEvaluated()).isZero());
+    }
+
+    private MaskingProperties properties(Map<String, List<MaskingProperties.PathRule>> mappings) {
+        MaskingProperties properties = new MaskingProperties();
+        properties.setMappings(mappings);
+        return properties;
+    }
+}
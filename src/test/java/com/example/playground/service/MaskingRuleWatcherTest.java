@@ -0,0 +1,92 @@
+package com.example.playground.service;
+
+import com.example.playground.config.MaskingManager;
+import com.example.playground.config.MaskingPlan;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.MaskingRuleWatcher;
+import com.example.playground.config.masker.MaskerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MaskingRuleWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path ruleFile;
+    private SimpleMeterRegistry meterRegistry;
+    private MaskingManager maskingManager;
+    private MaskingRuleWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        ruleFile = tempDir.resolve("mciMasking.yml");
+
+        MaskingProperties properties = new MaskingProperties();
+        properties.getReload().setLocation(ruleFile.toString());
+
+        meterRegistry = new SimpleMeterRegistry();
+        maskingManager = new MaskingManager(properties, MaskerRegistry.defaults());
+        watcher = new MaskingRuleWatcher(maskingManager, properties, meterRegistry);
+    }
+
+    private void writeRules(String yaml) throws IOException {
+        Files.write(ruleFile, yaml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("외부 yml을 읽어 새 스냅샷을 적용하고, 내용이 같으면 다시 적용하지 않아야 한다")
+    void reload_appliesChangedFileOnce() throws IOException {
+        writeRules("masking:\n" +
+            "  mappings:\n" +
+            "    \"common\":\n" +
+            "      - jsonPath: \"pfmidata.rlno\"\n" +
+            "        maskingType: \"type_rlno\"\n" +
+            "    \"NCDP_MIMEIN10A0\":\n" +
+            "      - jsonPath: \"MIMEIN_IN_MST.MIMEIN_IN.custNm\"\n" +
+            "        maskingType: \"type_name\"\n");
+
+        assertThat(watcher.reload()).isTrue();
+        assertThat(watcher.reload()).isFalse();
+
+        assertThat(maskingManager.getSnapshot().getVersion()).isEqualTo(2);
+        assertThat(maskingManager.getMaskingPlan("NCDP_MIMEIN10A0").getRules())
+            .extracting(MaskingPlan.CompiledRule::getJsonPath)
+            .containsExactly("pfmidata.rlno", "MIMEIN_IN_MST.MIMEIN_IN.custNm");
+        assertThat(meterRegistry.get("masking.rules.reload").tag("result", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 파일은 적용하지 않고 기존 스냅샷을 유지해야 한다")
+    void reload_rejectsInvalidFile() throws IOException {
+        writeRules("masking:\n" +
+            "  mappings:\n" +
+            "    \"NCDP_MIMEIN10A0\":\n" +
+            "      - jsonPath: \"\"\n" +
+            "        maskingType: \"type_name\"\n");
+        assertThat(watcher.reload()).isFalse();
+
+        writeRules("other:\n  key: value\n");
+        assertThat(watcher.reload()).isFalse();
+
+        assertThat(maskingManager.getSnapshot().getVersion()).isEqualTo(1);
+        assertThat(meterRegistry.get("masking.rules.reload").tag("result", "failure").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("파일이 없으면 아무것도 하지 않아야 한다")
+    void reload_missingFile() {
+        assertThat(watcher.reload()).isFalse();
+        assertThat(maskingManager.getSnapshot().getVersion()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.playground.service;
+
+import com.example.playground.config.MaskingManager;
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingPlan;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.MaskingRuleProfiler;
+import com.example.playground.config.MaskingService;
+import com.example.playground.config.MaskingWarmup;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MaskingWarmupTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Object> events = new ArrayList<>();
+
+    private MaskingProperties properties;
+    private MaskingManager maskingManager;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("common", Arrays.asList(rule("pfmidata.rlno", "type_rlno")));
+        mappings.put("NCDP_MIMEIN10A0", Arrays.asList(
+            rule("MIMEIN_IN_MST.MIMEIN_IN.rlno", "type_rlno"),
+            rule("MIMEIN_IN_MST.MIMEIN_IN.custNm", "type_name")));
+        mappings.put("NCDP_DEEP", Arrays.asList(
+            rule("**.rlno", "type_rlno"),
+            rule("CUSAFT_IN.*.acno", "type_account"),
+            rule("MEMO.**.*", "type_scan")));
+
+        properties = new MaskingProperties();
+        properties.setMappings(mappings);
+        maskingManager = new MaskingManager(properties, MaskerRegistry.defaults());
+    }
+
+    private MaskingProperties.PathRule rule(String jsonPath, String maskingType) {
+        MaskingProperties.PathRule rule = new MaskingProperties.PathRule();
+        rule.setJsonPath(jsonPath);
+        rule.setMaskingType(maskingType);
+        return rule;
+    }
+
+    private MaskingWarmup warmup(int rounds, Duration budget) {
+        properties.getWarmup().setRounds(rounds);
+        properties.getWarmup().setBudget(budget);
+        return new MaskingWarmup(maskingManager, properties, objectMapper, meterRegistry, events::add);
+    }
+
+    @Test
+    @DisplayName("합성 payload는 와일드카드를 포함한 모든 룰 경로에 값을 가져야 한다 (중첩 Map / List 모두)")
+    void samplePayload_reachesEveryRule() {
+        MaskingRuleProfiler profiler = new MaskingRuleProfiler(1.0);
+        MaskingService maskingService = new MaskingService(maskingManager,
+            new MaskingMetrics(new SimpleMeterRegistry()), new MaskingProperties(), profiler);
+
+        for (MaskingPlan plan : maskingManager.getSnapshot().getPlans()) {
+            maskingService.applyMasking(plan.getMciId(), MaskingWarmup.samplePayload(plan, false));
+            maskingService.applyMasking(plan.getMciId(), MaskingWarmup.samplePayload(plan, true));
+        }
+
+        assertThat(profiler.report(maskingManager.getSnapshot()))
+            .allSatisfy(report -> assertThat(report.getMatched()).as(report.getMciId() + " " + report.getJsonPath())
+                .isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("워밍업 동안 readiness는 REFUSING_TRAFFIC이고, 소요 시간은 masking.warmup(result=completed)으로 남아야 한다")
+    void run_completes() throws Exception {
+        warmup(20, Duration.ofSeconds(30)).run(new DefaultApplicationArguments());
+
+        assertThat(events).singleElement()
+            .isInstanceOfSatisfying(AvailabilityChangeEvent.class,
+                event -> assertThat(event.getState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC));
+        assertThat(meterRegistry.get("masking.warmup").tag("result", "completed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("masking.warmup").tag("result", "budget_exceeded").timer().count()).isZero();
+        // 합성 payload의 마스킹 지표는 운영 레지스트리에 남지 않음
+        assertThat(meterRegistry.find("masking.latency").timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘기면 남은 라운드를 건너뛰고 result=budget_exceeded로 남겨야 한다")
+    void warmUp_stopsAtBudget() throws Exception {
+        int rounds = warmup(1_000_000, Duration.ZERO).warmUp();
+
+        assertThat(rounds).isZero();
+        assertThat(meterRegistry.get("masking.warmup").tag("result", "budget_exceeded").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("rounds가 0이면 워밍업을 하지 않아야 한다")
+    void run_disabled() throws Exception {
+        warmup(0, Duration.ofSeconds(30)).run(new DefaultApplicationArguments());
+
+        assertThat(events).isEmpty();
+        assertThat(meterRegistry.get("masking.warmup").timers()).allSatisfy(timer -> assertThat(timer.count()).isZero());
+    }
+}
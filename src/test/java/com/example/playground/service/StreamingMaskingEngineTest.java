@@ -0,0 +1,161 @@
+package com.example.playground.service;
+
+import com.example.playground.config.MaskingManager;
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.MaskingService;
+import com.example.playground.config.StreamingMaskingEngine;
+import com.example.playground.config.masker.Masker;
+import com.example.playground.config.masker.MaskerRegistry;
+import com.example.playground.config.masker.RlnoMasker;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingMaskingEngineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MaskingService maskingService;
+    private StreamingMaskingEngine streamingMaskingEngine;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, List<MaskingProperties.PathRule>> mappings = new HashMap<>();
+        mappings.put("common", Arrays.asList(rule("pfmidata.rlno", "type_rlno")));
+        mappings.put("NCDP_MIMEIN10A0", Arrays.asList(
+            rule("MIMEIN_IN_MST.MIMEIN_IN.rlno", "type_rlno"),
+            rule("MIMEIN_IN_MST.MIMEIN_IN.custNm", "type_name")));
+        mappings.put("NCDP_CUSAFT10A0", Arrays.asList(
+            rule("CUSAFT_IN.CUSAFT_IN_SUB.acno", "type_account")));
+        mappings.put("NCDP_DEEP", Arrays.asList(
+            rule("**.rlno", "type_rlno"),
+            rule("CUSAFT_IN.*.acno", "type_account")));
+        mappings.put("NCDP_SCAN", Arrays.asList(
+            rule("**.*", "type_scan"),
+            rule("MIMEIN_IN_MST.MIMEIN_IN.custNm", "type_name")));
+
+        MaskingProperties properties = new MaskingProperties();
+        properties.setMappings(mappings);
+        MaskingManager maskingManager = new MaskingManager(properties, MaskerRegistry.defaults());
+        MaskingMetrics maskingMetrics = new MaskingMetrics(new SimpleMeterRegistry());
+
+        maskingService = new MaskingService(maskingManager, maskingMetrics);
+        streamingMaskingEngine = new StreamingMaskingEngine(maskingManager, objectMapper, maskingMetrics);
+    }
+
+    private MaskingProperties.PathRule rule(String jsonPath, String maskingType) {
+        MaskingProperties.PathRule rule = new MaskingProperties.PathRule();
+        rule.setJsonPath(jsonPath);
+        rule.setMaskingType(maskingType);
+        return rule;
+    }
+
+    /**
+     * 스트리밍 엔진 결과와 Map 방식(applyMasking) 결과를 비교합니다.
+     */
+    private void assertSameAsMapEngine(String mciId, String json) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamingMaskingEngine.mask(mciId, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), out);
+        Map<String, Object> streamed = objectMapper.readValue(out.toByteArray(), new TypeReference<>() {});
+
+        Map<String, Object> expected = objectMapper.readValue(json, new TypeReference<>() {});
+        maskingService.applyMasking(mciId, expected);
+
+        assertThat(streamed).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("중첩 객체의 문자열/숫자 필드가 Map 방식과 동일하게 마스킹되어야 한다")
+    void mask_nestedObject() throws Exception {
+        assertSameAsMapEngine("NCDP_MIMEIN10A0",
+            "{\"MIMEIN_IN_MST\":{\"MIMEIN_IN\":{\"rlno\":9007021234567,\"custNm\":\"홍길동\",\"addr\":\"서울시 강남구\"}}," +
+            "\"pfmidata\":{\"rlno\":\"1234567890123\",\"svc_id\":\"MIMEIN10A0\"}}");
+    }
+
+    @Test
+    @DisplayName("List 내부의 객체와 룰과 무관한 하위 구조가 Map 방식과 동일하게 처리되어야 한다")
+    void mask_listAndUntouchedSubtrees() throws Exception {
+        assertSameAsMapEngine("NCDP_CUSAFT10A0",
+            "{\"CUSAFT_IN\":{\"CUSAFT_IN_SUB\":[{\"acno\":\"1234567890\",\"name\":\"김철수\"},[{\"acno\":\"1\"}],\"x\"," +
+            "{\"acno\":null,\"name\":\"이영희\"}]},\"other\":{\"acno\":\"keep\",\"list\":[1,2.5,true]}}");
+    }
+
+    @Test
+    @DisplayName("룰이 끝나는 필드의 값이 객체이면 객체 전체가 마스킹되어야 한다")
+    void mask_containerAtTerminal() throws Exception {
+        assertSameAsMapEngine("NCDP_MIMEIN10A0",
+            "{\"MIMEIN_IN_MST\":{\"MIMEIN_IN\":{\"custNm\":{\"first\":\"길동\",\"last\":\"홍\"}}}}");
+    }
+
+    @Test
+    @DisplayName("와일드카드('*', '**') 룰이 Map 방식과 동일하게 적용되어야 한다")
+    void mask_wildcardRules() throws Exception {
+        assertSameAsMapEngine("NCDP_DEEP",
+            "{\"rlno\":\"9007021234567\",\"pfmidata\":{\"rlno\":1234567890123,\"svc_id\":\"MIMEIN10A0\"}," +
+            "\"CUSAFT_IN\":{\"CUSAFT_IN_SUB\":[{\"acno\":\"1234567890\",\"deep\":{\"rlno\":\"8501011234567\"}}]," +
+            "\"acno\":\"keep\"}}");
+    }
+
+    @Test
+    @DisplayName("값 스캔 룰은 객체/배열 안의 모든 값에 Map 방식과 동일하게 적용되어야 한다")
+    void mask_valueScanRule() throws Exception {
+        assertSameAsMapEngine("NCDP_SCAN",
+            "{\"MIMEIN_IN_MST\":{\"MIMEIN_IN\":{\"rlno\":9007021234567,\"custNm\":\"홍길동\",\"addr\":\"서울시\"}}," +
+            "\"MEMO\":{\"rmk\":\"계좌 110-12-345678, 메일 a.b@example.co.kr.\",\"cnt\":3,\"ok\":true," +
+            "\"tags\":[\"9007021234567\",12,null,[\"8501011234567\"],{\"rlno\":\"850101-1234567\"}]}}");
+    }
+
+    @Test
+    @DisplayName("최상위가 객체가 아니거나 룰이 없는 mciId면 그대로 복사되어야 한다")
+    void mask_passThrough() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamingMaskingEngine.mask("NCDP_MIMEIN10A0",
+            new ByteArrayInputStream("[{\"pfmidata\":{\"rlno\":\"1\"}}]".getBytes(StandardCharsets.UTF_8)), out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[{\"pfmidata\":{\"rlno\":\"1\"}}]");
+    }
+
+    @Test
+    @DisplayName("마스커 오류가 나면 해당 값만 원래대로 쓰고 나머지는 계속 마스킹하며 실패 수를 집계해야 한다")
+    void mask_maskerFailure() throws Exception {
+        Masker failing = new Masker() {
+            @Override
+            public String type() {
+                return "type_fail";
+            }
+
+            @Override
+            public String mask(String original) {
+                throw new IllegalStateException("masker failed");
+            }
+        };
+        MaskingProperties properties = new MaskingProperties();
+        properties.setMappings(Map.of("NCDP_FAIL", Arrays.asList(
+            rule("IN.memo", "type_fail"), rule("IN.obj", "type_fail"), rule("IN.rlno", "type_rlno"))));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StreamingMaskingEngine engine = new StreamingMaskingEngine(
+            new MaskingManager(properties, new MaskerRegistry(List.of(new RlnoMasker(), failing))), objectMapper, new MaskingMetrics(meterRegistry));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        engine.mask("NCDP_FAIL", new ByteArrayInputStream(
+            "{\"IN\":{\"memo\":12,\"obj\":{\"a\":[1]},\"rlno\":\"9007021234567\"}}".getBytes(StandardCharsets.UTF_8)), out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+            .isEqualTo("{\"IN\":{\"memo\":12,\"obj\":{\"a\":[1]},\"rlno\":\"900702*******\"}}");
+        assertThat(meterRegistry.get("masking.paths.failed").tag("engine", "stream").functionCounter().count())
+            .isEqualTo(2);
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.playground.service;
+
+import com.example.playground.config.MaskingMetrics;
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.TelegramMaskingEngine;
+import com.example.playground.config.TelegramPlan;
+import com.example.playground.config.masker.MaskerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TelegramMaskingEngineTest {
+
+    private static final String MCI_ID = "NCDP_CUSAFT10T0";
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Map<String, MaskingProperties.TelegramLayout> telegrams;
+
+    @BeforeEach
+    void setUp() {
+        // mciMasking.yml의 NCDP_CUSAFT10T0과 같은 레이아웃
+        MaskingProperties.TelegramField sub = group("CUSAFT_SUB", 56, 30, 50,
+            field("acno", 0, 14, "type_account"),
+            field("name", 14, 16, "type_name"));
+        sub.setCountOffset(53);
+        sub.setCountLength(3);
+
+        telegrams = new HashMap<>();
+        telegrams.put(MCI_ID, layout("MS949",
+            field("rlno", 20, 13, "type_rlno"),
+            field("custNm", 33, 20, "type_name"),
+            sub));
+    }
+
+    private MaskingProperties.TelegramLayout layout(String encoding, MaskingProperties.TelegramField... fields) {
+        MaskingProperties.TelegramLayout layout = new MaskingProperties.TelegramLayout();
+        layout.setEncoding(encoding);
+        layout.setFields(new ArrayList<>(Arrays.asList(fields)));
+        return layout;
+    }
+
+    private MaskingProperties.TelegramField field(String name, int offset, int length, String maskingType) {
+        MaskingProperties.TelegramField field = new MaskingProperties.TelegramField();
+        field.setName(name);
+        field.setOffset(offset);
+        field.setLength(length);
+        field.setMaskingType(maskingType);
+        return field;
+    }
+
+    private MaskingProperties.TelegramField group(String name, int offset, int length, int occurs,
+                                                  MaskingProperties.TelegramField... fields) {
+        MaskingProperties.TelegramField group = new MaskingProperties.TelegramField();
+        group.setName(name);
+        group.setOffset(offset);
+        group.setLength(length);
+        group.setOccurs(occurs);
+        group.setFields(new ArrayList<>(Arrays.asList(fields)));
+        return group;
+    }
+
+    private TelegramMaskingEngine engine() {
+        MaskingProperties properties = new MaskingProperties();
+        properties.setTelegrams(telegrams);
+        return new TelegramMaskingEngine(properties, MaskerRegistry.defaults(), new MaskingMetrics(meterRegistry));
+    }
+
+    /**
+     * 공백으로 채운 length 바이트 전문에 (위치, 값) 쌍을 차례로 씁니다.
+     */
+    private static byte[] telegram(int length, Charset charset, Object... offsetAndValues) {
+        byte[] telegram = new byte[length];
+        Arrays.fill(telegram, (byte) ' ');
+        for (int i = 0; i < offsetAndValues.length; i += 2) {
+            byte[] value = ((String) offsetAndValues[i + 1]).getBytes(charset);
+            System.arraycopy(value, 0, telegram, (Integer) offsetAndValues[i], value.length);
+        }
+        return telegram;
+    }
+
+    private byte[] cusaftTelegram() {
+        return telegram(116, MS949,
+            0, "CUSAFT10T020261018  ",
+            20, "9007021234567",
+            33, "홍길동",
+            53, "002",
+            56, "1234567890", 70, "김철수",
+            86, "0987654321", 100, "남궁길동");
+    }
+
+    @Test
+    @DisplayName("레이아웃의 필드 범위만 타입별로 '*'를 채우고, 패딩과 나머지 바이트는 그대로 두어야 한다")
+    void mask_byteArray() {
+        byte[] telegram = cusaftTelegram();
+
+        int masked = engine().mask(MCI_ID, telegram);
+
+        assertThat(masked).isEqualTo(6);
+        assertThat(telegram).hasSize(116);
+        assertThat(new String(telegram, MS949)).isEqualTo(new String(telegram(116, MS949,
+            0, "CUSAFT10T020261018  ",
+            20, "900702*******",
+            33, "홍**동",
+            53, "002",
+            56, "**********", 70, "김**수",
+            86, "**********", 100, "남****동"), MS949));
+        assertThat(meterRegistry.get("masking.latency").tag("engine", "telegram").tag("mciId", MCI_ID).timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반복 횟수 필드가 0이면 OCCURS 그룹을 건너뛰고, 공백뿐인 필드는 마스킹하지 않아야 한다")
+    void mask_emptyGroupAndBlankFields() {
+        byte[] telegram = telegram(116, MS949, 20, "9007021234567", 53, "000", 56, "1234567890");
+        byte[] expected = telegram(116, MS949, 20, "900702*******", 53, "000", 56, "1234567890");
+
+        assertThat(engine().mask(MCI_ID, telegram)).isEqualTo(1);
+        assertThat(telegram).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("고정 반복 그룹(중첩 포함)은 모든 건을, 필드별 인코딩(UTF-8)은 글자 경계대로 마스킹해야 한다")
+    void mask_fixedOccursAndFieldEncoding() {
+        MaskingProperties.TelegramField name = field("name", 2, 9, "type_name");
+        name.setEncoding("UTF-8");
+        telegrams.put("NCDP_FIXED", layout("US-ASCII",
+            group("OUTER", 0, 24, 2,
+                field("id", 0, 2, "type_account"),
+                group("INNER", 2, 11, 2, name))));
+
+        byte[] telegram = new byte[48];
+        Arrays.fill(telegram, (byte) ' ');
+        for (int outer = 0; outer < 2; outer++) {
+            byte[] id = "ID".getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(id, 0, telegram, outer * 24, 2);
+            for (int inner = 0; inner < 2; inner++) {
+                byte[] value = "홍길동".getBytes(StandardCharsets.UTF_8); // 9바이트
+                System.arraycopy(value, 0, telegram, outer * 24 + 2 + inner * 11 + 2, value.length);
+            }
+        }
+
+        TelegramMaskingEngine engine = engine();
+        assertThat(engine.getPlan("NCDP_FIXED").getFieldCount()).isEqualTo(6);
+        assertThat(engine.getPlan("NCDP_FIXED").getDepth()).isEqualTo(2);
+        assertThat(engine.mask("NCDP_FIXED", telegram)).isEqualTo(6);
+
+        String masked = new String(telegram, StandardCharsets.UTF_8);
+        assertThat(masked).isEqualTo("**  홍***동  홍***동".repeat(2));
+    }
+
+    @Test
+    @DisplayName("주민번호 타입은 2바이트 글자가 섞여도 뒤 7글자를 글자 경계대로 가려야 한다")
+    void mask_rlnoDoubleByteTail() {
+        telegrams.put("NCDP_RLNO", layout("MS949", field("rlno", 0, 20, "type_rlno")));
+        byte[] telegram = telegram(20, MS949, 0, "가나다라마바사아");
+
+        assertThat(engine().mask("NCDP_RLNO", telegram)).isEqualTo(1);
+        assertThat(new String(telegram, MS949)).isEqualTo("가" + "*".repeat(14) + "    ");
+    }
+
+    @Test
+    @DisplayName("ByteBuffer(다이렉트, 힙 일부)는 position~limit 구간만 마스킹하고 position/limit은 그대로여야 한다")
+    void mask_byteBuffer() {
+        byte[] expected = cusaftTelegram();
+        engine().mask(MCI_ID, expected);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(116 + 8);
+        direct.position(8);
+        direct.put(cusaftTelegram());
+        direct.position(8);
+        assertThat(engine().mask(MCI_ID, direct)).isEqualTo(6);
+        assertThat(direct.position()).isEqualTo(8);
+        byte[] actual = new byte[116];
+        direct.get(actual);
+        assertThat(actual).isEqualTo(expected);
+
+        // 앞뒤에 다른 데이터가 있는 배열의 일부
+        byte[] framed = new byte[4 + 116 + 4];
+        Arrays.fill(framed, (byte) '#');
+        System.arraycopy(cusaftTelegram(), 0, framed, 4, 116);
+        ByteBuffer heap = ByteBuffer.wrap(framed, 4, 116).slice();
+        assertThat(engine().mask(MCI_ID, heap)).isEqualTo(6);
+        assertThat(Arrays.copyOfRange(framed, 4, 120)).isEqualTo(expected);
+        assertThat(framed[3]).isEqualTo((byte) '#');
+        assertThat(framed[120]).isEqualTo((byte) '#');
+    }
+
+    @Test
+    @DisplayName("레이아웃이 없는 mciId는 원본 그대로 두고 0을 반환해야 한다")
+    void mask_unknownMciId() {
+        byte[] telegram = cusaftTelegram();
+
+        assertThat(engine().mask("NCDP_UNKNOWN", telegram)).isZero();
+        assertThat(telegram).isEqualTo(cusaftTelegram());
+    }
+
+    @Test
+    @DisplayName("전문이 레이아웃보다 짧거나 반복 횟수가 잘못되면 예외가 발생해야 한다")
+    void mask_invalidTelegram() {
+        TelegramMaskingEngine engine = engine();
+
+        assertThatThrownBy(() -> engine.mask(MCI_ID, new byte[40]))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("layout needs at least 56");
+        assertThatThrownBy(() -> engine.mask(MCI_ID, telegram(116, MS949, 53, "003")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("has 3 occurrences");
+        assertThatThrownBy(() -> engine.mask(MCI_ID, telegram(2000, MS949, 53, "051")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("exceeds occurs 50");
+        assertThatThrownBy(() -> engine.mask(MCI_ID, telegram(116, MS949, 53, "0A1")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("count is not a number");
+        // 공백은 첫 숫자 앞에서만 허용 ("0 2"를 2로 읽지 않음)
+        assertThatThrownBy(() -> engine.mask(MCI_ID, telegram(116, MS949, 53, "0 2")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("count is not a number");
+    }
+
+    @Test
+    @DisplayName("잘못된 레이아웃은 기동(컴파일) 단계에서 실패해야 한다")
+    void compile_invalidLayout() {
+        telegrams.put("NCDP_BAD", layout("MS949", field("rlno", 0, 13, "type_unknown")));
+        assertThatThrownBy(this::engine).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown maskingType");
+
+        telegrams.put("NCDP_BAD", layout("MS949", group("SUB", 0, 10, 3, field("acno", 5, 6, "type_account"))));
+        assertThatThrownBy(this::engine).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("NCDP_BAD.SUB.acno");
+
+        // 찾은 부분만 가리는 type_scan은 필드 전체를 가리게 되므로 거부
+        telegrams.put("NCDP_BAD", layout("MS949", group("SUB", 0, 30, 2, field("memo", 0, 30, "type_scan"))));
+        assertThatThrownBy(this::engine).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Value-scanning maskingType type_scan")
+            .hasMessageContaining("NCDP_BAD.SUB.memo");
+
+        telegrams.put("NCDP_BAD", layout("UTF-16", field("rlno", 0, 13, "type_rlno")));
+        assertThatThrownBy(this::engine).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unsupported telegram encoding");
+    }
+
+    @Test
+    @DisplayName("mciMasking.yml의 telegrams 설정이 중첩 OCCURS 그룹까지 바인딩되고 컴파일되어야 한다")
+    void bind_mciMaskingYml() throws Exception {
+        MaskingProperties properties = new Binder(ConfigurationPropertySources.from(
+            new YamlPropertySourceLoader().load("mciMasking.yml", new ClassPathResource("mciMasking.yml"))))
+            .bind("masking", MaskingProperties.class)
+            .get();
+
+        TelegramMaskingEngine fromYml = new TelegramMaskingEngine(properties, MaskerRegistry.defaults(),
+            new MaskingMetrics(meterRegistry));
+        TelegramPlan plan = fromYml.getPlan(MCI_ID);
+        assertThat(plan.getLength()).isEqualTo(56);
+        assertThat(plan.getFieldCount()).isEqualTo(2);
+
+        // 테스트에서 만든 레이아웃과 결과가 같아야 함
+        byte[] fromYmlResult = cusaftTelegram();
+        byte[] expected = cusaftTelegram();
+        fromYml.mask(MCI_ID, fromYmlResult);
+        engine().mask(MCI_ID, expected);
+        assertThat(fromYmlResult).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.playground.service;
+
+import com.example.playground.config.MaskingProperties;
+import com.example.playground.config.masker.ValuePatternScanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ValuePatternScannerTest {
+
+    private final ValuePatternScanner scanner = ValuePatternScanner.of(new MaskingProperties.ValueScan());
+
+    @Test
+    @DisplayName("주민등록번호(- 유무), 계좌번호, 이메일을 한 번의 순회로 찾아 해당 부분만 마스킹해야 한다")
+    void mask_defaultPatterns() {
+        assertThat(scanner.mask("9007021234567")).isEqualTo("900702*******");
+        assertThat(scanner.mask("고객 900702-1234567 계좌 110-12-345678 문의 hong.gd+1@example.com"))
+            .isEqualTo("고객 900702-******* 계좌 ***-**-****** 문의 *********@example.com");
+        assertThat(scanner.mask("(rlno:8501011234567)/acno=123-456-789012;"))
+            .isEqualTo("(rlno:850101*******)/acno=***-***-******;");
+        assertThat(scanner.mask("메일: a@b.co.kr.")).isEqualTo("메일: *@b.co.kr.");
+    }
+
+    @Test
+    @DisplayName("더 긴 숫자열의 일부나 형식이 다른 숫자, 이메일이 아닌 @는 마스킹하지 않고 같은 문자열을 반환해야 한다")
+    void mask_noMatch() {
+        String[] values = {
+            "90070212345678",          // 14자리
+            "19007021234567",          // 14자리 (앞에 숫자)
+            "900702-12345678",         // 뒷자리 8개
+            "110-12-3456789",          // 형식보다 긺
+            "010-1234-5678",           // 등록되지 않은 형식
+            "user@localhost", "@example.com", "a@b.c", "a@.com",
+            "", "홍길동", "MIMEIN10A0"
+        };
+        for (String value : values) {
+            assertThat(scanner.mask(value)).as(value).isSameAs(value);
+        }
+    }
+
+    @Test
+    @DisplayName("형식은 설정으로 바꿀 수 있고, 앞에서 visibleDigits만큼의 숫자만 남겨야 한다")
+    void mask_configuredPatterns() {
+        MaskingProperties.ValueScan valueScan = new MaskingProperties.ValueScan();
+        valueScan.setDigitPatterns(List.of(
+            new MaskingProperties.DigitPattern("####-####-####-####", 4),
+            new MaskingProperties.DigitPattern("##-######", 0)));
+        valueScan.setEmails(false);
+        ValuePatternScanner custom = ValuePatternScanner.of(valueScan);
+
+        assertThat(custom.mask("카드 1234-5678-9012-3456 / 9007021234567 / a@b.com"))
+            .isEqualTo("카드 1234-****-****-**** / 9007021234567 / a@b.com");
+        // 경계가 구분자인 경우 겹치는 형식도 각각 매칭 (마스킹은 합집합)
+        assertThat(custom.mask("12-345678-12-345678")).isEqualTo("**-******-**-******");
+    }
+
+    @Test
+    @DisplayName("숫자 자리가 없거나 ASCII 구두점/공백 외의 구분자를 쓴 형식은 컴파일 시 실패해야 한다")
+    void of_invalidFormat() {
+        MaskingProperties.ValueScan noDigits = new MaskingProperties.ValueScan();
+        noDigits.setDigitPatterns(List.of(new MaskingProperties.DigitPattern("---", 0)));
+        MaskingProperties.ValueScan letter = new MaskingProperties.ValueScan();
+        letter.setDigitPatterns(List.of(new MaskingProperties.DigitPattern("###A###", 0)));
+
+        assertThatThrownBy(() -> ValuePatternScanner.of(noDigits)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ValuePatternScanner.of(letter)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("@가 많은 긴 입력도 이메일 판별이 앞쪽 도메인을 다시 훑지 않고 선형 시간에 끝나야 한다")
+    void mask_manyAtSigns() {
+        String value = "a." + "b@".repeat(100_000) + "x@ex.com";
+
+        String masked = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> scanner.mask(value));
+
+        assertThat(masked).startsWith("a.b@b@").endsWith("b@*@ex.com").hasSameSizeAs(value);
+    }
+}